@@ -0,0 +1,129 @@
+package com.example.Todo_list.benchmark;
+
+import com.example.Todo_list.entity.Priority;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Seeds the benchmark database with realistic volumes on top of the sample data: USERS users named "Bench" + index,
+ * each owning TODOS_PER_USER todos of TASKS_PER_TODO tasks. Every todo has the next user as collaborator, every task
+ * is assigned to the owner of its todo, and every OVERDUE_EVERY-th task that is not completed is overdue.
+ */
+public class BenchmarkDataSeeder {
+
+    static final int USERS = 1000;
+    static final int TODOS_PER_USER = 5;
+    static final int TASKS_PER_TODO = 20;
+    static final int OVERDUE_EVERY = 10;
+    static final String FIRST_NAME_PREFIX = "Bench";
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String[] STATES = {"New", "In Progress", "Under Review", "Completed"};
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Creates a seeder writing through the given JdbcTemplate.
+     *
+     * @param jdbcTemplate the JdbcTemplate of the benchmark database
+     */
+    public BenchmarkDataSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts the users, todos, collaborations, tasks and assignments.
+     *
+     * @return the ids of the seeded users, in order of their index
+     */
+    public List<Long> seed() {
+        Instant now = Instant.now();
+        Timestamp createdAt = Timestamp.from(now);
+        Long roleId = jdbcTemplate.queryForObject("SELECT id FROM roles WHERE name = 'USER'", Long.class);
+        String password = jdbcTemplate.queryForObject("SELECT password FROM users ORDER BY id LIMIT 1", String.class);
+
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            users.add(new Object[] {"bench.user" + i + "@mail.com", FIRST_NAME_PREFIX + i, "User", password, createdAt, roleId});
+        }
+        insert("INSERT INTO users (email, first_name, last_name, password, created_at, is_guest, role_id) " +
+               "VALUES (?, ?, ?, ?, ?, FALSE, ?)", users);
+        List<Long> userIds = jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE email LIKE 'bench.user%' ORDER BY id", Long.class);
+
+        List<Object[]> todos = new ArrayList<>();
+        for (Long userId : userIds) {
+            for (int j = 0; j < TODOS_PER_USER; j++) {
+                todos.add(new Object[] {"Benchmark Project #" + j, "Seeded for benchmarks", userId, createdAt});
+            }
+        }
+        insert("INSERT INTO todos (title, description, owner_id, created_at) VALUES (?, ?, ?, ?)", todos);
+
+        List<Object[]> collaborations = new ArrayList<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            Long collaboratorId = userIds.get((i + 1) % userIds.size());
+            for (Long todoId : todoIdsOf(userIds.get(i))) {
+                collaborations.add(new Object[] {todoId, collaboratorId});
+            }
+        }
+        insert("INSERT INTO todos_collaborators (todo_id, collaborator_id) VALUES (?, ?)", collaborations);
+
+        Map<String, Long> stateIds = new HashMap<>();
+        for (String state : STATES) {
+            stateIds.put(state, jdbcTemplate.queryForObject("SELECT id FROM states WHERE name = ?", Long.class, state));
+        }
+        List<Object[]> tasks = new ArrayList<>();
+        long n = 0;
+        for (Long todoId : jdbcTemplate.queryForList(
+                "SELECT t.id FROM todos t JOIN users u ON u.id = t.owner_id WHERE u.email LIKE 'bench.user%' ORDER BY t.id",
+                Long.class)) {
+            for (int k = 0; k < TASKS_PER_TODO; k++, n++) {
+                String state = STATES[(int) (n % STATES.length)];
+                Instant deadline = n % OVERDUE_EVERY == 0
+                        ? now.minus(n % 600 + 1, ChronoUnit.MINUTES)
+                        : now.plus(n % 30 + 1, ChronoUnit.DAYS);
+                tasks.add(new Object[] {
+                        "Benchmark Task #" + k, "Seeded for benchmarks", PRIORITIES[(int) (n % PRIORITIES.length)].name(),
+                        stateIds.get(state), todoId, Timestamp.from(deadline)
+                });
+            }
+        }
+        insert("INSERT INTO tasks (name, description, priority, state_id, todo_id, deadline) " +
+               "VALUES (?, ?, ?, ?, ?, ?)", tasks);
+
+        jdbcTemplate.update("INSERT INTO tasks_collaborators (task_id, collaborator_id) " +
+                            "SELECT k.id, t.owner_id FROM tasks k JOIN todos t ON t.id = k.todo_id " +
+                            "JOIN users u ON u.id = t.owner_id WHERE u.email LIKE 'bench.user%'");
+        return userIds;
+    }
+
+    /**
+     * Finds the ids of the todos owned by a user.
+     *
+     * @param userId the id of the user
+     * @return the ids of the todos of the user
+     */
+    private List<Long> todoIdsOf(Long userId) {
+        return jdbcTemplate.queryForList("SELECT id FROM todos WHERE owner_id = ? ORDER BY id", Long.class, userId);
+    }
+
+    /**
+     * Inserts rows in batches of BATCH_SIZE.
+     *
+     * @param sql  the insert statement
+     * @param rows the arguments of every row
+     */
+    private void insert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+}
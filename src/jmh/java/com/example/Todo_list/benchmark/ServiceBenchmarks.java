@@ -0,0 +1,188 @@
+package com.example.Todo_list.benchmark;
+
+import com.example.Todo_list.TodoListApplication;
+import com.example.Todo_list.entity.Comment;
+import com.example.Todo_list.entity.NotificationKind;
+import com.example.Todo_list.entity.Task;
+import com.example.Todo_list.entity.ToDo;
+import com.example.Todo_list.entity.User;
+import com.example.Todo_list.service.CommentService;
+import com.example.Todo_list.service.TaskService;
+import com.example.Todo_list.service.ToDoService;
+import com.example.Todo_list.service.guest.GuestReaper;
+import com.example.Todo_list.service.guest.GuestService;
+import com.example.Todo_list.service.notification.OverdueTaskScanner;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the service layer hot paths, run against the application started on the embedded H2 database of the
+ * test profile and seeded by BenchmarkDataSeeder. Application logging is turned down to WARN so that the numbers
+ * measure the services rather than the console.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ServiceBenchmarks {
+
+    static final int PAGE_LIMIT = 20;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private OverdueTaskScanner overdueTaskScanner;
+    private CommentService commentService;
+    private ToDoService toDoService;
+    private TaskService taskService;
+    private GuestService guestService;
+    private GuestReaper guestReaper;
+
+    private Long userId;
+    private Comment comment;
+
+    /**
+     * Starts the application and seeds the database.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(TodoListApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN"
+                )
+                .run();
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        overdueTaskScanner = context.getBean(OverdueTaskScanner.class);
+        commentService = context.getBean(CommentService.class);
+        toDoService = context.getBean(ToDoService.class);
+        taskService = context.getBean(TaskService.class);
+        guestService = context.getBean(GuestService.class);
+        guestReaper = context.getBean(GuestReaper.class);
+
+        List<Long> userIds = new BenchmarkDataSeeder(jdbcTemplate).seed();
+        int middle = userIds.size() / 2;
+        userId = userIds.get(middle);
+
+        // A comment on a todo of the user mentioning its collaborator, someone outside the todo and no one at all
+        ToDo todo = new ToDo();
+        todo.setId(jdbcTemplate.queryForObject("SELECT MIN(id) FROM todos WHERE owner_id = ?", Long.class, userId));
+        Task task = new Task();
+        task.setTodo(todo);
+        comment = new Comment();
+        comment.setTask(task);
+        comment.setContent("Thanks @" + BenchmarkDataSeeder.FIRST_NAME_PREFIX + (middle + 1) + ", can @"
+                + BenchmarkDataSeeder.FIRST_NAME_PREFIX + (middle + 2) + " review this? cc @Nobody");
+    }
+
+    /**
+     * Stops the application.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Scans all overdue tasks and notifies their assignees.
+     *
+     * @param checkpoint forgets the checkpoint and the due notifications of the previous invocation
+     */
+    @Benchmark
+    public void checkDueTasks(ResetScanCheckpoint checkpoint) {
+        overdueTaskScanner.checkDueTasks();
+    }
+
+    /**
+     * Finds the members of a todo mentioned in a comment.
+     *
+     * @return the tagged users
+     */
+    @Benchmark
+    public List<User> findTaggedUserInComment() {
+        return commentService.findTaggedUserInComment(comment);
+    }
+
+    /**
+     * Finds the first page of the todos of a user.
+     *
+     * @return the todos
+     */
+    @Benchmark
+    public List<ToDo> findToDoPageOfUserId() {
+        return toDoService.findToDoPageOfUserId(userId, null, PAGE_LIMIT);
+    }
+
+    /**
+     * Finds the first page of the tasks assigned to a user.
+     *
+     * @return the tasks
+     */
+    @Benchmark
+    public List<Task> findAssignedTaskPageOfUserId() {
+        return taskService.findAssignedTaskPageOfUserId(userId, null, PAGE_LIMIT);
+    }
+
+    /**
+     * Creates a guest user with its sample workspace and signs it in.
+     *
+     * @param guests deletes the guests created during the iteration once it ends
+     * @return the request holding the session of the guest
+     */
+    @Benchmark
+    public MockHttpServletRequest createTemporaryUser(DeleteGuests guests) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        guestService.createTemporaryUser(request);
+        return request;
+    }
+
+    /**
+     * Forgets the checkpoint of the overdue task scanner and the due notifications it sent before every invocation,
+     * so that each one scans all overdue tasks rather than only those that became overdue since the previous
+     * invocation, and creates their notifications rather than finding them already sent.
+     */
+    @State(Scope.Thread)
+    public static class ResetScanCheckpoint {
+
+        /**
+         * Deletes the checkpoint and the due notifications.
+         *
+         * @param benchmarks the benchmark state holding the application
+         */
+        @Setup(Level.Invocation)
+        public void reset(ServiceBenchmarks benchmarks) {
+            benchmarks.jdbcTemplate.update("DELETE FROM scan_checkpoints");
+            benchmarks.jdbcTemplate.update("DELETE FROM notifications WHERE kind = ?", NotificationKind.TASK_DUE.name());
+        }
+    }
+
+    /**
+     * Deletes the guests created by createTemporaryUser() with their workspaces after every iteration, so that each
+     * iteration inserts into a database of the same size rather than one that grows with the length of the run.
+     * The seeded users are not guests, so every guest was created by the benchmark.
+     */
+    @State(Scope.Benchmark)
+    public static class DeleteGuests {
+
+        /**
+         * Deletes all guests.
+         *
+         * @param benchmarks the benchmark state holding the application
+         */
+        @TearDown(Level.Iteration)
+        public void deleteGuests(ServiceBenchmarks benchmarks) {
+            benchmarks.guestReaper.deleteGuestsCreatedBefore(ZonedDateTime.now().plusMinutes(1));
+        }
+    }
+}
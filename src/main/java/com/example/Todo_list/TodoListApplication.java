@@ -2,10 +2,12 @@ package com.example.Todo_list;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableScheduling	// Enable scheduling for the checking task due dates
+@EnableAsync		// Enable seeding the sample workspace of new OAuth users in the background
 public class TodoListApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,56 @@
+package com.example.Todo_list.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuration of the application caches.
+ * States and roles are reference data that almost never change, so they are cached by id, by name and as a whole
+ * list, warmed at startup by ReferenceDataCacheWarmer and evicted by the services that change them. The cache manager
+ * is transaction aware, so evictions take effect only once the changing transaction has committed.
+ * The login principals loaded by WebSecurityUserDetailsService are cached by email for a few minutes only, and are
+ * evicted by UserServiceImpl whenever a user is updated or deleted.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String STATES_BY_ID = "statesById";
+    public static final String STATES_BY_NAME = "statesByName";
+    public static final String ALL_STATES = "allStates";
+    public static final String ROLES_BY_ID = "rolesById";
+    public static final String ROLES_BY_NAME = "rolesByName";
+    public static final String ALL_ROLES = "allRoles";
+    public static final String PRINCIPALS = "principals";
+
+    static final long MAXIMUM_SIZE = 1000;
+    static final Duration TIME_TO_LIVE = Duration.ofHours(1);
+    static final long PRINCIPALS_MAXIMUM_SIZE = 10_000;
+    static final Duration PRINCIPALS_TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    /**
+     * Creates the cache manager of the reference data and principal caches.
+     *
+     * @return the transaction aware cache manager
+     */
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(MAXIMUM_SIZE).expireAfterWrite(TIME_TO_LIVE));
+        cacheManager.setCacheNames(List.of(STATES_BY_ID, STATES_BY_NAME, ALL_STATES, ROLES_BY_ID, ROLES_BY_NAME, ALL_ROLES));
+        cacheManager.registerCustomCache(PRINCIPALS, Caffeine.newBuilder()
+                .maximumSize(PRINCIPALS_MAXIMUM_SIZE)
+                .expireAfterWrite(PRINCIPALS_TIME_TO_LIVE)
+                .build());
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
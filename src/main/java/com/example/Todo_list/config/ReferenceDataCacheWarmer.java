@@ -0,0 +1,58 @@
+package com.example.Todo_list.config;
+
+import com.example.Todo_list.entity.Role;
+import com.example.Todo_list.entity.State;
+import com.example.Todo_list.repository.RoleRepository;
+import com.example.Todo_list.repository.StateRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Fills the state and role caches once the application has started, so that not even the first requests read them
+ * from the database.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataCacheWarmer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataCacheWarmer.class);
+
+    private final StateRepository stateRepository;
+    private final RoleRepository roleRepository;
+    private final CacheManager cacheManager;
+
+    /**
+     * Loads all states and roles and puts them into the caches by id, by name and as a whole list.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<State> states = stateRepository.findAll();
+        Cache statesById = cacheManager.getCache(CacheConfig.STATES_BY_ID);
+        Cache statesByName = cacheManager.getCache(CacheConfig.STATES_BY_NAME);
+        for (State state : states) {
+            statesById.put(state.getId(), state);
+            statesByName.put(state.getName(), state);
+        }
+        cacheManager.getCache(CacheConfig.ALL_STATES).put(SimpleKey.EMPTY, states);
+
+        List<Role> roles = roleRepository.findAll();
+        Cache rolesById = cacheManager.getCache(CacheConfig.ROLES_BY_ID);
+        Cache rolesByName = cacheManager.getCache(CacheConfig.ROLES_BY_NAME);
+        for (Role role : roles) {
+            rolesById.put(role.getId(), role);
+            rolesByName.put(role.getName(), role);
+        }
+        cacheManager.getCache(CacheConfig.ALL_ROLES).put(SimpleKey.EMPTY, roles);
+
+        logger.info("ReferenceDataCacheWarmer.warmUp(): Cached {} states and {} roles", states.size(), roles.size());
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.Todo_list.config;
+
+import com.example.Todo_list.repository.CommentRepository;
+import com.example.Todo_list.repository.TaskRepository;
+import com.example.Todo_list.repository.ToDoRepository;
+import com.example.Todo_list.service.search.InMemorySearchIndex;
+import com.example.Todo_list.service.search.PostgresSearchIndex;
+import com.example.Todo_list.service.search.SearchIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * Configuration of the full-text search. PostgreSQL searches its own tsvector columns; any other database, such as the
+ * H2 database of the test profile, falls back to an embedded inverted index.
+ */
+@Configuration
+public class SearchConfig {
+
+    static final String POSTGRESQL = "PostgreSQL";
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchConfig.class);
+
+    /**
+     * Creates the search index of the database in use, once Hibernate has created the tables.
+     *
+     * @param dataSource        the data source of the application
+     * @param jdbcTemplate      the JDBC template of the data source
+     * @param toDoRepository    the repository of todos
+     * @param taskRepository    the repository of tasks
+     * @param commentRepository the repository of comments
+     * @return the search index
+     * @throws MetaDataAccessException if the database cannot be identified
+     */
+    @Bean
+    @DependsOn("entityManagerFactory")
+    public SearchIndex searchIndex(DataSource dataSource,
+                                   NamedParameterJdbcTemplate jdbcTemplate,
+                                   ToDoRepository toDoRepository,
+                                   TaskRepository taskRepository,
+                                   CommentRepository commentRepository) throws MetaDataAccessException {
+        String database = JdbcUtils.commonDatabaseName(
+                JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName)
+        );
+        logger.info("SearchConfig.searchIndex(): Creating the search index of {}", database);
+        if (POSTGRESQL.equals(database)) {
+            return new PostgresSearchIndex(jdbcTemplate);
+        }
+        return new InMemorySearchIndex(toDoRepository, taskRepository, commentRepository);
+    }
+}
@@ -1,11 +1,11 @@
 package com.example.Todo_list.controller;
 
-import com.example.Todo_list.entity.github.Issue;
-import com.example.Todo_list.entity.github.PullRequest;
-import com.example.Todo_list.entity.github.Repo;
+import com.example.Todo_list.service.github.GitHubActivityService;
+import com.example.Todo_list.service.github.GitHubIssueImporter;
 import com.example.Todo_list.service.github.GitHubService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
@@ -13,12 +13,17 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
- * Controller for GitHub API
+ * Controller for GitHub API.
+ * Handlers return futures, so the servlet thread is released while the GitHub API answers.
  */
 @Controller
 @RequestMapping("/github")
@@ -26,25 +31,24 @@ import java.util.List;
 public class GitHubController {
 
     private final GitHubService gitHubService;
+    private final GitHubActivityService gitHubActivityService;
+    private final GitHubIssueImporter gitHubIssueImporter;
 
     /**
      * List all repositories of the authenticated user
      *
      * @param model   Model
      * @param request HttpServletRequest
-     * @return github-repos.html
+     * @return future of github-repos.html
      */
     @PreAuthorize("authentication.isAuthenticated() and authentication.principal.isGitHubConnected()")
     @GetMapping("/repos")
-    public String listRepos(Model model, HttpServletRequest request) {
-        OAuth2AuthorizedClient client = (OAuth2AuthorizedClient) request.getSession().getAttribute("oauth2AuthorizedClient");
-        if (client == null) {
-            throw new AccessDeniedException("You are not logged in with GitHub");
-        }
-
-        List<Repo> repos = gitHubService.getUserRepos(client);
-        model.addAttribute("repos", repos);
-        return "github-repos";
+    public CompletableFuture<String> listRepos(Model model, HttpServletRequest request) {
+        OAuth2AuthorizedClient client = authorizedClient(request);
+        return gitHubService.getUserRepos(client).thenApply(repos -> {
+            model.addAttribute("repos", repos);
+            return "github-repos";
+        });
     }
 
     /**
@@ -54,20 +58,17 @@ public class GitHubController {
      * @param repo    Repository name
      * @param model   Model
      * @param request HttpServletRequest
-     * @return github-issues.html
+     * @return future of github-issues.html
      */
     @PreAuthorize("authentication.isAuthenticated() and authentication.principal.isGitHubConnected()")
     @GetMapping("/repos/{owner}/{repo}/issues")
-    public String listIssues(@PathVariable String owner, @PathVariable String repo, Model model, HttpServletRequest request) {
-        OAuth2AuthorizedClient client = (OAuth2AuthorizedClient) request.getSession().getAttribute("oauth2AuthorizedClient");
-        if (client == null) {
-            throw new AccessDeniedException("You are not logged in with GitHub");
-        }
-
-        List<Issue> issues = gitHubService.getRepoIssues(client, owner, repo);
-        model.addAttribute("issues", issues);
-        model.addAttribute("repoName", repo);
-        return "github-issues";
+    public CompletableFuture<String> listIssues(@PathVariable String owner, @PathVariable String repo, Model model, HttpServletRequest request) {
+        OAuth2AuthorizedClient client = authorizedClient(request);
+        return gitHubService.getRepoIssues(client, owner, repo).thenApply(issues -> {
+            model.addAttribute("issues", issues);
+            model.addAttribute("repoName", repo);
+            return "github-issues";
+        });
     }
 
     /**
@@ -77,19 +78,80 @@ public class GitHubController {
      * @param repo    Repository name
      * @param model   Model
      * @param request HttpServletRequest
-     * @return github-pull-requests.html
+     * @return future of github-pull-requests.html
      */
     @PreAuthorize("authentication.isAuthenticated() and authentication.principal.isGitHubConnected()")
     @GetMapping("/repos/{owner}/{repo}/pulls")
-    public String listPullRequests(@PathVariable String owner, @PathVariable String repo, Model model, HttpServletRequest request) {
+    public CompletableFuture<String> listPullRequests(@PathVariable String owner, @PathVariable String repo, Model model, HttpServletRequest request) {
+        OAuth2AuthorizedClient client = authorizedClient(request);
+        return gitHubService.getRepoPullRequests(client, owner, repo).thenApply(pulls -> {
+            model.addAttribute("pulls", pulls);
+            model.addAttribute("repoName", repo);
+            return "github-pull-requests";
+        });
+    }
+
+    /**
+     * Show the issues and pull requests of all repositories of the authenticated user, most recently updated first
+     *
+     * @param request HttpServletRequest
+     * @return github-activity.html
+     */
+    @PreAuthorize("authentication.isAuthenticated() and authentication.principal.isGitHubConnected()")
+    @GetMapping("/activity")
+    public String showActivity(HttpServletRequest request) {
+        authorizedClient(request);
+        return "github-activity";
+    }
+
+    /**
+     * Stream the issues and pull requests of all repositories of the authenticated user, one repository at a time
+     *
+     * @param request HttpServletRequest
+     * @return the emitter of the activity events
+     */
+    @PreAuthorize("authentication.isAuthenticated() and authentication.principal.isGitHubConnected()")
+    @GetMapping(path = "/activity/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter streamActivity(HttpServletRequest request) {
+        return gitHubActivityService.streamActivity(authorizedClient(request));
+    }
+
+    /**
+     * Import the issues of a repository, given as owner/name, into a todo owned by the user as tasks. Issues imported
+     * before are updated, and only issues updated since the last import are fetched.
+     *
+     * @param todoId     ID of the todo
+     * @param repository Full name of the repository, as owner/name
+     * @param request    HttpServletRequest
+     * @return future of the redirect to the tasks of the todo
+     */
+    @PreAuthorize("authentication.principal.isGitHubConnected() and @accessPolicy.isTodoOwner(#todoId, principal.id)")
+    @PostMapping("/todos/{todo_id}/import")
+    public CompletableFuture<String> importIssues(@PathVariable("todo_id") Long todoId,
+                                                  @RequestParam("repository") String repository,
+                                                  HttpServletRequest request) {
+        OAuth2AuthorizedClient client = authorizedClient(request);
+        String[] ownerAndRepo = repository.trim().split("/");
+        if (ownerAndRepo.length != 2 || ownerAndRepo[0].isBlank() || ownerAndRepo[1].isBlank()) {
+            throw new IllegalArgumentException("The repository must be given as owner/name");
+        }
+
+        return gitHubIssueImporter.importIssues(client, todoId, ownerAndRepo[0], ownerAndRepo[1])
+                                  .thenApply(imported -> String.format("redirect:/todos/%d/tasks", todoId));
+    }
+
+    /**
+     * Get the GitHub client the user authorized when logging in
+     *
+     * @param request HttpServletRequest
+     * @return the authorized client
+     */
+    private OAuth2AuthorizedClient authorizedClient(HttpServletRequest request) {
         OAuth2AuthorizedClient client = (OAuth2AuthorizedClient) request.getSession().getAttribute("oauth2AuthorizedClient");
         if (client == null) {
             throw new AccessDeniedException("You are not logged in with GitHub");
         }
-
-        List<PullRequest> pulls = gitHubService.getRepoPullRequests(client, owner, repo);
-        model.addAttribute("pulls", pulls);
-        model.addAttribute("repoName", repo);
-        return "github-pull-requests";
+        return client;
     }
 }
@@ -1,16 +1,23 @@
 package com.example.Todo_list.controller;
 
 import com.example.Todo_list.dto.NotificationDTO;
+import com.example.Todo_list.dto.NotificationFeedDTO;
 import com.example.Todo_list.dto.NotificationTransformer;
 import com.example.Todo_list.entity.Notification;
+import com.example.Todo_list.repository.projection.NotificationFeedView;
 import com.example.Todo_list.service.NotificationService;
 import com.example.Todo_list.service.UserService;
+import com.example.Todo_list.service.notification.NotificationHub;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.ZonedDateTime;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -26,6 +33,7 @@ public class NotificationController {
     private final Logger logger = LoggerFactory.getLogger(NotificationController.class);
     private final NotificationService notificationService;
     private final UserService userService;
+    private final NotificationHub notificationHub;
 
     /**
      * Fetches all notifications for a user
@@ -44,6 +52,64 @@ public class NotificationController {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Fetches one page of the notification feed of a user, newest first, together with the unread count
+     *
+     * @param userId   ID of the user
+     * @param before   Creation time of the last notification already seen, absent for the first page
+     * @param beforeId ID of the last notification already seen, absent for the first page
+     * @param limit    Maximum number of notifications on the page
+     * @return Page of notifications with the cursor of the next page
+     */
+    @PreAuthorize("hasAuthority('ADMIN') or #userId == authentication.principal.id")
+    @GetMapping("/user/{userId}/feed")
+    public NotificationFeedDTO getUserNotificationFeed(@PathVariable Long userId,
+                                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime before,
+                                                       @RequestParam(required = false) Long beforeId,
+                                                       @RequestParam(defaultValue = "20") int limit) {
+        logger.info("NotificationController.getUserNotificationFeed(): Fetching notifications for user with ID: {} before ({}, {})", userId, before, beforeId);
+        List<NotificationFeedView> page = notificationService.findNotificationFeed(userId, before, beforeId, limit);
+
+        NotificationFeedDTO feed = new NotificationFeedDTO();
+        feed.setNotifications(page.stream()
+                                  .map(view -> NotificationTransformer.convertFeedViewToDTO(view, userId))
+                                  .collect(Collectors.toList()));
+        if (page.size() == NotificationService.feedPageSize(limit)) {
+            NotificationFeedView last = page.get(page.size() - 1);
+            feed.setNextBefore(last.getCreatedAt());
+            feed.setNextBeforeId(last.getId());
+        }
+        feed.setUnreadCount(notificationService.countUnreadNotifications(userId));
+        return feed;
+    }
+
+    /**
+     * Fetches the number of unread notifications of a user
+     *
+     * @param userId ID of the user
+     * @return Number of unread notifications
+     */
+    @PreAuthorize("hasAuthority('ADMIN') or #userId == authentication.principal.id")
+    @GetMapping("/user/{userId}/count")
+    public long getUnreadNotificationCount(@PathVariable Long userId) {
+        logger.info("NotificationController.getUnreadNotificationCount(): Counting notifications for user with ID: {}", userId);
+        return notificationService.countUnreadNotifications(userId);
+    }
+
+    /**
+     * Opens a server-sent event stream that pushes new notifications of a user as they are created.
+     * Every open page holds its own stream, so several tabs of one session all receive the notifications.
+     *
+     * @param userId ID of the user
+     * @return Emitter of the stream
+     */
+    @PreAuthorize("hasAuthority('ADMIN') or #userId == authentication.principal.id")
+    @GetMapping(value = "/user/{userId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamUserNotifications(@PathVariable Long userId) {
+        logger.info("NotificationController.streamUserNotifications(): Opening notification stream for user with ID: {}", userId);
+        return notificationHub.subscribe(userId);
+    }
+
     /**
      * Marks a notification as read
      *
@@ -0,0 +1,56 @@
+package com.example.Todo_list.controller;
+
+import com.example.Todo_list.dto.SearchResultDTO;
+import com.example.Todo_list.service.search.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+/**
+ * Controller class for the full-text search across todos, tasks and comments
+ */
+@Controller
+@RequestMapping("/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final static Logger logger = LoggerFactory.getLogger(SearchController.class);
+    private final SearchService searchService;
+
+    /**
+     * Display one page of the todos, tasks and comments the current user may access matching a query, best match first
+     *
+     * @param query the words to search for
+     * @param pageable the page and size requested
+     * @param userId the id of the current user
+     * @param authentication the authentication of the current user
+     * @param model Model object
+     * @return search.html
+     */
+    @GetMapping
+    public String search(@RequestParam(name = "q", defaultValue = "") String query,
+                         @PageableDefault(size = 20) Pageable pageable,
+                         @AuthenticationPrincipal(expression = "id") Long userId,
+                         Authentication authentication,
+                         Model model) {
+        boolean admin = authentication.getAuthorities().stream()
+                                      .map(GrantedAuthority::getAuthority)
+                                      .anyMatch("ADMIN"::equals);
+        Page<SearchResultDTO> results = searchService.search(query, userId, admin, pageable);
+        logger.info("SearchController.search(): Displaying page " + results.getNumber() + " of results for '" + query + "' ...");
+        model.addAttribute("query", query);
+        model.addAttribute("results", results);
+        return "search";
+    }
+}
@@ -1,14 +1,22 @@
 package com.example.Todo_list.controller;
 
+import com.example.Todo_list.dto.ListingFilterDTO;
+import com.example.Todo_list.repository.projection.CommentListView;
 import com.example.Todo_list.service.CommentService;
 import com.example.Todo_list.service.UserService;
+import com.example.Todo_list.utils.PageRequests;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 
@@ -26,19 +34,22 @@ public class TaskCommentController {
     private final UserService userService;
 
     /**
-     * Display all comments by when they were created
+     * Display one page of the comments matching the filter, newest first unless another sort is requested
      *
+     * @param filter the author name, author and creation date filters
+     * @param pageable the page, size and sort requested
      * @param model Model object
      * @return comments-all.html
      */
     @PreAuthorize("hasAuthority('ADMIN')")
     @GetMapping("/all")
-    public String showAllComments(Model model) {
-        logger.info("TaskCommentController.showAllComments(): Displaying all comments ...");
-        model.addAttribute("comments", commentService.findAllComments()
-                                                     .stream()
-                                                     .sorted((c1, c2) -> c2.getCreatedAt().compareTo(c1.getCreatedAt()))
-                                                     .toList());
+    public String showAllComments(@ModelAttribute("filter") ListingFilterDTO filter,
+                                  @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+                                  Model model) {
+        Page<CommentListView> comments = commentService.findCommentPage(filter, pageable);
+        logger.info("TaskCommentController.showAllComments(): Displaying page " + comments.getNumber() + " of comments ...");
+        model.addAttribute("comments", comments);
+        model.addAttribute("sort", PageRequests.sortParameter(comments.getSort()));
         return "comments-all";
     }
 
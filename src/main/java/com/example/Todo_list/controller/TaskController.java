@@ -45,9 +45,7 @@ public class TaskController {
      * @param model  The model to be passed to the view
      * @return The view to be displayed
      */
-    @PreAuthorize("hasAuthority('ADMIN') or " +
-                "principal.id == @toDoServiceImpl.findToDoById(#todoId).owner.id or " +
-                "@toDoServiceImpl.findToDoById(#todoId).collaborators.contains(@userServiceImpl.findUserById(principal.id))")
+    @PreAuthorize("hasAuthority('ADMIN') or @accessPolicy.canAccessTodo(#todoId, principal.id)")
     @GetMapping("/create/todos/{todo_id}")
     public String showTaskCreationForm(@PathVariable("todo_id") Long todoId, Model model) {
         model.addAttribute("task", new TaskDTO());
@@ -66,9 +64,7 @@ public class TaskController {
      * @param result   The result of the binding
      * @return The view to be displayed
      */
-    @PreAuthorize("hasAuthority('ADMIN') or " +
-                "principal.id == @toDoServiceImpl.findToDoById(#todoId).owner.id or " +
-                "@toDoServiceImpl.findToDoById(#todoId).collaborators.contains(@userServiceImpl.findUserById(principal.id))")
+    @PreAuthorize("hasAuthority('ADMIN') or @accessPolicy.canAccessTodo(#todoId, principal.id)")
     @PostMapping("/create/todos/{todo_id}")
     public String createTask(
             @PathVariable("todo_id") Long todoId,
@@ -113,9 +109,7 @@ public class TaskController {
      * @param model  The model to be passed to the view
      * @return The view to be displayed
      */
-    @PreAuthorize("hasAuthority('ADMIN') or " +
-            "principal.id == @taskServiceImpl.findTaskById(#taskId).todo.owner.id or " +
-            "@taskServiceImpl.findTaskById(#taskId).todo.collaborators.contains(@userServiceImpl.findUserById(principal.id))")
+    @PreAuthorize("hasAuthority('ADMIN') or @accessPolicy.canAccessTask(#taskId, principal.id)")
     @GetMapping("/{task_id}/update")
     public String showTaskUpdateForm(@PathVariable("task_id") Long taskId, Model model) {
         logger.info("TaskController.showTaskUpdateForm(): Displaying task update form");
@@ -133,9 +127,7 @@ public class TaskController {
      * @return The view to be displayed
      */
     // TODO: Handle task update errors by rejecting them and displaying an error <div>
-    @PreAuthorize("hasAuthority('ADMIN') or " +
-                "principal.id == @taskServiceImpl.findTaskById(#taskId).todo.owner.id or " +
-                "@taskServiceImpl.findTaskById(#taskId).todo.collaborators.contains(@userServiceImpl.findUserById(principal.id))")
+    @PreAuthorize("hasAuthority('ADMIN') or @accessPolicy.canAccessTask(#taskId, principal.id)")
     @PostMapping("/{task_id}/update")
     public String updateTask(
             @PathVariable("task_id") Long taskId,
@@ -191,10 +183,11 @@ public class TaskController {
         model.addAttribute("states", stateService.findAllStates());
         model.addAttribute("assignedUsers", taskDTO.getAssignedUsers());
 
-        List<User> allUsers = userService.findAllUsers();
-        List<User> assignedUsers = taskService.findTaskById(id).getAssignedUsers();
-        List<User> availableUsers = new ArrayList<>(allUsers.stream().filter(
-                user -> !assignedUsers.contains(user) && toDoService.findToDoById(taskDTO.getToDoId()).getCollaborators().contains(user)
+        // Reuse the loaded task and its todo instead of reloading them for every candidate user
+        List<User> assignedUsers = task.getAssignedUsers();
+        List<User> collaborators = task.getTodo().getCollaborators();
+        List<User> availableUsers = new ArrayList<>(collaborators.stream().filter(
+                user -> !assignedUsers.contains(user)
         ).toList());
 
         if (!assignedUsers.contains(owner)) {
@@ -211,9 +204,7 @@ public class TaskController {
      * @param model  The model to be passed to the view
      * @return The view to be displayed
      */
-    @PreAuthorize("hasAuthority('ADMIN') or " +
-                "principal.id == @taskServiceImpl.findTaskById(#taskId).todo.owner.id or " +
-                "@taskServiceImpl.findTaskById(#taskId).todo.collaborators.contains(@userServiceImpl.findUserById(principal.id))")
+    @PreAuthorize("hasAuthority('ADMIN') or @accessPolicy.canAccessTask(#taskId, principal.id)")
     @GetMapping("/{task_id}/read")
     public String displayTask(@PathVariable("task_id") Long taskId, Model model) {
         Task task = taskService.findTaskById(taskId);
@@ -234,9 +225,7 @@ public class TaskController {
      * @param todoId The ID of the ToDo
      * @return The view to be displayed
      */
-    @PreAuthorize("hasAuthority('ADMIN') or " +
-                "principal.id == @toDoServiceImpl.findToDoById(#todoId).owner.id or " +
-                "@toDoServiceImpl.findToDoById(#todoId).collaborators.contains(@userServiceImpl.findUserById(principal.id))")
+    @PreAuthorize("hasAuthority('ADMIN') or @accessPolicy.canAccessTodo(#todoId, principal.id)")
     @PostMapping("/{task_id}/delete/todos/{todo_id}")
     public String deleteTask(@PathVariable("task_id") Long taskId, @PathVariable("todo_id") Long todoId) {
         logger.info("TaskController.deleteTask(): Deleting task with taskId=" + taskId + " of todo with todoId=" + todoId);
@@ -251,7 +240,7 @@ public class TaskController {
      * @param userId  The ID of the user
      * @return The view to be displayed
      */
-    @PreAuthorize("hasAuthority('ADMIN') or principal.id == @taskServiceImpl.findTaskById(#taskId).todo.owner.id")
+    @PreAuthorize("hasAuthority('ADMIN') or @accessPolicy.isTaskTodoOwner(#taskId, principal.id)")
     @PostMapping("/{task_id}/update/add-user")
     public String addAssignedUser(@PathVariable("task_id") Long taskId, @RequestParam("user_id") Long userId) {
         if (userId == -1) {
@@ -259,11 +248,12 @@ public class TaskController {
             return String.format("redirect:/tasks/%d/update", taskId);
         }
 
+        Task task = taskService.findTaskById(taskId);
         notificationService.sendNotificationToUserId(
                 userId,
                 "You have been assigned to a Task",
                 String.format("You have been assigned to Task [%s] in Project [%s]",
-                        taskService.findTaskById(taskId).getName(), taskService.findTaskById(taskId).getTodo().getTitle())
+                        task.getName(), task.getTodo().getTitle())
         );
 
         logger.info("TaskController.addAssignedUser(): Adding user with userId=" + userId + " to task with taskId=" + taskId);
@@ -278,7 +268,7 @@ public class TaskController {
      * @param userId The ID of the user
      * @return The view to be displayed
      */
-    @PreAuthorize("hasAuthority('ADMIN') or principal.id == @taskServiceImpl.findTaskById(#taskId).todo.owner.id")
+    @PreAuthorize("hasAuthority('ADMIN') or @accessPolicy.isTaskTodoOwner(#taskId, principal.id)")
     @PostMapping("/{task_id}/update/remove-user")
     public String removeAssignedUser(@PathVariable("task_id") Long taskId, @RequestParam("user_id") Long userId) {
         if (userId == -1) {
@@ -307,9 +297,7 @@ public class TaskController {
      * @param userId  The ID of the user
      * @return The view to be displayed
      */
-    @PreAuthorize("hasAuthority('ADMIN') or " +
-                "principal.id == @taskServiceImpl.findTaskById(#taskId).todo.owner.id or " +
-                "@taskServiceImpl.findTaskById(#taskId).todo.collaborators.contains(@userServiceImpl.findUserById(principal.id))")
+    @PreAuthorize("hasAuthority('ADMIN') or @accessPolicy.canAccessTask(#taskId, principal.id)")
     @PostMapping("/{task_id}/comments/create")
     public String createComment(@PathVariable("task_id") Long taskId,
                                 @RequestParam("comment") String content,
@@ -410,18 +398,26 @@ public class TaskController {
     }
 
     /**
-     * Displays all tasks of a specific user
+     * Displays one page of the tasks assigned to a specific user, ordered by id
      *
      * @param userId The ID of the user
+     * @param after  The ID of the last task of the previous page, absent for the first page
+     * @param limit  The maximum number of tasks on the page
      * @param model  The model to be passed to the view
      * @return The view to be displayed
      */
     @PreAuthorize("hasAuthority('ADMIN') or principal.id == #userId")
     @GetMapping("/all/users/{user_id}")
-    public String displayAllTasksOfUser(@PathVariable("user_id") Long userId, Model model) {
-        List<Task> tasks = taskService.findAssignedTasksByUserId(userId);
+    public String displayAllTasksOfUser(@PathVariable("user_id") Long userId,
+                                        @RequestParam(name = "after", required = false) Long after,
+                                        @RequestParam(name = "limit", defaultValue = "20") int limit,
+                                        Model model) {
+        List<Task> tasks = taskService.findAssignedTaskPageOfUserId(userId, after, limit);
+        int pageLimit = TaskService.pageSize(limit);
         model.addAttribute("user", userService.findUserById(userId));
         model.addAttribute("tasks", tasks);
+        model.addAttribute("limit", pageLimit);
+        model.addAttribute("nextAfter", tasks.size() == pageLimit ? tasks.get(tasks.size() - 1).getId() : null);
         return "user-tasks";
     }
 }
@@ -1,16 +1,22 @@
 package com.example.Todo_list.controller;
 
-import com.example.Todo_list.entity.Task;
+import com.example.Todo_list.dto.ListingFilterDTO;
 import com.example.Todo_list.entity.ToDo;
 import com.example.Todo_list.entity.User;
+import com.example.Todo_list.repository.projection.ToDoListView;
+import com.example.Todo_list.repository.projection.UserSummary;
 import com.example.Todo_list.service.NotificationService;
-import com.example.Todo_list.service.TaskService;
 import com.example.Todo_list.service.ToDoService;
 import com.example.Todo_list.service.UserService;
+import com.example.Todo_list.service.board.TodoBoardQueryService;
+import com.example.Todo_list.utils.PageRequests;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -18,9 +24,10 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.ZonedDateTime;
-import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Controller class for handling ToDo related operations
@@ -32,9 +39,9 @@ public class ToDoController {
 
     private final static Logger logger = LoggerFactory.getLogger(ToDoController.class);
     private final ToDoService toDoService;
-    private final TaskService taskService;
     private final UserService userService;
     private final NotificationService notificationService;
+    private final TodoBoardQueryService todoBoardQueryService;
 
     /**
      * Display the form for creating a new ToDo item
@@ -86,21 +93,19 @@ public class ToDoController {
      * @param model the model to be used in the view
      * @return the view to be displayed
      */
-    @PreAuthorize("hasAuthority('ADMIN') or " +
-            "principal.id == @toDoServiceImpl.findToDoById(#todoId).owner.id or " +
-            "@toDoServiceImpl.findToDoById(#todoId).collaborators.contains(@userServiceImpl.findUserById(principal.id))")
+    @PreAuthorize("hasAuthority('ADMIN') or @accessPolicy.canAccessTodo(#todoId, principal.id)")
     @GetMapping("/{todo_id}/tasks")
     public String displayToDo(@PathVariable("todo_id") Long todoId, Model model) {
         ToDo todo = toDoService.findToDoById(todoId);
-        List<Task> tasks = taskService.findAllTasksOfToDo(todoId);
-        List<User> users = userService.findAllUsers()
-                                        .stream()
-                                        .filter(user -> !Objects.equals(user.getId(), todo.getOwner().getId()))
-                                        .toList();
-        List<Task> sortedTasks = tasks.stream().sorted(Comparator.comparing(Task::getPriority).reversed()).toList();
+        Set<Long> memberIds = todo.getCollaborators().stream().map(User::getId).collect(Collectors.toCollection(HashSet::new));
+        memberIds.add(todo.getOwner().getId());
+        List<UserSummary> users = userService.findAllUserSummaries()
+                                             .stream()
+                                             .filter(user -> !memberIds.contains(user.getId()))
+                                             .toList();
 
         model.addAttribute("todo", todo);
-        model.addAttribute("tasks", sortedTasks);
+        model.addAttribute("tasks", todoBoardQueryService.findBoardTasks(todoId));
         model.addAttribute("users", users);
 
         logger.info("ToDoController.displayToDo(): Displaying ToDo with toDoId=" + todoId);
@@ -115,9 +120,7 @@ public class ToDoController {
      * @param model the model to be used in the view
      * @return the view to be displayed
      */
-    @PreAuthorize("hasAuthority('ADMIN') or " +
-            "principal.id == @toDoServiceImpl.findToDoById(#todoId).owner.id or " +
-            "@toDoServiceImpl.findToDoById(#todoId).collaborators.contains(@userServiceImpl.findUserById(principal.id))")
+    @PreAuthorize("hasAuthority('ADMIN') or @accessPolicy.canAccessTodo(#todoId, principal.id)")
     @GetMapping("/{todo_id}/update/users/{owner_id}")
     public String showToDoUpdateForm(
             @PathVariable("todo_id") Long todoId,
@@ -138,9 +141,7 @@ public class ToDoController {
      * @param result the result of the binding
      * @return the view to be displayed
      */
-    @PreAuthorize("hasAuthority('ADMIN') or " +
-                "principal.id == @toDoServiceImpl.findToDoById(#todoId).owner.id or " +
-                "@toDoServiceImpl.findToDoById(#todoId).collaborators.contains(@userServiceImpl.findUserById(principal.id))")
+    @PreAuthorize("hasAuthority('ADMIN') or @accessPolicy.canAccessTodo(#todoId, principal.id)")
     @PostMapping("/{todo_id}/update/users/{owner_id}")
     public String updateToDo(
             @PathVariable("todo_id") Long todoId,
@@ -173,9 +174,7 @@ public class ToDoController {
      * @param ownerId the id of the user who owns the ToDo item
      * @return the view to be displayed
      */
-    @PreAuthorize("hasAuthority('ADMIN') or " +
-                "principal.id == @toDoServiceImpl.findToDoById(#todoId).owner.id or " +
-                "@toDoServiceImpl.findToDoById(#todoId).collaborators.contains(@userServiceImpl.findUserById(principal.id))")
+    @PreAuthorize("hasAuthority('ADMIN') or @accessPolicy.canAccessTodo(#todoId, principal.id)")
     @PostMapping("/{todo_id}/delete/users/{owner_id}")
     public String deleteToDo(@PathVariable("todo_id") Long todoId, @PathVariable("owner_id") Long ownerId) {
         logger.info("ToDoController.deleteToDo(): Deleting ToDo with toDoId=" + todoId);
@@ -184,36 +183,48 @@ public class ToDoController {
     }
 
     /**
-     * Display the form for creating a new Task item
-     * @param userId the id of the user who will own the Task item
+     * Display one page of the ToDo items that a user owns or collaborates on, ordered by id
+     * @param userId the id of the user
+     * @param after the id of the last ToDo item of the previous page, absent for the first page
+     * @param limit the maximum number of ToDo items on the page
      * @param model the model to be used in the view
      * @return the view to be displayed
      */
     @PreAuthorize("hasAuthority('ADMIN') or #userId == authentication.principal.id")
     @GetMapping("/all/users/{user_id}")
-    public String displayAllToDosOfUser(@PathVariable("user_id") Long userId, Model model) {
-        List<ToDo> todos = toDoService.findAllToDoOfUserId(userId);
-        List<ToDo> sortedTodos = todos.stream().sorted(Comparator.comparingLong(ToDo::getId)).toList();
-        model.addAttribute("todos", sortedTodos);
+    public String displayAllToDosOfUser(@PathVariable("user_id") Long userId,
+                                        @RequestParam(name = "after", required = false) Long after,
+                                        @RequestParam(name = "limit", defaultValue = "20") int limit,
+                                        Model model) {
+        List<ToDo> todos = toDoService.findToDoPageOfUserId(userId, after, limit);
+        int pageLimit = ToDoService.pageSize(limit);
+        model.addAttribute("todos", todos);
         model.addAttribute("user", userService.findUserById(userId));
-        logger.info("ToDoController.displayAllToDo(): Displaying all ToDos of user with userId=" + userId);
+        model.addAttribute("limit", pageLimit);
+        model.addAttribute("nextAfter", todos.size() == pageLimit ? todos.get(todos.size() - 1).getId() : null);
+        logger.info("ToDoController.displayAllToDo(): Displaying ToDos of user with userId=" + userId + " after toDoId=" + after);
         return "todos-user";
     }
 
     /**
-     * Display all ToDo items
-     * @param userId the id of the user who owns the ToDo items
+     * Display one page of all ToDo items matching the filter, sorted by id unless another sort is requested
+     * @param userId the id of the user viewing the ToDo items
+     * @param filter the title, owner and creation date filters
+     * @param pageable the page, size and sort requested
      * @param model the model to be used in the view
      * @return the view to be displayed
      */
     @PreAuthorize("hasAuthority('ADMIN')")
     @GetMapping("/all")
-    public String displayAllToDos(@RequestParam("user_id") Long userId, Model model) {
-        List<ToDo> todos = toDoService.findAllToDos();
-        List<ToDo> sortedTodos = todos.stream().sorted(Comparator.comparingLong(ToDo::getId)).toList();
-        model.addAttribute("todos", sortedTodos);
+    public String displayAllToDos(@RequestParam("user_id") Long userId,
+                                  @ModelAttribute("filter") ListingFilterDTO filter,
+                                  @PageableDefault(size = 20, sort = "id") Pageable pageable,
+                                  Model model) {
+        Page<ToDoListView> todos = toDoService.findToDoPage(filter, pageable);
+        model.addAttribute("todos", todos);
+        model.addAttribute("sort", PageRequests.sortParameter(todos.getSort()));
         model.addAttribute("user", userService.findUserById(userId));
-        logger.info("ToDoController.displayAllToDo(): Displaying all ToDos");
+        logger.info("ToDoController.displayAllToDo(): Displaying page " + todos.getNumber() + " of all ToDos");
         return "todos-all";
     }
 
@@ -223,7 +234,7 @@ public class ToDoController {
      * @param todoId the id of the ToDo item to which the Task item will belong
      * @return the view to be displayed
      */
-    @PreAuthorize("hasAuthority('ADMIN') or authentication.principal.id == @toDoServiceImpl.findToDoById(#todoId).owner.id")
+    @PreAuthorize("hasAuthority('ADMIN') or @accessPolicy.isTodoOwner(#todoId, principal.id)")
     @PostMapping("/{todo_id}/add")
     public String addCollaborator(@PathVariable("todo_id") Long todoId,
                                   @RequestParam("user_id") Long userId) {
@@ -253,7 +264,7 @@ public class ToDoController {
      * @param userId the id of the user who owns the ToDo items
      * @return the view to be displayed
      */
-    @PreAuthorize("hasAuthority('ADMIN') or authentication.principal.id == @toDoServiceImpl.findToDoById(#todoId).owner.id")
+    @PreAuthorize("hasAuthority('ADMIN') or @accessPolicy.isTodoOwner(#todoId, principal.id)")
     @PostMapping("/{todo_id}/remove")
     public String removeCollaborator(@PathVariable("todo_id") Long todoId, @RequestParam("user_id") Long userId) {
         ToDo todo = toDoService.findToDoById(todoId);
@@ -267,7 +278,7 @@ public class ToDoController {
         );
 
         toDoService.removeCollaborator(todoId, userId);
-        logger.info("ToDoController.addCollaborator(): Updated ToDo=" + toDoService.findToDoById(todoId));
+        logger.info("ToDoController.removeCollaborator(): Removed user with userId=" + userId + " from ToDo with toDoId=" + todoId);
         return String.format("redirect:/todos/%d/tasks", todoId);
     }
 
@@ -1,11 +1,14 @@
 package com.example.Todo_list.controller;
 
+import com.example.Todo_list.dto.ListingFilterDTO;
 import com.example.Todo_list.entity.User;
+import com.example.Todo_list.repository.projection.UserListView;
 import com.example.Todo_list.security.local.WebSecurityUserDetails;
 import com.example.Todo_list.security.oauth2.CustomOAuth2UserDetails;
 import com.example.Todo_list.service.RoleService;
 import com.example.Todo_list.service.UserService;
 import com.example.Todo_list.service.guest.GuestService;
+import com.example.Todo_list.utils.PageRequests;
 import com.example.Todo_list.utils.PasswordService;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,6 +16,9 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Controller;
@@ -20,8 +26,6 @@ import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.Comparator;
-
 /**
  * Controller class for handling User operations
  */
@@ -299,17 +303,24 @@ public class UserController {
     }
 
     /**
-     * Display all users
+     * Display one page of the users matching the filter, sorted by id unless another sort is requested
      * @param model Model
      * @param badDeleteUserId the user id
+     * @param filter the name and creation date filters
+     * @param pageable the page, size and sort requested
      * @return user-list.html
      */
     @GetMapping("/all")
-    public String showUserList(Model model, @RequestParam(name = "badDeleteUserId", required = false) Long badDeleteUserId) {
-        model.addAttribute("users", userService.findAllUsers().stream().sorted(Comparator.comparingLong(User::getId)).toList());
+    public String showUserList(Model model,
+                               @RequestParam(name = "badDeleteUserId", required = false) Long badDeleteUserId,
+                               @ModelAttribute("filter") ListingFilterDTO filter,
+                               @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        Page<UserListView> users = userService.findUserPage(filter, pageable);
+        model.addAttribute("users", users);
+        model.addAttribute("sort", PageRequests.sortParameter(users.getSort()));
         model.addAttribute("badDeleteUserId", badDeleteUserId);
 
-        logger.info("UserController.showUserList(): Displaying all users");
+        logger.info("UserController.showUserList(): Displaying page " + users.getNumber() + " of users");
         return "user-list";
     }
 
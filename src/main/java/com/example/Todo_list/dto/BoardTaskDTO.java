@@ -0,0 +1,51 @@
+package com.example.Todo_list.dto;
+
+import com.example.Todo_list.entity.Priority;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A DTO class for a task as shown on the task board of a todo.
+ */
+@Data
+@NoArgsConstructor
+public class BoardTaskDTO {
+
+    /**
+     * The id of the task.
+     */
+    private Long id;
+
+    /**
+     * The name of the task.
+     */
+    private String name;
+
+    /**
+     * The priority of the task.
+     */
+    private Priority priority;
+
+    /**
+     * The ordinal of the priority of the task, from 0 (trivial) to 4 (urgent).
+     */
+    private int priorityOrdinal;
+
+    /**
+     * The name of the state of the task.
+     */
+    private String stateName;
+
+    /**
+     * The ids of the users assigned to the task.
+     */
+    private List<Long> assigneeIds = new ArrayList<>();
+
+    /**
+     * The full names of the users assigned to the task, in the same order as their ids.
+     */
+    private List<String> assigneeNames = new ArrayList<>();
+}
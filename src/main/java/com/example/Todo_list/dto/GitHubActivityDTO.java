@@ -0,0 +1,39 @@
+package com.example.Todo_list.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A DTO class for an issue or pull request shown on the aggregated GitHub activity view.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GitHubActivityDTO {
+
+    /**
+     * The full name of the repository, as owner/name.
+     */
+    private String repo;
+
+    /**
+     * The kind of the item, either "Issue" or "Pull Request".
+     */
+    private String kind;
+
+    /**
+     * The title of the item.
+     */
+    private String title;
+
+    /**
+     * The URL of the item on GitHub.
+     */
+    private String htmlUrl;
+
+    /**
+     * The time the item was last updated, in ISO 8601 format.
+     */
+    private String updatedAt;
+}
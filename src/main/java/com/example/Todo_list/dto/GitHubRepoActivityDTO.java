@@ -0,0 +1,32 @@
+package com.example.Todo_list.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A DTO class for the issues and pull requests of one repository, sent as soon as they have been fetched.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GitHubRepoActivityDTO {
+
+    /**
+     * The full name of the repository, as owner/name.
+     */
+    private String repo;
+
+    /**
+     * The issues and pull requests of the repository, most recently updated first.
+     */
+    private List<GitHubActivityDTO> items = new ArrayList<>();
+
+    /**
+     * Why the repository could not be fetched, or null if it was.
+     */
+    private String error;
+}
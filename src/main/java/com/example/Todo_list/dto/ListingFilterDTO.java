@@ -0,0 +1,80 @@
+package com.example.Todo_list.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * A DTO class for the filters of the paged admin listings of users, todos and comments, bound from request parameters.
+ * Every filter is optional.
+ */
+@Data
+@NoArgsConstructor
+public class ListingFilterDTO {
+
+    /**
+     * The escape character of the LIKE patterns built from the name filter.
+     */
+    public static final char LIKE_ESCAPE = '!';
+
+    /**
+     * Part of a name to look for, ignoring case: the name or email of a user, the title of a todo, or the name of the
+     * author of a comment.
+     */
+    private String name;
+
+    /**
+     * The id of the owner of a todo, or of the author of a comment.
+     */
+    private Long ownerId;
+
+    /**
+     * The first creation date to include.
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate createdFrom;
+
+    /**
+     * The last creation date to include.
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate createdTo;
+
+    /**
+     * Builds the LIKE pattern of the name filter, matching everything if there is none.
+     *
+     * @return the lower case pattern, with the LIKE wildcards of the name escaped by LIKE_ESCAPE
+     */
+    public String getNamePattern() {
+        if (name == null || name.isBlank()) {
+            return "%";
+        }
+        String escaped = name.strip().toLowerCase()
+                .replace(String.valueOf(LIKE_ESCAPE), LIKE_ESCAPE + String.valueOf(LIKE_ESCAPE))
+                .replace("%", LIKE_ESCAPE + "%")
+                .replace("_", LIKE_ESCAPE + "_");
+        return "%" + escaped + "%";
+    }
+
+    /**
+     * Gets the start of the first creation date to include.
+     *
+     * @return the start of createdFrom in the system time zone, or null if there is no such filter
+     */
+    public ZonedDateTime getCreatedFromTime() {
+        return createdFrom == null ? null : createdFrom.atStartOfDay(ZoneId.systemDefault());
+    }
+
+    /**
+     * Gets the end of the last creation date to include.
+     *
+     * @return the start of the day after createdTo in the system time zone, or null if there is no such filter
+     */
+    public ZonedDateTime getCreatedBeforeTime() {
+        return createdTo == null ? null : createdTo.plusDays(1).atStartOfDay(ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.Todo_list.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * A DTO class for one page of a user's notification feed, newest first.
+ */
+@Data
+@NoArgsConstructor
+public class NotificationFeedDTO {
+
+    /**
+     * The notifications of this page.
+     */
+    private List<NotificationDTO> notifications;
+
+    /**
+     * The creation time of the last notification of this page, to be passed as "before" to fetch the next page.
+     * Null if there are no more notifications.
+     */
+    private ZonedDateTime nextBefore;
+
+    /**
+     * The id of the last notification of this page, to be passed as "beforeId" to fetch the next page.
+     * Null if there are no more notifications.
+     */
+    private Long nextBeforeId;
+
+    /**
+     * The total number of unread notifications of the user.
+     */
+    private long unreadCount;
+}
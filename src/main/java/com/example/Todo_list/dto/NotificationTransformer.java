@@ -2,6 +2,7 @@ package com.example.Todo_list.dto;
 
 import com.example.Todo_list.entity.Notification;
 import com.example.Todo_list.entity.User;
+import com.example.Todo_list.repository.projection.NotificationFeedView;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -26,6 +27,22 @@ public class NotificationTransformer {
         return dto;
     }
 
+    /**
+     * Converts a notification feed projection to a NotificationDTO.
+     * @param view the projection to convert
+     * @param userId the id of the user the notification belongs to
+     * @return the converted NotificationDTO
+     */
+    public static NotificationDTO convertFeedViewToDTO(NotificationFeedView view, Long userId) {
+        NotificationDTO dto = new NotificationDTO();
+        dto.setId(view.getId());
+        dto.setTitle(view.getTitle());
+        dto.setMessage(view.getMessage());
+        dto.setUserId(userId);
+
+        return dto;
+    }
+
     /**
      * Converts a NotificationDTO to a Notification entity.
      * @param dto the NotificationDTO to convert
@@ -0,0 +1,50 @@
+package com.example.Todo_list.dto;
+
+import com.example.Todo_list.service.search.SearchDocumentType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A DTO class for a todo, task or comment matching a full-text search.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResultDTO {
+
+    /**
+     * Whether the result is a todo, a task or a comment.
+     */
+    private SearchDocumentType type;
+
+    /**
+     * The unique identifier of the todo, task or comment.
+     */
+    private Long id;
+
+    /**
+     * The unique identifier of the todo the result belongs to.
+     */
+    private Long todoId;
+
+    /**
+     * The unique identifier of the task the result belongs to, or null for todos.
+     */
+    private Long taskId;
+
+    /**
+     * The title of the todo, the name of the task, or the name of the task a comment is on.
+     */
+    private String title;
+
+    /**
+     * The description of the todo or task, or the content of the comment.
+     */
+    private String text;
+
+    /**
+     * How well the result matches the search, higher is better.
+     */
+    private double rank;
+}
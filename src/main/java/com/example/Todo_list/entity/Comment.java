@@ -16,7 +16,7 @@ import java.time.ZonedDateTime;
 @Entity
 @Data
 @EqualsAndHashCode(of = "id")
-@Table(name = "comments")
+@Table(name = "comments", indexes = @Index(name = "idx_comments_created_at", columnList = "created_at DESC, id DESC"))
 @ToString(exclude = {"user", "task"})
 public class Comment {
 
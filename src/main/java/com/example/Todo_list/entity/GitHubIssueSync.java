@@ -0,0 +1,61 @@
+package com.example.Todo_list.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Represents the progress of importing the issues of a GitHub repository into a todo.
+ */
+@Entity
+@Data
+@ToString(exclude = "todo")
+@NoArgsConstructor
+@EqualsAndHashCode(of = "id")
+@Table(
+        name = "github_issue_syncs",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_github_issue_syncs_todo_repository", columnNames = {"todo_id", "repository"}
+        )
+)
+public class GitHubIssueSync {
+
+    /**
+     * The unique identifier of the sync.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * The todo the issues are imported into. The sync is deleted together with the todo.
+     */
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "todo_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private ToDo todo;
+
+    /**
+     * The full name of the repository, as owner/name.
+     */
+    @Column(name = "repository", nullable = false)
+    private String repository;
+
+    /**
+     * The latest update time of the imported issues; the next sync only fetches issues updated since.
+     */
+    @Column(name = "last_updated_at", nullable = false)
+    private ZonedDateTime lastUpdatedAt;
+
+    public GitHubIssueSync(ToDo todo, String repository, ZonedDateTime lastUpdatedAt) {
+        this.todo = todo;
+        this.repository = repository;
+        this.lastUpdatedAt = lastUpdatedAt;
+    }
+}
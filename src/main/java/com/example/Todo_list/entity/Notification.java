@@ -6,6 +6,7 @@ import jakarta.validation.constraints.Size;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.ZonedDateTime;
@@ -17,7 +18,12 @@ import java.time.ZonedDateTime;
 @Data
 @ToString(exclude = {"user"})
 @EqualsAndHashCode(of = "id")
-@Table(name = "notifications")
+@Table(name = "notifications",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_notifications_user_kind_task", columnNames = {"user_id", "kind", "task_id"}
+        ),
+        indexes = @Index(name = "idx_notifications_user_feed", columnList = "user_id, created_at DESC, id DESC")
+)
 public class Notification {
 
     /**
@@ -43,6 +49,20 @@ public class Notification {
     @Column(name = "message", nullable = false)
     private String message;
 
+    /**
+     * The kind of the notification.
+     */
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'GENERAL'")
+    @Column(name = "kind", nullable = false)
+    private NotificationKind kind = NotificationKind.GENERAL;
+
+    /**
+     * The id of the task that the notification refers to, if any.
+     */
+    @Column(name = "task_id")
+    private Long taskId;
+
     /**
      * The user that the notification belongs to.
      */
@@ -0,0 +1,8 @@
+package com.example.Todo_list.entity;
+
+/**
+ * Enum representing what a notification is about.
+ */
+public enum NotificationKind {
+    GENERAL, TASK_DUE
+}
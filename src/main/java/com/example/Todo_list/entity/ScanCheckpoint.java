@@ -0,0 +1,42 @@
+package com.example.Todo_list.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Represents the persisted progress (high-water mark) of a scheduled scan.
+ */
+@Entity
+@Data
+@ToString
+@NoArgsConstructor
+@EqualsAndHashCode(of = "name")
+@Table(name = "scan_checkpoints")
+public class ScanCheckpoint {
+
+    /**
+     * The unique name of the scan, e.g. "overdue-tasks".
+     */
+    @Id
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    /**
+     * The upper bound of the last window that was fully scanned.
+     */
+    @Column(name = "high_water_mark", nullable = false)
+    private ZonedDateTime highWaterMark;
+
+    public ScanCheckpoint(String name, ZonedDateTime highWaterMark) {
+        this.name = name;
+        this.highWaterMark = highWaterMark;
+    }
+}
@@ -5,6 +5,8 @@ import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 
@@ -15,6 +17,8 @@ import java.util.List;
 @Data
 @ToString(exclude = {"tasks"})
 @EqualsAndHashCode(of = "id")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "states")
 @Table(name = "states")
 public class State {
 
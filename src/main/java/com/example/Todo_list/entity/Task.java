@@ -19,7 +19,11 @@ import java.util.List;
 @Data
 @ToString(exclude = {"todo", "assignedUsers"})
 @EqualsAndHashCode(of = "id")
-@Table(name = "tasks")
+@Table(
+        name = "tasks",
+        indexes = @Index(name = "idx_tasks_deadline", columnList = "deadline"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_tasks_todo_github_issue", columnNames = {"todo_id", "github_issue_id"})
+)
 public class Task {
 
     /**
@@ -86,7 +90,8 @@ public class Task {
     @JoinTable(
             name = "tasks_collaborators",
             joinColumns = @JoinColumn(name = "task_id"),
-            inverseJoinColumns = @JoinColumn(name = "collaborator_id")
+            inverseJoinColumns = @JoinColumn(name = "collaborator_id"),
+            indexes = @Index(name = "idx_tasks_collaborators_collaborator", columnList = "collaborator_id, task_id")
     )
     private List<User> assignedUsers = new ArrayList<>();
 
@@ -96,4 +101,10 @@ public class Task {
     @FutureOrPresent(message = "Your task's deadline must be in the future or present")
     @Column(name = "deadline")
     private ZonedDateTime deadline = null; // Can be null
+
+    /**
+     * The id of the GitHub issue the task was imported from, or null if it was created by hand.
+     */
+    @Column(name = "github_issue_id")
+    private Long gitHubIssueId;
 }
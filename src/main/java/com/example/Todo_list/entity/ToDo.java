@@ -6,6 +6,8 @@ import jakarta.validation.constraints.Size;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.ZonedDateTime;
@@ -19,7 +21,9 @@ import java.util.List;
 @Data
 @ToString(exclude = {"tasks", "collaborators"})
 @EqualsAndHashCode(of = "id")
-@Table(name = "todos")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "todos")
+@Table(name = "todos", indexes = @Index(name = "idx_todos_owner", columnList = "owner_id, id"))
 public class ToDo {
 
     /**
@@ -79,7 +83,8 @@ public class ToDo {
     @JoinTable(
             name = "todos_collaborators",
             joinColumns = @JoinColumn(name = "todo_id"),
-            inverseJoinColumns = @JoinColumn(name = "collaborator_id")
+            inverseJoinColumns = @JoinColumn(name = "collaborator_id"),
+            indexes = @Index(name = "idx_todos_collaborators_collaborator", columnList = "collaborator_id, todo_id")
     )
     private List<User> collaborators = new ArrayList<>();
 }
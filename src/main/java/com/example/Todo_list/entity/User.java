@@ -8,6 +8,8 @@ import jakarta.validation.constraints.Size;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.ZonedDateTime;
@@ -19,9 +21,12 @@ import java.util.List;
  */
 @Entity
 @Data
-@ToString(exclude = {"todoList", "collaborators", "assignedTasks"})
+@ToString(exclude = {"todoList", "collaborators", "comments", "assignedTasks", "notifications"})
 @EqualsAndHashCode(of = "id")
-@Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_guest_created_at", columnList = "is_guest, created_at"))
+@NamedEntityGraph(name = "User.role", attributeNodes = @NamedAttributeNode("role"))
 public class User {
 
     /**
@@ -108,7 +113,7 @@ public class User {
     /**
      * The list of comments made by the user.
      */
-    @OneToMany(mappedBy = "user", cascade = CascadeType.REMOVE, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "user", cascade = CascadeType.REMOVE, fetch = FetchType.LAZY)
     private List<Comment> comments = new ArrayList<>();
 
     /**
@@ -120,7 +125,7 @@ public class User {
     /**
      * The list of notifications sent to the user.
      */
-    @OneToMany(mappedBy = "user", cascade = CascadeType.REMOVE, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "user", cascade = CascadeType.REMOVE, fetch = FetchType.LAZY)
     private List<Notification> notifications;
 
     @CreationTimestamp
@@ -2,12 +2,19 @@ package com.example.Todo_list.entity.github;
 
 import lombok.Data;
 
+import java.util.Map;
+
 /**
  * Represents an issue from the GitHub API.
  */
 @Data
 public class Issue {
 
+    /**
+     * The unique id of the issue on GitHub.
+     */
+    private Long id;
+
     /**
      * The title of the issue.
      */
@@ -17,4 +24,24 @@ public class Issue {
      * The URL of the issue.
      */
     private String html_url;
+
+    /**
+     * The body of the issue.
+     */
+    private String body;
+
+    /**
+     * The state of the issue, either "open" or "closed".
+     */
+    private String state;
+
+    /**
+     * The time the issue was last updated, in ISO 8601 format.
+     */
+    private String updated_at;
+
+    /**
+     * Links to the pull request, present only if the issue is a pull request.
+     */
+    private Map<String, Object> pull_request;
 }
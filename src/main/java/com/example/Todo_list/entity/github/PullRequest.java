@@ -18,4 +18,9 @@ public class PullRequest {
      * The body of the pull request.
      */
     private String html_url;
+
+    /**
+     * The time the pull request was last updated, in ISO 8601 format.
+     */
+    private String updated_at;
 }
@@ -0,0 +1,18 @@
+package com.example.Todo_list.event;
+
+import com.example.Todo_list.dto.NotificationDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Application event published whenever a notification is stored for a user.
+ */
+@Getter
+@RequiredArgsConstructor
+public class NotificationCreatedEvent {
+
+    /**
+     * The notification that was created.
+     */
+    private final NotificationDTO notification;
+}
@@ -0,0 +1,17 @@
+package com.example.Todo_list.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Application event published whenever a user signs up through OAuth.
+ */
+@Getter
+@RequiredArgsConstructor
+public class OAuthUserCreatedEvent {
+
+    /**
+     * The id of the created user.
+     */
+    private final Long userId;
+}
@@ -0,0 +1,18 @@
+package com.example.Todo_list.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Application event published whenever a task is saved or assigned while its deadline has already passed, so that
+ * its assignees are notified even if the deadline lies before the window the overdue task scanner looks at.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TaskDueEvent {
+
+    /**
+     * The id of the task that is due.
+     */
+    private final Long taskId;
+}
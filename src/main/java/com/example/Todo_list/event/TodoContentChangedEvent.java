@@ -0,0 +1,18 @@
+package com.example.Todo_list.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Application event published whenever the searchable text of a todo, of one of its tasks or of a comment on one of
+ * its tasks is created, updated or deleted.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TodoContentChangedEvent {
+
+    /**
+     * The id of the changed todo.
+     */
+    private final Long todoId;
+}
@@ -0,0 +1,17 @@
+package com.example.Todo_list.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Application event published whenever a user is deleted.
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserDeletedEvent {
+
+    /**
+     * The id of the deleted user.
+     */
+    private final Long userId;
+}
@@ -0,0 +1,22 @@
+package com.example.Todo_list.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Application event published whenever a user is created or updated.
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserSavedEvent {
+
+    /**
+     * The id of the saved user.
+     */
+    private final Long userId;
+
+    /**
+     * The first name of the saved user.
+     */
+    private final String firstName;
+}
@@ -0,0 +1,26 @@
+package com.example.Todo_list.exception;
+
+/**
+ * Exception thrown when the GitHub API cannot be reached or answers with an unexpected response
+ */
+public class GitHubApiException extends RuntimeException {
+
+    /**
+     * Constructs a new exception with a custom message
+     *
+     * @param message the message
+     */
+    public GitHubApiException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new exception for an unexpected HTTP status
+     *
+     * @param status the HTTP status returned by GitHub
+     * @param url    the requested URL
+     */
+    public GitHubApiException(int status, String url) {
+        super("GitHub answered with status " + status + " for " + url);
+    }
+}
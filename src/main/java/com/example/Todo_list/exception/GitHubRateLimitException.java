@@ -0,0 +1,18 @@
+package com.example.Todo_list.exception;
+
+import java.time.Instant;
+
+/**
+ * Exception thrown when the GitHub rate limit budget of an access token is used up
+ */
+public class GitHubRateLimitException extends GitHubApiException {
+
+    /**
+     * Constructs a new exception with the time the budget is reset
+     *
+     * @param resetAt the time GitHub resets the rate limit of the token
+     */
+    public GitHubRateLimitException(Instant resetAt) {
+        super("The GitHub rate limit has been reached, please try again after " + resetAt);
+    }
+}
@@ -49,6 +49,39 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.NOT_ACCEPTABLE, exception);
     }
 
+    /**
+     * Handles GitHubRateLimitException
+     * @param exception
+     * @return ModelAndView
+     */
+    @ExceptionHandler(GitHubRateLimitException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public ModelAndView handleGitHubRateLimitException(GitHubRateLimitException exception) {
+        return buildErrorResponse(HttpStatus.TOO_MANY_REQUESTS, exception);
+    }
+
+    /**
+     * Handles GitHubApiException
+     * @param exception
+     * @return ModelAndView
+     */
+    @ExceptionHandler(GitHubApiException.class)
+    @ResponseStatus(HttpStatus.BAD_GATEWAY)
+    public ModelAndView handleGitHubApiException(GitHubApiException exception) {
+        return buildErrorResponse(HttpStatus.BAD_GATEWAY, exception);
+    }
+
+    /**
+     * Handles PasswordHashingBusyException
+     * @param exception
+     * @return ModelAndView
+     */
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ModelAndView handlePasswordHashingBusyException(PasswordHashingBusyException exception) {
+        return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, exception);
+    }
+
     /**
      * Handles NoHandlerFoundException
      * @param exception
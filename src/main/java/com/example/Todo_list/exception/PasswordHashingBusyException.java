@@ -0,0 +1,20 @@
+package com.example.Todo_list.exception;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * Exception thrown when a password cannot be hashed because too many passwords are being hashed at once.
+ * It is an AuthenticationServiceException so that a login attempt during a burst fails through the login failure
+ * handler, which asks the user to try again.
+ */
+public class PasswordHashingBusyException extends AuthenticationServiceException {
+
+    /**
+     * Constructs a new exception with the given message
+     *
+     * @param message the detail message
+     */
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
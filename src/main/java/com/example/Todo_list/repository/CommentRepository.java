@@ -2,9 +2,19 @@ package com.example.Todo_list.repository;
 
 import com.example.Todo_list.entity.Comment;
 import com.example.Todo_list.entity.User;
+import com.example.Todo_list.repository.projection.CommentListView;
+import com.example.Todo_list.repository.projection.SearchDocumentView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -19,4 +29,57 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * @return List of comments
      */
     List<Comment> findByUser(User user);
+
+    /**
+     * Find the searchable content of the comments on the tasks of a todo, or of all comments on tasks, titled by the
+     * name of their task.
+     *
+     * @param todoId the id of the todo, or null for all comments
+     * @return the searchable text of the comments
+     */
+    @Query("SELECT c.id AS id, k.todo.id AS todoId, k.id AS taskId, c.user.id AS userId, k.name AS title, " +
+           "c.content AS text FROM Comment c JOIN c.task k WHERE :todoId IS NULL OR k.todo.id = :todoId")
+    List<SearchDocumentView> findSearchDocuments(@Param("todoId") Long todoId);
+
+    /**
+     * Find one page of the comments whose author's name matches a pattern, written by a user and created in a time
+     * range, together with the first names of their authors. The page is sorted by the database, by the columns of
+     * CommentListView.
+     *
+     * @param namePattern   lower case LIKE pattern of the first or last name of the author, escaped with '!'
+     * @param userId        the id of the author, or null for comments of every user
+     * @param createdFrom   the earliest creation time to include, or null
+     * @param createdBefore the creation time to stop before, or null
+     * @param pageable      the page to find
+     * @return the page of comments
+     */
+    @Query(value = "SELECT c.id AS id, c.content AS content, c.createdAt AS createdAt, c.isEdited AS isEdited, " +
+                   "u.id AS userId, u.firstName AS userFirstName, k.id AS taskId " +
+                   "FROM Comment c JOIN c.user u LEFT JOIN c.task k " +
+                   "WHERE (LOWER(u.firstName) LIKE :namePattern ESCAPE '!' OR LOWER(u.lastName) LIKE :namePattern ESCAPE '!') " +
+                   "AND (:userId IS NULL OR u.id = :userId) " +
+                   "AND (:createdFrom IS NULL OR c.createdAt >= :createdFrom) " +
+                   "AND (:createdBefore IS NULL OR c.createdAt < :createdBefore)",
+           countQuery = "SELECT COUNT(c) FROM Comment c JOIN c.user u " +
+                        "WHERE (LOWER(u.firstName) LIKE :namePattern ESCAPE '!' OR LOWER(u.lastName) LIKE :namePattern ESCAPE '!') " +
+                        "AND (:userId IS NULL OR u.id = :userId) " +
+                        "AND (:createdFrom IS NULL OR c.createdAt >= :createdFrom) " +
+                        "AND (:createdBefore IS NULL OR c.createdAt < :createdBefore)")
+    Page<CommentListView> findListPage(@Param("namePattern") String namePattern,
+                                       @Param("userId") Long userId,
+                                       @Param("createdFrom") ZonedDateTime createdFrom,
+                                       @Param("createdBefore") ZonedDateTime createdBefore,
+                                       Pageable pageable);
+
+    /**
+     * Deletes all comments written by the given users or made on tasks of todos owned by them, in one statement.
+     * @param userIds ids of the users
+     * @return number of deleted comments
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM comments WHERE user_id IN (:userIds) " +
+            "OR task_id IN (SELECT t.id FROM tasks t JOIN todos d ON d.id = t.todo_id WHERE d.owner_id IN (:userIds))",
+            nativeQuery = true)
+    int deleteByUserIdsOrTodoOwnerIds(@Param("userIds") Collection<Long> userIds);
 }
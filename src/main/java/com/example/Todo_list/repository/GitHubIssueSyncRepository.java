@@ -0,0 +1,23 @@
+package com.example.Todo_list.repository;
+
+import com.example.Todo_list.entity.GitHubIssueSync;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository for GitHubIssueSync entity
+ */
+@Repository
+public interface GitHubIssueSyncRepository extends JpaRepository<GitHubIssueSync, Long> {
+
+    /**
+     * Finds the sync of a repository into a todo.
+     *
+     * @param todoId     the id of the todo
+     * @param repository the full name of the repository
+     * @return the sync, if the repository has been imported into the todo before
+     */
+    Optional<GitHubIssueSync> findByTodoIdAndRepository(Long todoId, String repository);
+}
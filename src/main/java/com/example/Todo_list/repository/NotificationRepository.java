@@ -1,11 +1,21 @@
 package com.example.Todo_list.repository;
 
 import com.example.Todo_list.entity.Notification;
+import com.example.Todo_list.entity.NotificationKind;
 import com.example.Todo_list.entity.User;
+import com.example.Todo_list.repository.projection.NotificationFeedView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository for Notification entity
@@ -19,4 +29,95 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
      * @return list of notifications
      */
     List<Notification> findByUser(User user);
+
+    /**
+     * Find the newest notifications of a user, ordered by creation time and id, newest first
+     * @param userId id of the user
+     * @param limit maximum number of notifications
+     * @return list of notifications
+     */
+    @Query("SELECT n.id AS id, n.title AS title, n.message AS message, n.createdAt AS createdAt FROM Notification n " +
+           "WHERE n.user.id = :userId " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationFeedView> findFeed(@Param("userId") Long userId, Limit limit);
+
+    /**
+     * Find the notifications of a user that come after the (beforeCreatedAt, beforeId) cursor in the feed order,
+     * newest first
+     * @param userId id of the user
+     * @param beforeCreatedAt creation time of the last notification already seen
+     * @param beforeId id of the last notification already seen
+     * @param limit maximum number of notifications
+     * @return list of notifications
+     */
+    @Query("SELECT n.id AS id, n.title AS title, n.message AS message, n.createdAt AS createdAt FROM Notification n " +
+           "WHERE n.user.id = :userId " +
+           "AND (n.createdAt < :beforeCreatedAt OR (n.createdAt = :beforeCreatedAt AND n.id < :beforeId)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<NotificationFeedView> findFeedBefore(@Param("userId") Long userId,
+                                              @Param("beforeCreatedAt") ZonedDateTime beforeCreatedAt,
+                                              @Param("beforeId") Long beforeId,
+                                              Limit limit);
+
+    /**
+     * Count the notifications of a user
+     * @param userId id of the user
+     * @return number of notifications
+     */
+    long countByUserId(Long userId);
+
+    /**
+     * Find the notification of a user with the given kind about the given task
+     * @param userId id of the user
+     * @param kind kind of the notification
+     * @param taskId id of the task
+     * @return the notification, if present
+     */
+    Optional<NotificationFeedView> findFirstByUserIdAndKindAndTaskId(Long userId, NotificationKind kind, Long taskId);
+
+    /**
+     * Inserts a notification about a task unless the user already has one of the same kind for that task.
+     * Backed by the (user_id, kind, task_id) unique constraint, so concurrent inserts cannot create duplicates.
+     * @param userId id of the user
+     * @param kind name of the notification kind
+     * @param taskId id of the task
+     * @param title title of the notification
+     * @param message message of the notification
+     * @return number of inserted rows, 0 if the notification already existed
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO notifications (title, message, user_id, kind, task_id, created_at) " +
+            "SELECT :title, :message, :userId, :kind, :taskId, CURRENT_TIMESTAMP " +
+            "WHERE NOT EXISTS (SELECT 1 FROM notifications " +
+            "WHERE user_id = :userId AND kind = :kind AND task_id = :taskId)", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("kind") String kind, @Param("taskId") Long taskId,
+                       @Param("title") String title, @Param("message") String message);
+
+    /**
+     * Inserts the same general notification for every user whose id lies in [fromUserId, toUserId],
+     * in a single statement without loading any users
+     * @param title title of the notification
+     * @param message message of the notification
+     * @param fromUserId smallest user id of the range, inclusive
+     * @param toUserId largest user id of the range, inclusive
+     * @return number of inserted rows
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO notifications (title, message, user_id, kind, created_at) " +
+            "SELECT :title, :message, u.id, 'GENERAL', CURRENT_TIMESTAMP FROM users u " +
+            "WHERE u.id BETWEEN :fromUserId AND :toUserId", nativeQuery = true)
+    int insertForUserRange(@Param("title") String title, @Param("message") String message,
+                           @Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+
+    /**
+     * Deletes all notifications of the given users in one statement
+     * @param userIds ids of the users
+     * @return number of deleted notifications
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM notifications WHERE user_id IN (:userIds)", nativeQuery = true)
+    int deleteByUserIds(@Param("userIds") Collection<Long> userIds);
 }
@@ -4,8 +4,13 @@ import com.example.Todo_list.entity.OAuthUser;
 import com.example.Todo_list.entity.User;
 import com.example.Todo_list.security.oauth2.OAuth2Provider;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -36,4 +41,27 @@ public interface OAuthUserRepository extends JpaRepository<OAuthUser, Long> {
      * @return OAuthUser
      */
     Optional<OAuthUser> findByProviderAndProviderUserId(OAuth2Provider provider, String providerUserId);
+
+    /**
+     * Find OAuthUser by provider and provider user id, together with its user and the user's role in a single query
+     *
+     * @param provider provider
+     * @param providerUserId provider user id
+     * @return OAuthUser
+     */
+    @Query("SELECT o FROM OAuthUser o JOIN FETCH o.user u JOIN FETCH u.role " +
+           "WHERE o.provider = :provider AND o.providerUserId = :providerUserId")
+    Optional<OAuthUser> findWithUserByProviderAndProviderUserId(@Param("provider") OAuth2Provider provider,
+                                                                @Param("providerUserId") String providerUserId);
+
+    /**
+     * Delete the OAuthUsers of the given users in one statement
+     *
+     * @param userIds ids of the users
+     * @return number of deleted OAuthUsers
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM oauth_users WHERE user_id IN (:userIds)", nativeQuery = true)
+    int deleteByUserIds(@Param("userIds") Collection<Long> userIds);
 }
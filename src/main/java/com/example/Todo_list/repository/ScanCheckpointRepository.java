@@ -0,0 +1,12 @@
+package com.example.Todo_list.repository;
+
+import com.example.Todo_list.entity.ScanCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for ScanCheckpoint entity
+ */
+@Repository
+public interface ScanCheckpointRepository extends JpaRepository<ScanCheckpoint, String> {
+}
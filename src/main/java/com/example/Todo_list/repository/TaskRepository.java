@@ -1,11 +1,23 @@
 package com.example.Todo_list.repository;
 
 import com.example.Todo_list.entity.Task;
+import com.example.Todo_list.repository.projection.BoardAssigneeView;
+import com.example.Todo_list.repository.projection.BoardTaskView;
+import com.example.Todo_list.repository.projection.OverdueTaskView;
+import com.example.Todo_list.repository.projection.SearchDocumentView;
+import com.example.Todo_list.repository.projection.TaskAssigneeView;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for {@link Task} class.
@@ -22,16 +34,133 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByTodoId(Long todoId);
 
     /**
-     * Finds all tasks by user id.
+     * Finds the searchable name and description of the tasks of a todo, or of all tasks.
      *
-     * @param userId the user id
+     * @param todoId the id of the todo, or null for all tasks
+     * @return the searchable text of the tasks
+     */
+    @Query("SELECT k.id AS id, k.todo.id AS todoId, k.id AS taskId, d.owner.id AS userId, k.name AS title, " +
+           "k.description AS text FROM Task k JOIN k.todo d WHERE :todoId IS NULL OR d.id = :todoId")
+    List<SearchDocumentView> findSearchDocuments(@Param("todoId") Long todoId);
+
+    /**
+     * Finds which of the given GitHub issues have already been imported into a todo.
+     *
+     * @param todoId         the id of the todo
+     * @param gitHubIssueIds the ids of the GitHub issues
+     * @return the ids of the GitHub issues that have a task in the todo
+     */
+    @Query("SELECT t.gitHubIssueId FROM Task t WHERE t.todo.id = :todoId AND t.gitHubIssueId IN :gitHubIssueIds")
+    List<Long> findImportedGitHubIssueIds(@Param("todoId") Long todoId,
+                                          @Param("gitHubIssueIds") Collection<Long> gitHubIssueIds);
+
+    /**
+     * Finds the next page of tasks assigned to a user, ordered by id.
+     * The page is read through the collaborator index of tasks_collaborators, starting after the given task id.
+     *
+     * @param userId  the user id
+     * @param afterId the id of the last task of the previous page, or 0 for the first page
+     * @param limit   the maximum number of tasks to return
      * @return the list of tasks
      */
-    @Query(value =
-            "SELECT id, name, description, priority, state_id, todo_id, assigned_user_id, deadline FROM tasks WHERE assigned_user_id = ?1 " +
-            "UNION " +
-            "SELECT id, name, description, priority, state_id, todo_id, assigned_user_id, deadline FROM tasks " +
-            "INNER JOIN tasks_collaborators ON id = task_id AND collaborator_id = ?1", nativeQuery = true
-    )
-    List<Task> findAssignedTasksByUserId(Long userId);
+    @Query("SELECT t FROM Task t JOIN t.assignedUsers u WHERE u.id = :userId AND t.id > :afterId ORDER BY t.id")
+    List<Task> findAssignedTaskPage(@Param("userId") Long userId, @Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Finds the next batch of tasks whose deadline has passed within a scan window, ordered by (deadline, id).
+     * The window is bounded above by {@code upTo} and below by the keyset cursor ({@code afterDeadline}, {@code afterId}),
+     * so successive calls can page through the window using the deadline index without an OFFSET.
+     *
+     * @param upTo             the inclusive upper bound of the scan window
+     * @param afterDeadline    the deadline of the last task of the previous batch (or the window's lower bound)
+     * @param afterId          the id of the last task of the previous batch (or {@link Long#MAX_VALUE} for the first batch)
+     * @param excludedState    the name of the state whose tasks are ignored, e.g. "Completed"
+     * @param limit            the maximum number of tasks to return
+     * @return the list of overdue tasks
+     */
+    @Query("SELECT t.id AS id, t.name AS name, t.deadline AS deadline FROM Task t JOIN t.state s " +
+           "WHERE t.deadline <= :upTo " +
+           "AND (t.deadline > :afterDeadline OR (t.deadline = :afterDeadline AND t.id > :afterId)) " +
+           "AND s.name <> :excludedState " +
+           "ORDER BY t.deadline, t.id")
+    List<OverdueTaskView> findOverdueTasks(@Param("upTo") ZonedDateTime upTo,
+                                           @Param("afterDeadline") ZonedDateTime afterDeadline,
+                                           @Param("afterId") Long afterId,
+                                           @Param("excludedState") String excludedState,
+                                           Limit limit);
+
+    /**
+     * Finds a task with a deadline unless it is in the excluded state.
+     *
+     * @param taskId        the id of the task
+     * @param excludedState the name of the state whose tasks are ignored, e.g. "Completed"
+     * @return the task, or empty if it does not exist, has no deadline or is in the excluded state
+     */
+    @Query("SELECT t.id AS id, t.name AS name, t.deadline AS deadline FROM Task t JOIN t.state s " +
+           "WHERE t.id = :taskId AND t.deadline IS NOT NULL AND s.name <> :excludedState")
+    Optional<OverdueTaskView> findTaskWithDeadline(@Param("taskId") Long taskId,
+                                                   @Param("excludedState") String excludedState);
+
+    /**
+     * Finds the ids of the users assigned to each of the given tasks.
+     *
+     * @param taskIds the task ids
+     * @return the list of (task id, user id) pairs
+     */
+    @Query("SELECT t.id AS taskId, u.id AS userId FROM Task t JOIN t.assignedUsers u WHERE t.id IN :taskIds")
+    List<TaskAssigneeView> findAssigneesByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * Finds the tasks of a todo as shown on its task board, ordered from the most to the least urgent priority
+     * and then by id.
+     *
+     * @param todoId the todo id
+     * @return the list of board tasks
+     */
+    @Query("SELECT t.id AS id, t.name AS name, t.priority AS priority, s.name AS stateName " +
+           "FROM Task t LEFT JOIN t.state s WHERE t.todo.id = :todoId " +
+           "ORDER BY CASE t.priority " +
+           "WHEN com.example.Todo_list.entity.Priority.URGENT THEN 4 " +
+           "WHEN com.example.Todo_list.entity.Priority.HIGH THEN 3 " +
+           "WHEN com.example.Todo_list.entity.Priority.MEDIUM THEN 2 " +
+           "WHEN com.example.Todo_list.entity.Priority.LOW THEN 1 " +
+           "WHEN com.example.Todo_list.entity.Priority.TRIVIAL THEN 0 " +
+           "ELSE -1 END DESC, t.id")
+    List<BoardTaskView> findBoardTasks(@Param("todoId") Long todoId);
+
+    /**
+     * Finds the users assigned to the tasks of a todo, ordered by task id and then by user id.
+     *
+     * @param todoId the todo id
+     * @return the list of (task id, user id, first name, last name) rows
+     */
+    @Query("SELECT t.id AS taskId, u.id AS userId, u.firstName AS firstName, u.lastName AS lastName " +
+           "FROM Task t JOIN t.assignedUsers u WHERE t.todo.id = :todoId ORDER BY t.id, u.id")
+    List<BoardAssigneeView> findBoardAssignees(@Param("todoId") Long todoId);
+
+    /**
+     * Deletes the assignments of the given users to tasks, and all assignments to tasks of todos owned by them,
+     * in one statement.
+     *
+     * @param userIds the user ids
+     * @return the number of deleted assignments
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM tasks_collaborators WHERE collaborator_id IN (:userIds) " +
+                   "OR task_id IN (SELECT t.id FROM tasks t JOIN todos d ON d.id = t.todo_id WHERE d.owner_id IN (:userIds))",
+           nativeQuery = true)
+    int deleteAssignmentsByUserIdsOrTodoOwnerIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Deletes all tasks of todos owned by the given users in one statement.
+     *
+     * @param ownerIds the owner ids
+     * @return the number of deleted tasks
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM tasks WHERE todo_id IN (SELECT id FROM todos WHERE owner_id IN (:ownerIds))",
+           nativeQuery = true)
+    int deleteByTodoOwnerIds(@Param("ownerIds") Collection<Long> ownerIds);
 }
@@ -1,10 +1,19 @@
 package com.example.Todo_list.repository;
 
 import com.example.Todo_list.entity.ToDo;
+import com.example.Todo_list.repository.projection.SearchDocumentView;
+import com.example.Todo_list.repository.projection.ToDoListView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -14,16 +23,152 @@ import java.util.List;
 public interface ToDoRepository extends JpaRepository<ToDo, Long> {
 
     /**
-     * Find all todos by owner id.
+     * Find one page of the todos whose title matches a pattern, owned by a user and created in a time range, together
+     * with the names of their owners. The page is sorted by the database, by the columns of ToDoListView.
      *
-     * @param ownerId the owner id
+     * @param titlePattern  lower case LIKE pattern of the title, escaped with '!'
+     * @param ownerId       the id of the owner, or null for todos of every owner
+     * @param createdFrom   the earliest creation time to include, or null
+     * @param createdBefore the creation time to stop before, or null
+     * @param pageable      the page to find
+     * @return the page of todos
+     */
+    @Query(value = "SELECT t.id AS id, t.title AS title, t.createdAt AS createdAt, o.id AS ownerId, " +
+                   "o.firstName AS ownerFirstName, o.lastName AS ownerLastName FROM ToDo t JOIN t.owner o " +
+                   "WHERE LOWER(t.title) LIKE :titlePattern ESCAPE '!' AND (:ownerId IS NULL OR o.id = :ownerId) " +
+                   "AND (:createdFrom IS NULL OR t.createdAt >= :createdFrom) " +
+                   "AND (:createdBefore IS NULL OR t.createdAt < :createdBefore)",
+           countQuery = "SELECT COUNT(t) FROM ToDo t " +
+                        "WHERE LOWER(t.title) LIKE :titlePattern ESCAPE '!' AND (:ownerId IS NULL OR t.owner.id = :ownerId) " +
+                        "AND (:createdFrom IS NULL OR t.createdAt >= :createdFrom) " +
+                        "AND (:createdBefore IS NULL OR t.createdAt < :createdBefore)")
+    Page<ToDoListView> findListPage(@Param("titlePattern") String titlePattern,
+                                    @Param("ownerId") Long ownerId,
+                                    @Param("createdFrom") ZonedDateTime createdFrom,
+                                    @Param("createdBefore") ZonedDateTime createdBefore,
+                                    Pageable pageable);
+
+    /**
+     * Find the ids of all todos that a user owns or collaborates on.
+     *
+     * @param userId the user id
+     * @return the ids of the todos of the user
+     */
+    @Query(value = "SELECT id FROM todos WHERE owner_id = :userId " +
+                   "UNION SELECT todo_id FROM todos_collaborators WHERE collaborator_id = :userId", nativeQuery = true)
+    List<Long> findMemberTodoIds(@Param("userId") Long userId);
+
+    /**
+     * Find the searchable title and description of a todo, or of all todos.
+     *
+     * @param todoId the id of the todo, or null for all todos
+     * @return the searchable text of the todos
+     */
+    @Query("SELECT t.id AS id, t.id AS todoId, t.owner.id AS userId, t.title AS title, t.description AS text FROM ToDo t " +
+           "WHERE :todoId IS NULL OR t.id = :todoId")
+    List<SearchDocumentView> findSearchDocuments(@Param("todoId") Long todoId);
+
+    /**
+     * Find the next page of todos that a user owns or collaborates on, ordered by id.
+     * Owned todos come from the owner_id index and collaborations from the collaborator index of todos_collaborators;
+     * the two branches are disjoint, so they are combined with UNION ALL without a deduplication step.
+     *
+     * @param userId  the user id
+     * @param afterId the id of the last todo of the previous page, or 0 for the first page
+     * @param limit   the maximum number of todos to return
      * @return the list of todos
      */
     @Query(value =
-            "SELECT id, title, created_at, description, owner_id FROM todos WHERE owner_id = ?1 " +
-            "UNION " +
-            "SELECT id, title, created_at, description, owner_id FROM todos " +
-            "INNER JOIN todos_collaborators ON id = todo_id AND collaborator_id = ?1", nativeQuery = true
+            "SELECT id, title, created_at, description, owner_id FROM (" +
+            "SELECT id, title, created_at, description, owner_id FROM todos WHERE owner_id = :userId AND id > :afterId " +
+            "UNION ALL " +
+            "SELECT t.id, t.title, t.created_at, t.description, t.owner_id FROM todos_collaborators c " +
+            "JOIN todos t ON t.id = c.todo_id " +
+            "WHERE c.collaborator_id = :userId AND c.todo_id > :afterId AND (t.owner_id IS NULL OR t.owner_id <> :userId)" +
+            ") member_todos ORDER BY id LIMIT :limit", nativeQuery = true
     )
-    List<ToDo> findTodoByOwnerId(Long ownerId);
+    List<ToDo> findTodoPageOfUser(@Param("userId") Long userId, @Param("afterId") Long afterId, @Param("limit") int limit);
+
+    /**
+     * Check whether a user owns a todo, without loading the todo.
+     *
+     * @param todoId the todo id
+     * @param userId the user id
+     * @return true if the user owns the todo
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM todos WHERE id = :todoId AND owner_id = :userId)", nativeQuery = true)
+    boolean isOwner(@Param("todoId") Long todoId, @Param("userId") Long userId);
+
+    /**
+     * Check whether a user owns or collaborates on a todo, without loading the todo or its collaborators.
+     *
+     * @param todoId the todo id
+     * @param userId the user id
+     * @return true if the user owns or collaborates on the todo
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM todos WHERE id = :todoId AND owner_id = :userId) " +
+                   "OR EXISTS (SELECT 1 FROM todos_collaborators WHERE todo_id = :todoId AND collaborator_id = :userId)",
+           nativeQuery = true)
+    boolean isOwnerOrCollaborator(@Param("todoId") Long todoId, @Param("userId") Long userId);
+
+    /**
+     * Check whether a user owns the todo that a task belongs to, without loading the task or the todo.
+     *
+     * @param taskId the task id
+     * @param userId the user id
+     * @return true if the user owns the todo of the task
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM tasks k JOIN todos t ON t.id = k.todo_id " +
+                   "WHERE k.id = :taskId AND t.owner_id = :userId)", nativeQuery = true)
+    boolean isOwnerOfTaskTodo(@Param("taskId") Long taskId, @Param("userId") Long userId);
+
+    /**
+     * Check whether a user owns or collaborates on the todo that a task belongs to, without loading the task, the todo
+     * or its collaborators.
+     *
+     * @param taskId the task id
+     * @param userId the user id
+     * @return true if the user owns or collaborates on the todo of the task
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM tasks k JOIN todos t ON t.id = k.todo_id " +
+                   "WHERE k.id = :taskId AND t.owner_id = :userId) " +
+                   "OR EXISTS (SELECT 1 FROM tasks k JOIN todos_collaborators c ON c.todo_id = k.todo_id " +
+                   "WHERE k.id = :taskId AND c.collaborator_id = :userId)", nativeQuery = true)
+    boolean isMemberOfTaskTodo(@Param("taskId") Long taskId, @Param("userId") Long userId);
+
+    /**
+     * Find which of the given users own or collaborate on a todo, without loading the todo or its collaborators.
+     *
+     * @param todoId  the todo id
+     * @param userIds the candidate user ids
+     * @return the ids of the candidates that own or collaborate on the todo
+     */
+    @Query(value = "SELECT owner_id FROM todos WHERE id = :todoId AND owner_id IN (:userIds) " +
+                   "UNION ALL " +
+                   "SELECT collaborator_id FROM todos_collaborators WHERE todo_id = :todoId AND collaborator_id IN (:userIds)",
+           nativeQuery = true)
+    List<Long> findMemberIdsAmong(@Param("todoId") Long todoId, @Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Delete the collaborations of the given users, and all collaborations on todos owned by them, in one statement.
+     *
+     * @param userIds the user ids
+     * @return the number of deleted collaborations
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM todos_collaborators WHERE collaborator_id IN (:userIds) " +
+                   "OR todo_id IN (SELECT id FROM todos WHERE owner_id IN (:userIds))", nativeQuery = true)
+    int deleteCollaborationsByUserIdsOrOwnerIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Delete all todos owned by the given users in one statement.
+     *
+     * @param ownerIds the owner ids
+     * @return the number of deleted todos
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM todos WHERE owner_id IN (:ownerIds)", nativeQuery = true)
+    int deleteByOwnerIds(@Param("ownerIds") Collection<Long> ownerIds);
 }
@@ -1,9 +1,26 @@
 package com.example.Todo_list.repository;
 
 import com.example.Todo_list.entity.User;
+import com.example.Todo_list.repository.projection.UserCredentials;
+import com.example.Todo_list.repository.projection.UserListView;
+import com.example.Todo_list.repository.projection.UserSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -13,10 +30,120 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
 
     /**
-     * Find user by email
+     * Find all users together with their roles in a single query
+     *
+     * @return all users
+     */
+    @Override
+    @EntityGraph("User.role")
+    List<User> findAll();
+
+    /**
+     * Find user by email, together with the user's role
      *
      * @param email user's email
      * @return user with given email
      */
+    @EntityGraph("User.role")
     Optional<User> findByEmail(String email);
+
+    /**
+     * Find what a user needs to log in by their email, joined with their role in one statement, without loading the
+     * user or any of their collections
+     *
+     * @param email the email of the user
+     * @return the credentials of the user, or an empty Optional if no user has the email
+     */
+    @Query("SELECT u.id AS id, u.firstName AS firstName, u.email AS email, u.password AS password, r.name AS roleName " +
+           "FROM User u JOIN u.role r WHERE u.email = :email")
+    Optional<UserCredentials> findCredentialsByEmail(@Param("email") String email);
+
+    /**
+     * Replace the password hash of a user in one statement
+     *
+     * @param email    the email of the user
+     * @param password the new password hash
+     * @return number of updated users
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :password WHERE u.email = :email")
+    int updatePasswordByEmail(@Param("email") String email, @Param("password") String password);
+
+    /**
+     * Find one page of the users whose name or email matches a pattern and who were created in a time range, together
+     * with the names of their roles. The page is sorted by the database, by the columns of UserListView.
+     *
+     * @param namePattern   lower case LIKE pattern of the first name, last name or email, escaped with '!'
+     * @param createdFrom   the earliest creation time to include, or null
+     * @param createdBefore the creation time to stop before, or null
+     * @param pageable      the page to find
+     * @return the page of users
+     */
+    @Query(value = "SELECT u.id AS id, u.firstName AS firstName, u.lastName AS lastName, u.email AS email, " +
+                   "r.name AS roleName, u.createdAt AS createdAt FROM User u JOIN u.role r " +
+                   "WHERE (LOWER(u.firstName) LIKE :namePattern ESCAPE '!' OR LOWER(u.lastName) LIKE :namePattern ESCAPE '!' " +
+                   "OR LOWER(u.email) LIKE :namePattern ESCAPE '!') " +
+                   "AND (:createdFrom IS NULL OR u.createdAt >= :createdFrom) " +
+                   "AND (:createdBefore IS NULL OR u.createdAt < :createdBefore)",
+           countQuery = "SELECT COUNT(u) FROM User u " +
+                        "WHERE (LOWER(u.firstName) LIKE :namePattern ESCAPE '!' OR LOWER(u.lastName) LIKE :namePattern ESCAPE '!' " +
+                        "OR LOWER(u.email) LIKE :namePattern ESCAPE '!') " +
+                        "AND (:createdFrom IS NULL OR u.createdAt >= :createdFrom) " +
+                        "AND (:createdBefore IS NULL OR u.createdAt < :createdBefore)")
+    Page<UserListView> findListPage(@Param("namePattern") String namePattern,
+                                    @Param("createdFrom") ZonedDateTime createdFrom,
+                                    @Param("createdBefore") ZonedDateTime createdBefore,
+                                    Pageable pageable);
+
+    /**
+     * Find the id, name and email of all users, ordered by id, without loading the users themselves.
+     * The result is kept in the query cache until the users table is written to.
+     *
+     * @return summaries of all users
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "user-summaries")
+    })
+    @Query("SELECT u.id AS id, u.firstName AS firstName, u.lastName AS lastName, u.email AS email " +
+           "FROM User u ORDER BY u.id")
+    List<UserSummary> findAllSummaries();
+
+    /**
+     * Find the smallest user id
+     *
+     * @return smallest user id, or null if there are no users
+     */
+    @Query("SELECT MIN(u.id) FROM User u")
+    Long findMinId();
+
+    /**
+     * Find the largest user id
+     *
+     * @return largest user id, or null if there are no users
+     */
+    @Query("SELECT MAX(u.id) FROM User u")
+    Long findMaxId();
+
+    /**
+     * Find the ids of guest users created before the given time, oldest first
+     *
+     * @param cutoff guests created before this time are returned
+     * @param limit  maximum number of ids to return
+     * @return ids of expired guest users
+     */
+    @Query("SELECT u.id FROM User u WHERE u.isGuest = true AND u.createdAt < :cutoff ORDER BY u.createdAt, u.id")
+    List<Long> findExpiredGuestIds(@Param("cutoff") ZonedDateTime cutoff, Limit limit);
+
+    /**
+     * Delete the users with the given ids in one statement
+     *
+     * @param userIds ids of the users
+     * @return number of deleted users
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM users WHERE id IN (:userIds)", nativeQuery = true)
+    int deleteByIds(@Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,15 @@
+package com.example.Todo_list.repository.projection;
+
+/**
+ * Read-only projection of a user assigned to a task, as shown on the task board of a todo.
+ */
+public interface BoardAssigneeView {
+
+    Long getTaskId();
+
+    Long getUserId();
+
+    String getFirstName();
+
+    String getLastName();
+}
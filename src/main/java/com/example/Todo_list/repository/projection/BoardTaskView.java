@@ -0,0 +1,17 @@
+package com.example.Todo_list.repository.projection;
+
+import com.example.Todo_list.entity.Priority;
+
+/**
+ * Read-only projection of a task as shown on the task board of a todo.
+ */
+public interface BoardTaskView {
+
+    Long getId();
+
+    String getName();
+
+    Priority getPriority();
+
+    String getStateName();
+}
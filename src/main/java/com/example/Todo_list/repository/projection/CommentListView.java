@@ -0,0 +1,23 @@
+package com.example.Todo_list.repository.projection;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Read-only projection of a comment and its author as shown in the paged list of all comments.
+ */
+public interface CommentListView {
+
+    Long getId();
+
+    String getContent();
+
+    ZonedDateTime getCreatedAt();
+
+    Boolean getIsEdited();
+
+    Long getUserId();
+
+    String getUserFirstName();
+
+    Long getTaskId();
+}
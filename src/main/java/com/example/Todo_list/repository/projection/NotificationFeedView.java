@@ -0,0 +1,17 @@
+package com.example.Todo_list.repository.projection;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Read-only projection of a notification as shown in a user's notification feed.
+ */
+public interface NotificationFeedView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getMessage();
+
+    ZonedDateTime getCreatedAt();
+}
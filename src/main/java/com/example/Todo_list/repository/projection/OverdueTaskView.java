@@ -0,0 +1,15 @@
+package com.example.Todo_list.repository.projection;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Read-only projection of a task whose deadline has passed.
+ */
+public interface OverdueTaskView {
+
+    Long getId();
+
+    String getName();
+
+    ZonedDateTime getDeadline();
+}
@@ -0,0 +1,21 @@
+package com.example.Todo_list.repository.projection;
+
+/**
+ * Read-only projection of the searchable text of a todo, a task or a comment, together with the todo and task it
+ * belongs to and the user it is deleted with: the owner of the todo for todos and tasks, the author for comments.
+ * Todos have no task id.
+ */
+public interface SearchDocumentView {
+
+    Long getId();
+
+    Long getTodoId();
+
+    Long getTaskId();
+
+    Long getUserId();
+
+    String getTitle();
+
+    String getText();
+}
@@ -0,0 +1,11 @@
+package com.example.Todo_list.repository.projection;
+
+/**
+ * Read-only projection of a single (task, assigned user) pair.
+ */
+public interface TaskAssigneeView {
+
+    Long getTaskId();
+
+    Long getUserId();
+}
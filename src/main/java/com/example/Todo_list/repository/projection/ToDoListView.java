@@ -0,0 +1,21 @@
+package com.example.Todo_list.repository.projection;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Read-only projection of a todo and its owner as shown in the paged list of all todos.
+ */
+public interface ToDoListView {
+
+    Long getId();
+
+    String getTitle();
+
+    ZonedDateTime getCreatedAt();
+
+    Long getOwnerId();
+
+    String getOwnerFirstName();
+
+    String getOwnerLastName();
+}
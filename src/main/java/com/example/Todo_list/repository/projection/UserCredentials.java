@@ -0,0 +1,17 @@
+package com.example.Todo_list.repository.projection;
+
+/**
+ * Read-only projection of what a user needs to log in with a password, see WebSecurityUserDetails.
+ */
+public interface UserCredentials {
+
+    Long getId();
+
+    String getFirstName();
+
+    String getEmail();
+
+    String getPassword();
+
+    String getRoleName();
+}
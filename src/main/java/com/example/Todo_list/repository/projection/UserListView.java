@@ -0,0 +1,21 @@
+package com.example.Todo_list.repository.projection;
+
+import java.time.ZonedDateTime;
+
+/**
+ * Read-only projection of a user as shown in the paged user list.
+ */
+public interface UserListView {
+
+    Long getId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getEmail();
+
+    String getRoleName();
+
+    ZonedDateTime getCreatedAt();
+}
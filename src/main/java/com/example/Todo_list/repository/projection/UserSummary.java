@@ -0,0 +1,15 @@
+package com.example.Todo_list.repository.projection;
+
+/**
+ * Read-only projection of a user as shown in user lists and dropdowns.
+ */
+public interface UserSummary {
+
+    Long getId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getEmail();
+}
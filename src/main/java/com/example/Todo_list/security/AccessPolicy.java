@@ -0,0 +1,96 @@
+package com.example.Todo_list.security;
+
+import com.example.Todo_list.repository.ToDoRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Authorization checks on todos and tasks used by the @PreAuthorize expressions of the controllers, e.g.
+ * {@code @accessPolicy.canAccessTodo(#todoId, principal.id)}.
+ * Each check is answered by a single EXISTS query on todos and todos_collaborators instead of loading the todo and its
+ * collaborators, and the answer is memoized for the rest of the current request. Todos and tasks that do not exist
+ * are simply not accessible.
+ */
+@Component("accessPolicy")
+@RequiredArgsConstructor
+public class AccessPolicy {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccessPolicy.class);
+    private static final String ATTRIBUTE_PREFIX = AccessPolicy.class.getName() + ".";
+
+    private final ToDoRepository toDoRepository;
+
+    /**
+     * Checks whether a user owns a todo.
+     *
+     * @param todoId the id of the todo
+     * @param userId the id of the user
+     * @return true if the user owns the todo
+     */
+    public boolean isTodoOwner(Long todoId, Long userId) {
+        return memoize("todo.owner." + todoId + "." + userId, () -> toDoRepository.isOwner(todoId, userId));
+    }
+
+    /**
+     * Checks whether a user owns or collaborates on a todo.
+     *
+     * @param todoId the id of the todo
+     * @param userId the id of the user
+     * @return true if the user owns or collaborates on the todo
+     */
+    public boolean canAccessTodo(Long todoId, Long userId) {
+        return memoize("todo.member." + todoId + "." + userId, () -> toDoRepository.isOwnerOrCollaborator(todoId, userId));
+    }
+
+    /**
+     * Checks whether a user owns the todo that a task belongs to.
+     *
+     * @param taskId the id of the task
+     * @param userId the id of the user
+     * @return true if the user owns the todo of the task
+     */
+    public boolean isTaskTodoOwner(Long taskId, Long userId) {
+        return memoize("task.owner." + taskId + "." + userId, () -> toDoRepository.isOwnerOfTaskTodo(taskId, userId));
+    }
+
+    /**
+     * Checks whether a user owns or collaborates on the todo that a task belongs to.
+     *
+     * @param taskId the id of the task
+     * @param userId the id of the user
+     * @return true if the user owns or collaborates on the todo of the task
+     */
+    public boolean canAccessTask(Long taskId, Long userId) {
+        return memoize("task.member." + taskId + "." + userId, () -> toDoRepository.isMemberOfTaskTodo(taskId, userId));
+    }
+
+    /**
+     * Returns the answer stored in the current request under the given key, loading and storing it on first use.
+     * Outside a request the answer is loaded every time.
+     *
+     * @param key    the key of the answer
+     * @param loader the loader of the answer
+     * @return the answer
+     */
+    private boolean memoize(String key, BooleanSupplier loader) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return loader.getAsBoolean();
+        }
+
+        String attribute = ATTRIBUTE_PREFIX + key;
+        Boolean allowed = (Boolean) attributes.getAttribute(attribute, RequestAttributes.SCOPE_REQUEST);
+        if (allowed == null) {
+            logger.info("AccessPolicy.memoize(): Checking {}", key);
+            allowed = loader.getAsBoolean();
+            attributes.setAttribute(attribute, allowed, RequestAttributes.SCOPE_REQUEST);
+        }
+        return allowed;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.Todo_list.security;
 
+import com.example.Todo_list.exception.PasswordHashingBusyException;
 import com.example.Todo_list.security.local.WebSecurityUserDetailsService;
 import com.example.Todo_list.security.logout.CustomLogoutSuccessHandler;
 import com.example.Todo_list.security.oauth2.CustomOAuth2AuthenticationSuccessHandler;
@@ -19,8 +20,12 @@ import org.springframework.security.oauth2.client.OAuth2AuthorizedClientService;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.AccessDeniedHandler;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.security.web.authentication.ExceptionMappingAuthenticationFailureHandler;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
+import java.util.Map;
+
 import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 
 /**
@@ -53,6 +58,20 @@ public class WebSecurityConfig {
         };
     }
 
+    /**
+     * Authentication failure handler of the login form: a login turned away because too many passwords are being
+     * hashed at once is asked to try again, any other failure is reported as invalid credentials.
+     *
+     * @return AuthenticationFailureHandler
+     */
+    @Bean
+    public AuthenticationFailureHandler authenticationFailureHandler() {
+        ExceptionMappingAuthenticationFailureHandler handler = new ExceptionMappingAuthenticationFailureHandler();
+        handler.setDefaultFailureUrl("/login-form?error=true");
+        handler.setExceptionMappings(Map.of(PasswordHashingBusyException.class.getName(), "/login-form?busy=true"));
+        return handler;
+    }
+
     /**
      * Security filter chain.
      *
@@ -66,12 +85,13 @@ public class WebSecurityConfig {
                 // .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(authorize -> authorize
                         .requestMatchers("/login-form", "/users/create", "/users/guest-login", "/error", "/about", "/javadoc/**", "/images/**").permitAll()
+                        .requestMatchers("/actuator/**").hasAuthority("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .formLogin(form -> form
                         .loginPage("/login-form")
                         .defaultSuccessUrl("/", true)
-                        .failureUrl("/login-form?error=true")
+                        .failureHandler(authenticationFailureHandler())
                         .permitAll()
                 )
                 .logout(logout -> logout
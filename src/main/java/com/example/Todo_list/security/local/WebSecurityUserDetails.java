@@ -1,6 +1,7 @@
 package com.example.Todo_list.security.local;
 
 import com.example.Todo_list.entity.User;
+import com.example.Todo_list.repository.projection.UserCredentials;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -22,11 +23,20 @@ public class WebSecurityUserDetails implements UserDetails {
     private final List<GrantedAuthority> authorities;
 
     public WebSecurityUserDetails(User user) {
-        this.id = user.getId();
-        this.firstName = user.getFirstName();
-        this.username = user.getEmail();
-        this.password = user.getPassword();
-        this.authorities = List.of(new SimpleGrantedAuthority(user.getRole().getName()));
+        this(user.getId(), user.getFirstName(), user.getEmail(), user.getPassword(), user.getRole().getName());
+    }
+
+    public WebSecurityUserDetails(UserCredentials credentials) {
+        this(credentials.getId(), credentials.getFirstName(), credentials.getEmail(), credentials.getPassword(),
+                credentials.getRoleName());
+    }
+
+    private WebSecurityUserDetails(Long id, String firstName, String username, String password, String roleName) {
+        this.id = id;
+        this.firstName = firstName;
+        this.username = username;
+        this.password = password;
+        this.authorities = List.of(new SimpleGrantedAuthority(roleName));
     }
 
     public boolean isOAuthUser() {
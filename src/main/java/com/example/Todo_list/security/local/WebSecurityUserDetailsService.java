@@ -1,9 +1,15 @@
 package com.example.Todo_list.security.local;
 
-import com.example.Todo_list.entity.User;
+import com.example.Todo_list.config.CacheConfig;
 import com.example.Todo_list.repository.UserRepository;
+import com.example.Todo_list.repository.projection.UserCredentials;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -11,29 +17,56 @@ import org.springframework.stereotype.Service;
 import java.util.Optional;
 
 /**
- * Service for loading user details from the database
+ * Service for loading user details from the database, and for storing upgraded password hashes after a successful
+ * login (see PasswordService.upgradeEncoding)
  */
 @Service
 @RequiredArgsConstructor
-public class WebSecurityUserDetailsService implements UserDetailsService {
+public class WebSecurityUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebSecurityUserDetailsService.class);
 
     private final UserRepository userRepository;
 
     /**
-     * Load user details from the database by username
+     * Load user details from the database by username, reading only the columns the user details need.
+     * User details are cached by username for a short time, see CacheConfig.PRINCIPALS
      *
      * @param username username
      * @return user details
      * @throws UsernameNotFoundException if user was not found
      */
     @Override
+    @Cacheable(cacheNames = CacheConfig.PRINCIPALS, key = "#username")
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Optional<User> user = userRepository.findByEmail(username);
+        Optional<UserCredentials> credentials = userRepository.findCredentialsByEmail(username);
 
-        if (user.isPresent()) {
-            return new WebSecurityUserDetails(user.get());
+        if (credentials.isPresent()) {
+            return new WebSecurityUserDetails(credentials.get());
         } else {
             throw new UsernameNotFoundException("User with username=" + username + " was not found");
         }
     }
+
+    /**
+     * Store the upgraded password hash of a user who has just logged in, and replace the cached user details
+     *
+     * @param userDetails the user details of the user
+     * @param newPassword the new password hash
+     * @return user details with the new password hash
+     * @throws UsernameNotFoundException if user was not found
+     */
+    @Override
+    @CachePut(cacheNames = CacheConfig.PRINCIPALS, key = "#userDetails.username")
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        String username = userDetails.getUsername();
+        if (userRepository.updatePasswordByEmail(username, newPassword) == 0) {
+            throw new UsernameNotFoundException("User with username=" + username + " was not found");
+        }
+        UserCredentials credentials = userRepository.findCredentialsByEmail(username).orElseThrow(() ->
+                new UsernameNotFoundException("User with username=" + username + " was not found"));
+
+        logger.info("WebSecurityUserDetailsService.updatePassword(): Upgraded the password hash of userId={}", credentials.getId());
+        return new WebSecurityUserDetails(credentials);
+    }
 }
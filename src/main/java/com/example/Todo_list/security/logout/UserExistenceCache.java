@@ -0,0 +1,55 @@
+package com.example.Todo_list.security.logout;
+
+import com.example.Todo_list.event.UserDeletedEvent;
+import com.example.Todo_list.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Bounded, TTL-evicting cache of whether a user id still exists, used by UserExistenceFilter so that authenticated
+ * requests do not hit the database. Entries are invalidated as soon as a UserDeletedEvent is committed; the TTL only
+ * bounds staleness for deletions that bypass the services.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserExistenceCache {
+
+    static final long MAXIMUM_SIZE = 10000;
+    static final Duration TIME_TO_LIVE = Duration.ofMinutes(1);
+
+    private static final Logger logger = LoggerFactory.getLogger(UserExistenceCache.class);
+
+    private final UserRepository userRepository;
+    private final Cache<Long, Boolean> existingUsers = Caffeine.newBuilder()
+                                                               .maximumSize(MAXIMUM_SIZE)
+                                                               .expireAfterWrite(TIME_TO_LIVE)
+                                                               .build();
+
+    /**
+     * Checks whether a user exists, querying the database only if the answer is not cached.
+     *
+     * @param userId the id of the user
+     * @return true if the user exists
+     */
+    public boolean exists(Long userId) {
+        return existingUsers.get(userId, userRepository::existsById);
+    }
+
+    /**
+     * Forgets a deleted user once the transaction that deleted it has committed.
+     *
+     * @param event the event of the deleted user
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent event) {
+        logger.info("UserExistenceCache.onUserDeleted(): Invalidating userId={}", event.getUserId());
+        existingUsers.invalidate(event.getUserId());
+    }
+}
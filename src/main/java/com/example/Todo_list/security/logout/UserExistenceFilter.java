@@ -1,8 +1,6 @@
 package com.example.Todo_list.security.logout;
 
 import com.example.Todo_list.security.local.WebSecurityUserDetails;
-import com.example.Todo_list.service.UserService;
-import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,14 +15,14 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 
 /**
- * Filter to check if the user exists in the database; Bad practice to query the database on every request.
- * TODO: Is there a better approach? Perhaps caching or an event listener is a better option for high-traffic apps
+ * Filter to check if the user of the current session still exists, so that deleted users are logged out.
+ * Existence is looked up in UserExistenceCache instead of querying the database on every request.
  */
 @Component
 @RequiredArgsConstructor
 public class UserExistenceFilter extends OncePerRequestFilter {
 
-    private final UserService userService;
+    private final UserExistenceCache userExistenceCache;
 
     /**
      * Checks if the user exists in the database, if not, invalidates the current session and redirects to the logout page.
@@ -40,9 +38,7 @@ public class UserExistenceFilter extends OncePerRequestFilter {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth != null && auth.getPrincipal() instanceof WebSecurityUserDetails) {
             Long userId = ((WebSecurityUserDetails) auth.getPrincipal()).getId();
-            try {
-                userService.findUserById(userId);
-            } catch (EntityNotFoundException e) {
+            if (!userExistenceCache.exists(userId)) {
                 // Invalidate session if user does not exist
                 HttpSession session = request.getSession(false);
                 if (session != null) {
@@ -51,7 +47,6 @@ public class UserExistenceFilter extends OncePerRequestFilter {
                 SecurityContextHolder.clearContext();
                 response.sendRedirect("/logout?userDeleted=true");
                 return;
-
             }
         }
         filterChain.doFilter(request, response);
@@ -1,12 +1,6 @@
 package com.example.Todo_list.security.oauth2;
 
-import com.example.Todo_list.entity.OAuthUser;
 import com.example.Todo_list.entity.User;
-import com.example.Todo_list.repository.OAuthUserRepository;
-import com.example.Todo_list.repository.RoleRepository;
-import com.example.Todo_list.repository.UserRepository;
-import com.example.Todo_list.utils.PasswordService;
-import com.example.Todo_list.utils.SampleTodoInitializer;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,18 +15,15 @@ import java.util.Optional;
 
 /**
  * CustomOAuth2UserService is a service class that extends DefaultOAuth2UserService.
- * It is responsible for handling OAuth2 login requests and creating new users if they do not exist in the database.
+ * It is responsible for handling OAuth2 login requests and creating new users if they do not exist in the database,
+ * both through the OAuthUserProvisioner.
  */
 @Service
 @RequiredArgsConstructor
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final static Logger logger = LoggerFactory.getLogger(CustomOAuth2UserService.class);
-    private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
-    private final OAuthUserRepository oAuthUserRepository;
-    private final PasswordService passwordService;
-    private final SampleTodoInitializer todoInitializer;
+    private final OAuthUserProvisioner oAuthUserProvisioner;
 
     // TODO: This could be refactored to a consolidated attribute class instead of multiple maps
     private final Map<OAuth2Provider, String> providerToUniqueId = Map.of(
@@ -81,10 +72,10 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         logger.info(String.format("CustomOAuth2UserService.loadUser(): %s loaded successfully", oAuth2User));
 
         String uniqueId = oAuth2User.getAttribute(providerToUniqueId.get(provider)).toString();
-        Optional<OAuthUser> oAuthUser = oAuthUserRepository.findByProviderAndProviderUserId(provider, uniqueId);
-        if (oAuthUser.isPresent()) {
-            logger.info("CustomOAuth2UserService.loadUser(): User found in database: " + oAuthUser.get().getUser());
-            return new CustomOAuth2UserDetails(oAuthUser.get().getUser(), oAuth2User, provider);
+        Optional<User> user = oAuthUserProvisioner.findUser(provider, uniqueId);
+        if (user.isPresent()) {
+            logger.info("CustomOAuth2UserService.loadUser(): User found in database: " + user.get());
+            return new CustomOAuth2UserDetails(user.get(), oAuth2User, provider);
         } else {
             logger.info("CustomOAuth2UserService.loadUser(): User not found in database. Creating new user...");
             return new CustomOAuth2UserDetails(createUser(oAuth2User, provider, uniqueId), oAuth2User, provider);
@@ -92,7 +83,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
     }
 
     /**
-     * This method creates a new user in the database.
+     * This method creates a new user in the database, see OAuthUserProvisioner.createUser.
      *
      * @param oAuth2User OAuth2User object containing the user's information
      * @param provider   OAuth2Provider object containing the user's provider
@@ -111,24 +102,6 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         String email = oAuth2User.getAttribute(providerToEmail.get(provider));
         user.setEmail(email == null ? user.getFirstName().replaceAll("\\s+","") + "@placeholder.email" : email);
 
-        // Bad practice: Generate an "uncrackable" password for users who log in with OAuth
-        user.setPassword(passwordService.generateEncodedPassword(64));
-        user.setRole(roleRepository.findByName("USER").get());
-
-        logger.info("CustomOAuth2UserService.createUser(): Saving " + user);
-        userRepository.save(user);
-
-        logger.info("CustomOAuth2UserService.createUser(): Initializing user's todo list...");
-        todoInitializer.initUserToDo(user);
-
-        OAuthUser oAuthUser = new OAuthUser();
-        oAuthUser.setProvider(provider);
-        oAuthUser.setProviderUserId(oAuth2User.getAttribute(providerToUniqueId.get(provider)).toString());
-        oAuthUser.setUser(user);
-
-        logger.info("CustomOAuth2UserService.createGitHubUser(): Saving OAuthUser: " + oAuthUser);
-        oAuthUserRepository.save(oAuthUser);
-
-        return user;
+        return oAuthUserProvisioner.createUser(user, provider, uniqueId);
     }
 }
@@ -0,0 +1,95 @@
+package com.example.Todo_list.security.oauth2;
+
+import com.example.Todo_list.entity.OAuthUser;
+import com.example.Todo_list.entity.User;
+import com.example.Todo_list.event.OAuthUserCreatedEvent;
+import com.example.Todo_list.event.UserSavedEvent;
+import com.example.Todo_list.repository.OAuthUserRepository;
+import com.example.Todo_list.repository.UserRepository;
+import com.example.Todo_list.service.RoleService;
+import com.example.Todo_list.service.workspace.WorkspaceProvisioner;
+import com.example.Todo_list.utils.PasswordService;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+
+/**
+ * Service for finding and creating the users behind OAuth logins.
+ * A returning user is found with a single query joining its OAuth account, user and role. A new user and its OAuth
+ * account are saved in one transaction without hashing any password, and the sample workspace is inserted by the
+ * WorkspaceProvisioner in the background once that transaction has committed, so the login redirect does not wait for it.
+ */
+@Service
+@RequiredArgsConstructor
+public class OAuthUserProvisioner {
+
+    private static final Logger logger = LoggerFactory.getLogger(OAuthUserProvisioner.class);
+
+    private final UserRepository userRepository;
+    private final OAuthUserRepository oAuthUserRepository;
+    private final RoleService roleService;
+    private final WorkspaceProvisioner workspaceProvisioner;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Finds the user of an OAuth account, together with the user's role.
+     *
+     * @param provider       the OAuth provider
+     * @param providerUserId the id of the user at the provider
+     * @return the user, or an empty Optional if the OAuth account is not linked to any user yet
+     */
+    public Optional<User> findUser(OAuth2Provider provider, String providerUserId) {
+        return oAuthUserRepository.findWithUserByProviderAndProviderUserId(provider, providerUserId)
+                                  .map(OAuthUser::getUser);
+    }
+
+    /**
+     * Saves a new user with the USER role and links it to its OAuth account in one transaction. Users who log in with
+     * OAuth have no password, so none is hashed.
+     *
+     * @param user           the new user, with its name and email set
+     * @param provider       the OAuth provider
+     * @param providerUserId the id of the user at the provider
+     * @return the saved user
+     */
+    @Transactional
+    public User createUser(User user, OAuth2Provider provider, String providerUserId) {
+        user.setPassword(PasswordService.NO_CREDENTIAL);
+        user.setRole(roleService.findRoleByName("USER"));
+
+        logger.info("OAuthUserProvisioner.createUser(): Saving " + user);
+        userRepository.save(user);
+
+        OAuthUser oAuthUser = new OAuthUser();
+        oAuthUser.setProvider(provider);
+        oAuthUser.setProviderUserId(providerUserId);
+        oAuthUser.setUser(user);
+        logger.info("OAuthUserProvisioner.createUser(): Saving " + oAuthUser);
+        oAuthUserRepository.save(oAuthUser);
+
+        eventPublisher.publishEvent(new UserSavedEvent(user.getId(), user.getFirstName()));
+        eventPublisher.publishEvent(new OAuthUserCreatedEvent(user.getId()));
+        return user;
+    }
+
+    /**
+     * Inserts the sample workspace of a new OAuth user in the background, once the transaction that created the user
+     * has committed.
+     *
+     * @param event the event of the created user
+     */
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public void onOAuthUserCreated(OAuthUserCreatedEvent event) {
+        logger.info("OAuthUserProvisioner.onOAuthUserCreated(): Initializing the todo list of userId={}", event.getUserId());
+        workspaceProvisioner.provisionMemberWorkspace(event.getUserId());
+    }
+}
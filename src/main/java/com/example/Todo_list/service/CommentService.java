@@ -1,7 +1,11 @@
 package com.example.Todo_list.service;
 
+import com.example.Todo_list.dto.ListingFilterDTO;
 import com.example.Todo_list.entity.Comment;
 import com.example.Todo_list.entity.User;
+import com.example.Todo_list.repository.projection.CommentListView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
@@ -69,4 +73,13 @@ public interface CommentService {
      * @return List of all comments in the database.
      */
     List<Comment> findAllComments();
+
+    /**
+     * Find one page of the comments matching a filter, sorted by the database by id, creation time or author name.
+     *
+     * @param filter   the author name, author (owner) and creation date filters
+     * @param pageable the page to find, with at most PageRequests.MAX_PAGE_SIZE comments
+     * @return Page of comments.
+     */
+    Page<CommentListView> findCommentPage(ListingFilterDTO filter, Pageable pageable);
 }
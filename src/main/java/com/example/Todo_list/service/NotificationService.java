@@ -2,7 +2,9 @@ package com.example.Todo_list.service;
 
 import com.example.Todo_list.entity.Notification;
 import com.example.Todo_list.entity.User;
+import com.example.Todo_list.repository.projection.NotificationFeedView;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 
 /**
@@ -10,6 +12,21 @@ import java.util.List;
  */
 public interface NotificationService {
 
+    /**
+     * The maximum number of notifications returned by one page of a notification feed.
+     */
+    int MAX_FEED_LIMIT = 100;
+
+    /**
+     * Clamps a requested feed page size to [1, MAX_FEED_LIMIT].
+     *
+     * @param limit the requested maximum number of notifications
+     * @return the number of notifications a full page of the feed holds
+     */
+    static int feedPageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_FEED_LIMIT));
+    }
+
     /**
      * Sends a notification to a user with the given userId.
      *
@@ -28,13 +45,24 @@ public interface NotificationService {
      */
     void sendNotificationToUser(User user, String title, String message);
 
+    /**
+     * Sends a "Task Due" notification about a task to a user, unless the user has already been notified about it.
+     *
+     * @param userId    The id of the user to send the notification to.
+     * @param taskId    The id of the task that became due.
+     * @param taskName  The name of the task that became due.
+     * @return          true if a notification was sent, false if the user had already been notified.
+     */
+    boolean sendTaskDueNotification(Long userId, Long taskId, String taskName);
+
     /**
      * Sends a notification to all users.
      *
      * @param title     The title of the notification.
      * @param message   The message of the notification.
+     * @return          The number of notifications sent.
      */
-    void sendNotificationToAllUsers(String title, String message);
+    int sendNotificationToAllUsers(String title, String message);
 
     /**
      * Finds a notification by its id.
@@ -52,6 +80,25 @@ public interface NotificationService {
      */
     List<Notification> findNotificationsByUser(User user);
 
+    /**
+     * Finds one page of a user's notification feed, newest first.
+     *
+     * @param userId            The id of the user to find notifications for.
+     * @param beforeCreatedAt   The creation time of the last notification already seen, or null for the first page.
+     * @param beforeId          The id of the last notification already seen, or null for the first page.
+     * @param limit             The maximum number of notifications to return.
+     * @return                  A list of at most limit notifications.
+     */
+    List<NotificationFeedView> findNotificationFeed(Long userId, ZonedDateTime beforeCreatedAt, Long beforeId, int limit);
+
+    /**
+     * Counts the unread notifications of a user.
+     *
+     * @param userId    The id of the user to count notifications for.
+     * @return          The number of unread notifications.
+     */
+    long countUnreadNotifications(Long userId);
+
     /**
      * Finds all notifications.
      *
@@ -6,6 +6,21 @@ import java.util.List;
 
 public interface TaskService {
 
+    /**
+     * The maximum number of tasks returned by one page of a user's task list.
+     */
+    int MAX_PAGE_LIMIT = 100;
+
+    /**
+     * Clamps a requested page size to [1, MAX_PAGE_LIMIT].
+     *
+     * @param limit the requested maximum number of tasks
+     * @return the number of tasks a full page holds
+     */
+    static int pageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_LIMIT));
+    }
+
     /**
      * Saves a task to the database.
      *
@@ -38,12 +53,14 @@ public interface TaskService {
     List<Task> findAllTasksOfToDo(Long todoId);
 
     /**
-     * Finds all tasks assigned to a user.
+     * Finds one page of the tasks assigned to a user, ordered by id.
      *
-     * @param userId the id of the user
-     * @return the list of tasks
+     * @param userId  the id of the user
+     * @param afterId the id of the last task of the previous page, or null for the first page
+     * @param limit   the maximum number of tasks to return, clamped to [1, MAX_PAGE_LIMIT]
+     * @return the list of at most limit tasks
      */
-    List<Task> findAssignedTasksByUserId(Long userId);
+    List<Task> findAssignedTaskPageOfUserId(Long userId, Long afterId, int limit);
 
     /**
      * Assigns a task to a user.
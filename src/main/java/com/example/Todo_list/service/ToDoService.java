@@ -1,6 +1,10 @@
 package com.example.Todo_list.service;
 
+import com.example.Todo_list.dto.ListingFilterDTO;
 import com.example.Todo_list.entity.ToDo;
+import com.example.Todo_list.repository.projection.ToDoListView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
@@ -9,6 +13,21 @@ import java.util.List;
  */
 public interface ToDoService {
 
+    /**
+     * The maximum number of ToDo entities returned by one page of a user's ToDo list.
+     */
+    int MAX_PAGE_LIMIT = 100;
+
+    /**
+     * Clamps a requested page size to [1, MAX_PAGE_LIMIT].
+     *
+     * @param limit the requested maximum number of ToDo entities
+     * @return the number of ToDo entities a full page holds
+     */
+    static int pageSize(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_LIMIT));
+    }
+
     /**
      * Saves a ToDo entity.
      *
@@ -40,12 +59,24 @@ public interface ToDoService {
     List<ToDo> findAllToDos();
 
     /**
-     * Finds all ToDo entities of a user.
+     * Finds one page of the ToDo entities matching a filter, sorted by the database by id, title, creation time or
+     * owner name.
+     *
+     * @param filter   the title, owner and creation date filters
+     * @param pageable the page to find, with at most PageRequests.MAX_PAGE_SIZE ToDo entities
+     * @return a page of ToDo entities
+     */
+    Page<ToDoListView> findToDoPage(ListingFilterDTO filter, Pageable pageable);
+
+    /**
+     * Finds one page of the ToDo entities that a user owns or collaborates on, ordered by id.
      *
-     * @param userId the id of the user
-     * @return a list of all ToDo entities of the user
+     * @param userId  the id of the user
+     * @param afterId the id of the last ToDo of the previous page, or null for the first page
+     * @param limit   the maximum number of ToDo entities to return, clamped to [1, MAX_PAGE_LIMIT]
+     * @return a list of at most limit ToDo entities of the user
      */
-    List<ToDo> findAllToDoOfUserId(Long userId);
+    List<ToDo> findToDoPageOfUserId(Long userId, Long afterId, int limit);
 
     /**
      * Adds a collaborator to a ToDo entity.
@@ -1,6 +1,11 @@
 package com.example.Todo_list.service;
 
+import com.example.Todo_list.dto.ListingFilterDTO;
 import com.example.Todo_list.entity.User;
+import com.example.Todo_list.repository.projection.UserListView;
+import com.example.Todo_list.repository.projection.UserSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
@@ -54,4 +59,21 @@ public interface UserService {
      * @return list of all users
      */
     List<User> findAllUsers();
+
+    /**
+     * Find one page of the users matching a filter, sorted by the database by id, first name, last name, email,
+     * role name or creation time
+     *
+     * @param filter   the name and creation date filters, the owner filter does not apply to users
+     * @param pageable the page to find, with at most PageRequests.MAX_PAGE_SIZE users
+     * @return page of users
+     */
+    Page<UserListView> findUserPage(ListingFilterDTO filter, Pageable pageable);
+
+    /**
+     * Find the id, name and email of all users, ordered by id
+     *
+     * @return list of summaries of all users
+     */
+    List<UserSummary> findAllUserSummaries();
 }
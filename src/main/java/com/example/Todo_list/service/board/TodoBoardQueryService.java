@@ -0,0 +1,70 @@
+package com.example.Todo_list.service.board;
+
+import com.example.Todo_list.dto.BoardTaskDTO;
+import com.example.Todo_list.repository.TaskRepository;
+import com.example.Todo_list.repository.projection.BoardAssigneeView;
+import com.example.Todo_list.repository.projection.BoardTaskView;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read model of the task board of a todo.
+ * The board is built from two queries, one for the tasks already sorted by priority and one for their assignees,
+ * without loading task entities or walking their collections.
+ */
+@Service
+@RequiredArgsConstructor
+public class TodoBoardQueryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoBoardQueryService.class);
+
+    private final TaskRepository taskRepository;
+
+    /**
+     * Finds the tasks of a todo as shown on its task board, from the most to the least urgent priority.
+     *
+     * @param todoId the id of the todo
+     * @return the list of board tasks
+     */
+    public List<BoardTaskDTO> findBoardTasks(Long todoId) {
+        Map<Long, BoardTaskDTO> tasks = new LinkedHashMap<>();
+        for (BoardTaskView view : taskRepository.findBoardTasks(todoId)) {
+            tasks.put(view.getId(), toDTO(view));
+        }
+
+        if (!tasks.isEmpty()) {
+            for (BoardAssigneeView assignee : taskRepository.findBoardAssignees(todoId)) {
+                BoardTaskDTO task = tasks.get(assignee.getTaskId());
+                if (task != null) {
+                    task.getAssigneeIds().add(assignee.getUserId());
+                    task.getAssigneeNames().add(assignee.getFirstName() + " " + assignee.getLastName());
+                }
+            }
+        }
+
+        logger.info("TodoBoardQueryService.findBoardTasks(): Found {} task(s) of ToDo with toDoId={}", tasks.size(), todoId);
+        return List.copyOf(tasks.values());
+    }
+
+    /**
+     * Converts a board task projection into a board task DTO without assignees.
+     *
+     * @param view the board task projection
+     * @return the board task DTO
+     */
+    private static BoardTaskDTO toDTO(BoardTaskView view) {
+        BoardTaskDTO dto = new BoardTaskDTO();
+        dto.setId(view.getId());
+        dto.setName(view.getName());
+        dto.setPriority(view.getPriority());
+        dto.setPriorityOrdinal(view.getPriority() == null ? -1 : view.getPriority().ordinal());
+        dto.setStateName(view.getStateName());
+        return dto;
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.Todo_list.service.github;
+
+import com.example.Todo_list.dto.GitHubActivityDTO;
+import com.example.Todo_list.dto.GitHubRepoActivityDTO;
+import com.example.Todo_list.entity.github.Issue;
+import com.example.Todo_list.entity.github.PullRequest;
+import com.example.Todo_list.entity.github.Repo;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * Aggregates the issues and pull requests of all repositories of a GitHub user into one view, most recently updated
+ * first. Repositories are fetched concurrently, at most MAX_CONCURRENT_REPOS at a time, each within REPO_TIMEOUT; a
+ * repository that fails or times out is reported as such without failing the others, and the requests of a repository
+ * that timed out are cancelled. Results of each repository are handed out as soon as they arrive, so that they can be
+ * streamed to the browser over server-sent events. The stream stays open long enough for every lane to work through
+ * its share of the most repositories listed, and when it ends early, because the browser went away or the stream
+ * timed out, the outstanding requests are cancelled and no further repositories are fetched.
+ */
+@Service
+@RequiredArgsConstructor
+public class GitHubActivityService {
+
+    static final int MAX_CONCURRENT_REPOS = 8;
+    static final Duration REPO_TIMEOUT = Duration.ofSeconds(15);
+    static final Duration REPOS_TIMEOUT = GitHubGateway.REQUEST_TIMEOUT.multipliedBy(
+            (GitHubService.MAX_ITEMS + GitHubGateway.PAGE_SIZE - 1) / GitHubGateway.PAGE_SIZE
+    );
+    static final long EMITTER_TIMEOUT_MILLIS = REPOS_TIMEOUT.plus(REPO_TIMEOUT.multipliedBy(
+            (GitHubService.MAX_ITEMS + MAX_CONCURRENT_REPOS - 1) / MAX_CONCURRENT_REPOS
+    )).toMillis();
+    static final String REPO_EVENT = "repo";
+    static final String DONE_EVENT = "done";
+    static final Comparator<GitHubActivityDTO> NEWEST_FIRST = Comparator.comparing(
+            GitHubActivityDTO::getUpdatedAt, Comparator.nullsLast(Comparator.reverseOrder())
+    );
+
+    private static final Logger logger = LoggerFactory.getLogger(GitHubActivityService.class);
+
+    private final GitHubService gitHubService;
+
+    /**
+     * Streams the activity of all repositories of a user: one REPO_EVENT per repository as soon as it has been
+     * fetched, then a DONE_EVENT with the total number of items. Fetching is cancelled once the emitter completes,
+     * times out or fails.
+     *
+     * @param authorizedClient OAuth2AuthorizedClient
+     * @return the emitter to return from the stream endpoint
+     */
+    public SseEmitter streamActivity(OAuth2AuthorizedClient authorizedClient) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        CompletableFuture<List<GitHubActivityDTO>> fetching =
+                fetchActivity(authorizedClient, repoActivity -> send(emitter, REPO_EVENT, repoActivity));
+        emitter.onCompletion(() -> fetching.cancel(true));
+        emitter.onTimeout(() -> fetching.cancel(true));
+        emitter.onError(e -> fetching.cancel(true));
+
+        fetching.whenComplete((activity, exception) -> {
+            if (fetching.isCancelled()) {
+                logger.info("GitHubActivityService.streamActivity(): Stream ended, cancelled fetching repositories");
+            } else if (exception != null) {
+                logger.info("GitHubActivityService.streamActivity(): Failed to fetch repositories", exception);
+                emitter.completeWithError(exception);
+            } else {
+                send(emitter, DONE_EVENT, activity.size());
+                emitter.complete();
+            }
+        });
+        return emitter;
+    }
+
+    /**
+     * Fetches the issues and pull requests of all repositories of a user. Cancelling the returned future cancels the
+     * requests in flight and starts no further repositories.
+     *
+     * @param authorizedClient OAuth2AuthorizedClient
+     * @param onRepo           called with the activity of each repository as soon as it has been fetched
+     * @return future of the merged activity of all repositories, most recently updated first
+     */
+    public CompletableFuture<List<GitHubActivityDTO>> fetchActivity(OAuth2AuthorizedClient authorizedClient,
+                                                                    Consumer<GitHubRepoActivityDTO> onRepo) {
+        CompletableFuture<List<GitHubActivityDTO>> fetching = new CompletableFuture<>();
+        Set<CompletableFuture<?>> inFlight = ConcurrentHashMap.newKeySet();
+        fetching.whenComplete((activity, exception) -> {
+            if (fetching.isCancelled()) {
+                inFlight.forEach(request -> request.cancel(true));
+            }
+        });
+
+        track(fetching, inFlight, gitHubService.getUserRepos(authorizedClient)).thenCompose(repos -> {
+            List<GitHubActivityDTO> merged = Collections.synchronizedList(new ArrayList<>());
+
+            // Each lane fetches every lanes-th repository one after another, which bounds the repositories in flight
+            int lanes = Math.min(MAX_CONCURRENT_REPOS, repos.size());
+            List<CompletableFuture<Void>> laneFutures = new ArrayList<>();
+            for (int lane = 0; lane < lanes; lane++) {
+                CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+                for (int i = lane; i < repos.size(); i += lanes) {
+                    Repo repo = repos.get(i);
+                    chain = chain.thenCompose(previous -> fetching.isDone()
+                                         ? CompletableFuture.<GitHubRepoActivityDTO>completedFuture(null)
+                                         : fetchRepoActivity(authorizedClient, repo, fetching, inFlight))
+                                 .thenAccept(repoActivity -> {
+                                     if (repoActivity == null || fetching.isDone()) {
+                                         return;
+                                     }
+                                     merged.addAll(repoActivity.getItems());
+                                     onRepo.accept(repoActivity);
+                                 });
+                }
+                laneFutures.add(chain);
+            }
+
+            return CompletableFuture.allOf(laneFutures.toArray(CompletableFuture[]::new)).thenApply(done -> {
+                List<GitHubActivityDTO> activity = new ArrayList<>(merged);
+                activity.sort(NEWEST_FIRST);
+                return activity;
+            });
+        }).whenComplete((activity, exception) -> {
+            if (exception != null) {
+                fetching.completeExceptionally(exception);
+            } else {
+                fetching.complete(activity);
+            }
+        });
+        return fetching;
+    }
+
+    /**
+     * Fetches the issues and pull requests of one repository concurrently. Never completes exceptionally: failures
+     * and timeouts are reported in the error of the result. The requests of a repository that timed out are cancelled.
+     *
+     * @param authorizedClient OAuth2AuthorizedClient
+     * @param repo             the repository
+     * @param fetching         the future of the activity of all repositories
+     * @param inFlight         the requests in flight for all repositories
+     * @return future of the activity of the repository
+     */
+    private CompletableFuture<GitHubRepoActivityDTO> fetchRepoActivity(OAuth2AuthorizedClient authorizedClient, Repo repo,
+                                                                       CompletableFuture<?> fetching,
+                                                                       Set<CompletableFuture<?>> inFlight) {
+        String owner = repo.getOwner().getLogin();
+        String fullName = owner + "/" + repo.getName();
+
+        CompletableFuture<List<Issue>> issues =
+                track(fetching, inFlight, gitHubService.getRepoIssues(authorizedClient, owner, repo.getName()));
+        CompletableFuture<List<PullRequest>> pulls =
+                track(fetching, inFlight, gitHubService.getRepoPullRequests(authorizedClient, owner, repo.getName()));
+        return issues.thenCombine(pulls, (repoIssues, repoPulls) -> toRepoActivity(fullName, repoIssues, repoPulls))
+                     .orTimeout(REPO_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)
+                     .exceptionally(exception -> {
+                         issues.cancel(true);
+                         pulls.cancel(true);
+                         Throwable cause = exception instanceof CompletionException && exception.getCause() != null
+                                 ? exception.getCause()
+                                 : exception;
+                         String error = cause instanceof TimeoutException
+                                 ? "Timed out after " + REPO_TIMEOUT.toSeconds() + " seconds"
+                                 : cause.getMessage();
+                         logger.info("GitHubActivityService.fetchRepoActivity(): Failed to fetch {}: {}", fullName, error);
+                         return new GitHubRepoActivityDTO(fullName, new ArrayList<>(), error);
+                     });
+    }
+
+    /**
+     * Keeps a request among the requests in flight until it completes, so that it can be cancelled with the fetching
+     * it belongs to. A request started after the fetching was cancelled is cancelled right away.
+     *
+     * @param fetching the future of the activity of all repositories
+     * @param inFlight the requests in flight for all repositories
+     * @param request  the request
+     * @param <T>      the type of the request
+     * @return the request
+     */
+    private static <T> CompletableFuture<T> track(CompletableFuture<?> fetching, Set<CompletableFuture<?>> inFlight,
+                                                  CompletableFuture<T> request) {
+        inFlight.add(request);
+        request.whenComplete((result, exception) -> inFlight.remove(request));
+        if (fetching.isCancelled()) {
+            request.cancel(true);
+        }
+        return request;
+    }
+
+    /**
+     * Merges the issues and pull requests of a repository, most recently updated first. The issues endpoint also
+     * lists pull requests, so those are skipped among the issues.
+     *
+     * @param fullName the full name of the repository
+     * @param issues   the issues of the repository
+     * @param pulls    the pull requests of the repository
+     * @return the activity of the repository
+     */
+    private GitHubRepoActivityDTO toRepoActivity(String fullName, List<Issue> issues, List<PullRequest> pulls) {
+        List<GitHubActivityDTO> items = new ArrayList<>();
+        for (Issue issue : issues) {
+            if (issue.getPull_request() == null) {
+                items.add(new GitHubActivityDTO(fullName, "Issue", issue.getTitle(), issue.getHtml_url(), issue.getUpdated_at()));
+            }
+        }
+        for (PullRequest pull : pulls) {
+            items.add(new GitHubActivityDTO(fullName, "Pull Request", pull.getTitle(), pull.getHtml_url(), pull.getUpdated_at()));
+        }
+        items.sort(NEWEST_FIRST);
+        return new GitHubRepoActivityDTO(fullName, items, null);
+    }
+
+    /**
+     * Sends an event, ignoring clients that have gone away.
+     *
+     * @param emitter the emitter
+     * @param name    the name of the event
+     * @param data    the data of the event
+     */
+    private void send(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException | IllegalStateException e) {
+            logger.info("GitHubActivityService.send(): Client went away: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.example.Todo_list.service.github;
+
+import com.example.Todo_list.exception.GitHubApiException;
+import com.example.Todo_list.exception.GitHubRateLimitException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Non-blocking client for the GitHub REST API, shared by all users of the application.
+ * Requests go through one pooled {@link HttpClient} and complete asynchronously, so that no servlet thread waits on
+ * GitHub. Every response with an ETag is cached per access token and revalidated with If-None-Match; a 304 answer
+ * reuses the cached body and does not count against the rate limit. The cache is bounded by the total length of the
+ * cached bodies rather than their number, since one page of JSON can be hundreds of kilobytes. Paginated resources are followed through their
+ * Link headers one page at a time, only while more items are wanted. The remaining rate limit reported by GitHub is
+ * tracked per token, and once it drops to RATE_LIMIT_RESERVE no further requests are sent for that token until the
+ * limit resets: cached pages are served instead, and anything else fails with a GitHubRateLimitException.
+ * Cancelling a returned future aborts the request in flight and fetches no further pages.
+ */
+@Component
+public class GitHubGateway {
+
+    static final int PAGE_SIZE = 100;
+    static final int RATE_LIMIT_RESERVE = 50;
+    static final long MAXIMUM_CACHED_CHARACTERS = 32L * 1024 * 1024;
+    static final Duration CACHED_PAGE_TIME_TO_IDLE = Duration.ofHours(1);
+    static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+    static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final Logger logger = LoggerFactory.getLogger(GitHubGateway.class);
+    private static final Pattern NEXT_LINK = Pattern.compile("<([^>]+)>\\s*;\\s*rel=\"next\"");
+
+    private final String apiUrl;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+                                                    .connectTimeout(CONNECT_TIMEOUT)
+                                                    .followRedirects(HttpClient.Redirect.NORMAL)
+                                                    .build();
+    private final Cache<CacheKey, CachedPage> pages = Caffeine.newBuilder()
+                                                              .maximumWeight(MAXIMUM_CACHED_CHARACTERS)
+                                                              .weigher(GitHubGateway::weigh)
+                                                              .expireAfterAccess(CACHED_PAGE_TIME_TO_IDLE)
+                                                              .build();
+    private final Cache<String, RateLimit> rateLimits = Caffeine.newBuilder()
+                                                                .expireAfterWrite(Duration.ofHours(1))
+                                                                .build();
+
+    public GitHubGateway(@Value("${github.api-url:https://api.github.com}") String apiUrl, ObjectMapper objectMapper) {
+        this.apiUrl = apiUrl;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Fetches the items of a paginated GitHub resource, following its Link headers until maxItems items have been
+     * collected or there are no more pages.
+     *
+     * @param token    the OAuth2 access token of the user
+     * @param path     the path of the resource, relative to the API URL
+     * @param type     the type of the items
+     * @param maxItems the maximum number of items to fetch
+     * @param <T>      the type of the items
+     * @return a future of at most maxItems items
+     */
+    public <T> CompletableFuture<List<T>> fetchAll(String token, String path, Class<T> type, int maxItems) {
+        String url = apiUrl + path + (path.contains("?") ? "&" : "?") + "per_page=" + PAGE_SIZE;
+        return collect(token, url, type, maxItems, new ArrayList<>());
+    }
+
+    /**
+     * Fetches one page of a GitHub resource.
+     *
+     * @param token the OAuth2 access token of the user
+     * @param url   the absolute URL of the page
+     * @param type  the type of the items
+     * @param <T>   the type of the items
+     * @return a future of the page
+     */
+    public <T> CompletableFuture<GitHubPage<T>> fetchPage(String token, String url, Class<T> type) {
+        String tokenKey = digest(token);
+        CacheKey cacheKey = new CacheKey(tokenKey, url);
+        CachedPage cached = pages.getIfPresent(cacheKey);
+
+        RateLimit rateLimit = rateLimits.getIfPresent(tokenKey);
+        if (rateLimit != null && rateLimit.isExhausted(Instant.now())) {
+            if (cached != null) {
+                logger.info("GitHubGateway.fetchPage(): Rate limit budget used up, serving cached {}", url);
+                return CompletableFuture.completedFuture(toPage(cached, type));
+            }
+            return CompletableFuture.failedFuture(new GitHubRateLimitException(rateLimit.resetAt()));
+        }
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+                                                 .timeout(REQUEST_TIMEOUT)
+                                                 .header("Accept", "application/vnd.github+json")
+                                                 .header("Authorization", "Bearer " + token)
+                                                 .GET();
+        if (cached != null) {
+            request.header("If-None-Match", cached.etag());
+        }
+
+        CompletableFuture<HttpResponse<String>> exchange =
+                httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        return cancelling(exchange, exchange.thenApply(response -> {
+                    RateLimit reported = recordRateLimit(tokenKey, response.headers());
+                    int status = response.statusCode();
+                    if (status == 304 && cached != null) {
+                        return toPage(cached, type);
+                    }
+                    if (status == 200) {
+                        CachedPage page = new CachedPage(
+                                response.headers().firstValue("ETag").orElse(null),
+                                response.body(),
+                                nextLink(response.headers())
+                        );
+                        if (page.etag() != null) {
+                            pages.put(cacheKey, page);
+                        }
+                        return toPage(page, type);
+                    }
+                    if ((status == 403 || status == 429) && reported != null && reported.remaining() == 0) {
+                        throw new GitHubRateLimitException(reported.resetAt());
+                    }
+                    throw new GitHubApiException(status, url);
+                }));
+    }
+
+    /**
+     * Appends the page at url to the collected items, then fetches the next page if more items are wanted.
+     *
+     * @param token     the OAuth2 access token of the user
+     * @param url       the absolute URL of the page
+     * @param type      the type of the items
+     * @param maxItems  the maximum number of items to collect
+     * @param collected the items collected so far
+     * @param <T>       the type of the items
+     * @return a future of the collected items
+     */
+    private <T> CompletableFuture<List<T>> collect(String token, String url, Class<T> type, int maxItems, List<T> collected) {
+        CompletableFuture<GitHubPage<T>> page = fetchPage(token, url, type);
+        AtomicReference<CompletableFuture<List<T>>> nextPages = new AtomicReference<>();
+        CompletableFuture<List<T>> items = page.thenCompose(fetched -> {
+            for (T item : fetched.items()) {
+                if (collected.size() == maxItems) {
+                    break;
+                }
+                collected.add(item);
+            }
+            if (fetched.nextUrl() == null || collected.size() >= maxItems) {
+                return CompletableFuture.completedFuture(collected);
+            }
+            nextPages.set(collect(token, fetched.nextUrl(), type, maxItems, collected));
+            return nextPages.get();
+        });
+        items.whenComplete((result, exception) -> {
+            if (items.isCancelled()) {
+                page.cancel(true);
+                CompletableFuture<List<T>> next = nextPages.get();
+                if (next != null) {
+                    next.cancel(true);
+                }
+            }
+        });
+        return items;
+    }
+
+    /**
+     * Cancels the source of a dependent future when the dependent future is cancelled, which CompletableFuture does
+     * not do on its own.
+     *
+     * @param source    the future the dependent future was derived from
+     * @param dependent the dependent future
+     * @param <T>       the type of the dependent future
+     * @return the dependent future
+     */
+    private static <T> CompletableFuture<T> cancelling(CompletableFuture<?> source, CompletableFuture<T> dependent) {
+        dependent.whenComplete((result, exception) -> {
+            if (dependent.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return dependent;
+    }
+
+    /**
+     * Parses a cached or fresh response body into a page.
+     *
+     * @param page the response
+     * @param type the type of the items
+     * @param <T>  the type of the items
+     * @return the parsed page
+     */
+    private <T> GitHubPage<T> toPage(CachedPage page, Class<T> type) {
+        JavaType listType = objectMapper.getTypeFactory().constructCollectionType(List.class, type);
+        try {
+            List<T> items = objectMapper.readValue(page.body(), listType);
+            return new GitHubPage<>(items, page.nextUrl());
+        } catch (JsonProcessingException e) {
+            throw new GitHubApiException("GitHub answered with an unreadable response: " + e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * Remembers the rate limit GitHub reported for a token, if the response carries one.
+     *
+     * @param tokenKey the digest of the token
+     * @param headers  the response headers
+     * @return the reported rate limit, or null if the response carries none
+     */
+    private RateLimit recordRateLimit(String tokenKey, HttpHeaders headers) {
+        OptionalLong remaining = headers.firstValueAsLong("X-RateLimit-Remaining");
+        OptionalLong reset = headers.firstValueAsLong("X-RateLimit-Reset");
+        if (remaining.isEmpty() || reset.isEmpty()) {
+            return null;
+        }
+        RateLimit rateLimit = new RateLimit(remaining.getAsLong(), Instant.ofEpochSecond(reset.getAsLong()));
+        rateLimits.put(tokenKey, rateLimit);
+        return rateLimit;
+    }
+
+    /**
+     * Extracts the URL of the next page from the Link header.
+     *
+     * @param headers the response headers
+     * @return the URL of the next page, or null if this is the last page
+     */
+    private static String nextLink(HttpHeaders headers) {
+        return headers.firstValue("Link")
+                      .map(NEXT_LINK::matcher)
+                      .filter(Matcher::find)
+                      .map(matcher -> matcher.group(1))
+                      .orElse(null);
+    }
+
+    /**
+     * Digests a token, so that tokens are not kept as cache keys.
+     *
+     * @param token the token
+     * @return the hex encoded SHA-256 digest of the token
+     */
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A page of items and the URL of the next page, or null if it is the last one.
+     */
+    public record GitHubPage<T>(List<T> items, String nextUrl) {
+    }
+
+    /**
+     * Weighs a cached page by the number of characters it keeps on the heap.
+     *
+     * @param key  the key of the page
+     * @param page the cached page
+     * @return the weight of the page
+     */
+    private static int weigh(CacheKey key, CachedPage page) {
+        long characters = (long) key.tokenKey().length() + key.url().length() + page.body().length()
+                          + (page.etag() == null ? 0 : page.etag().length())
+                          + (page.nextUrl() == null ? 0 : page.nextUrl().length());
+        return (int) Math.min(characters, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Key of a cached page: the URL as requested with a token.
+     */
+    private record CacheKey(String tokenKey, String url) {
+    }
+
+    /**
+     * A response body cached together with its ETag and the URL of the next page.
+     */
+    private record CachedPage(String etag, String body, String nextUrl) {
+    }
+
+    /**
+     * The rate limit GitHub reported for a token.
+     */
+    private record RateLimit(long remaining, Instant resetAt) {
+
+        /**
+         * Checks whether no more requests should be sent before the rate limit resets.
+         *
+         * @param now the current time
+         * @return true if the budget is used up
+         */
+        boolean isExhausted(Instant now) {
+            return remaining <= RATE_LIMIT_RESERVE && now.isBefore(resetAt);
+        }
+    }
+}
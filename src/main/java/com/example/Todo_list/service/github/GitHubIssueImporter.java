@@ -0,0 +1,217 @@
+package com.example.Todo_list.service.github;
+
+import com.example.Todo_list.entity.GitHubIssueSync;
+import com.example.Todo_list.entity.Priority;
+import com.example.Todo_list.entity.github.Issue;
+import com.example.Todo_list.event.TodoContentChangedEvent;
+import com.example.Todo_list.repository.GitHubIssueSyncRepository;
+import com.example.Todo_list.repository.TaskRepository;
+import com.example.Todo_list.repository.ToDoRepository;
+import com.example.Todo_list.service.StateService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Imports the issues of a GitHub repository into a todo as tasks, linked to their issues by GitHub issue id.
+ * Each sync remembers the latest update time of the issues it imported and only fetches issues updated since, so
+ * re-syncing a large repository costs only the changed issues; an unchanged repository is answered with a 304 by the
+ * GitHub gateway. Changed issues are written with one batched UPDATE for those already imported and one batched
+ * INSERT for the new ones. Closing an issue completes its task, and reopening it moves a completed task back to new;
+ * other state changes made in the todo are kept. As the rows bypass bean validation, titles and bodies are mapped to
+ * a name and description a Task accepts: short titles are prefixed and empty bodies get a default description. An
+ * issue listed twice, as happens when it is updated while its pages are fetched, is written once with its latest
+ * update.
+ * The writes run on the application task executor rather than the HTTP client thread that completed the fetch, and
+ * lock the row of the todo first, so that imports into the same todo are serialized: a concurrent import waits for
+ * the other one to commit and then updates the tasks it created instead of failing on their unique key.
+ */
+@Service
+@RequiredArgsConstructor
+public class GitHubIssueImporter {
+
+    static final int MAX_ISSUES_PER_SYNC = 1000;
+    static final int MAX_TEXT_LENGTH = 255;
+    static final int MIN_NAME_LENGTH = 3;
+    static final String NAME_PREFIX = "GitHub issue";
+    static final String DEFAULT_DESCRIPTION = "Imported from GitHub without a description";
+    static final String OPEN_STATE = "New";
+    static final String CLOSED_STATE = "Completed";
+
+    private static final Logger logger = LoggerFactory.getLogger(GitHubIssueImporter.class);
+
+    private final GitHubService gitHubService;
+    private final GitHubIssueSyncRepository gitHubIssueSyncRepository;
+    private final TaskRepository taskRepository;
+    private final StateService stateService;
+    private final ToDoRepository toDoRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    // Resolved by name among the executors of the application context, to the task executor set up by Spring Boot
+    private final Executor applicationTaskExecutor;
+
+    /**
+     * Imports the issues of a repository updated since the last sync into a todo.
+     *
+     * @param authorizedClient OAuth2AuthorizedClient
+     * @param todoId           the id of the todo
+     * @param owner            the owner of the repository
+     * @param repo             the name of the repository
+     * @return future of the number of tasks created or updated
+     */
+    public CompletableFuture<Integer> importIssues(OAuth2AuthorizedClient authorizedClient, Long todoId, String owner, String repo) {
+        String repository = owner + "/" + repo;
+        ZonedDateTime since = gitHubIssueSyncRepository.findByTodoIdAndRepository(todoId, repository)
+                                                       .map(GitHubIssueSync::getLastUpdatedAt)
+                                                       .orElse(null);
+        logger.info("GitHubIssueImporter.importIssues(): Syncing {} into todoId={} since {}", repository, todoId, since);
+        return gitHubService.getRepoIssuesUpdatedSince(authorizedClient, owner, repo, since, MAX_ISSUES_PER_SYNC)
+                            .thenApplyAsync(issues -> transactionTemplate.execute(status -> upsert(todoId, repository, issues)),
+                                            applicationTaskExecutor);
+    }
+
+    /**
+     * Creates or updates the tasks of the given issues in one transaction and advances the sync of the repository.
+     * Must run in a transaction, which holds the lock on the row of the todo until it ends.
+     *
+     * @param todoId     the id of the todo
+     * @param repository the full name of the repository
+     * @param issues     the issues updated since the last sync
+     * @return the number of tasks created or updated
+     */
+    int upsert(Long todoId, String repository, List<Issue> issues) {
+        // The issues endpoint also lists pull requests, which are not imported. Paging by update time can list an issue
+        // updated mid-sync on two pages, so keep only its latest version
+        Map<Long, Issue> latest = new LinkedHashMap<>();
+        for (Issue issue : issues) {
+            if (issue.getPull_request() == null) {
+                latest.merge(issue.getId(), issue, (kept, other) -> updatedAt(other).isAfter(updatedAt(kept)) ? other : kept);
+            }
+        }
+        List<Issue> imported = new ArrayList<>(latest.values());
+        if (imported.isEmpty()) {
+            return 0;
+        }
+
+        if (jdbcTemplate.queryForList("SELECT id FROM todos WHERE id = ? FOR UPDATE", Long.class, todoId).isEmpty()) {
+            logger.info("GitHubIssueImporter.upsert(): todoId={} was deleted during the sync of {}", todoId, repository);
+            return 0;
+        }
+        Long openStateId = stateService.findStateByName(OPEN_STATE).getId();
+        Long closedStateId = stateService.findStateByName(CLOSED_STATE).getId();
+        Set<Long> existing = new HashSet<>(
+                taskRepository.findImportedGitHubIssueIds(todoId, imported.stream().map(Issue::getId).toList())
+        );
+
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> inserts = new ArrayList<>();
+        for (Issue issue : imported) {
+            boolean closed = "closed".equals(issue.getState());
+            String name = toName(issue.getTitle());
+            String description = toDescription(issue.getBody());
+            if (existing.contains(issue.getId())) {
+                updates.add(new Object[] {
+                        name, description, closed, closedStateId, closedStateId, openStateId, todoId, issue.getId()
+                });
+            } else {
+                inserts.add(new Object[] {
+                        name, description, Priority.MEDIUM.name(), closed ? closedStateId : openStateId, todoId, issue.getId()
+                });
+            }
+        }
+
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "UPDATE tasks SET name = ?, description = ?, " +
+                    "state_id = CASE WHEN ? THEN ? WHEN state_id = ? THEN ? ELSE state_id END " +
+                    "WHERE todo_id = ? AND github_issue_id = ?",
+                    updates
+            );
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO tasks (name, description, priority, state_id, todo_id, github_issue_id) VALUES (?, ?, ?, ?, ?, ?)",
+                    inserts
+            );
+        }
+
+        ZonedDateTime lastUpdatedAt = imported.stream()
+                                            .map(GitHubIssueImporter::updatedAt)
+                                            .max(ZonedDateTime::compareTo)
+                                            .orElseThrow();
+        GitHubIssueSync sync = gitHubIssueSyncRepository.findByTodoIdAndRepository(todoId, repository)
+                .orElseGet(() -> new GitHubIssueSync(toDoRepository.getReferenceById(todoId), repository, lastUpdatedAt));
+        if (lastUpdatedAt.isAfter(sync.getLastUpdatedAt())) {
+            sync.setLastUpdatedAt(lastUpdatedAt);
+        }
+        gitHubIssueSyncRepository.save(sync);
+
+        if (!inserts.isEmpty() || !updates.isEmpty()) {
+            eventPublisher.publishEvent(new TodoContentChangedEvent(todoId));
+        }
+        logger.info("GitHubIssueImporter.upsert(): Synced {} into todoId={}: {} created, {} updated",
+                repository, todoId, inserts.size(), updates.size());
+        return inserts.size() + updates.size();
+    }
+
+    /**
+     * Parses the update time of an issue.
+     *
+     * @param issue the issue
+     * @return the time the issue was last updated
+     */
+    private static ZonedDateTime updatedAt(Issue issue) {
+        return ZonedDateTime.parse(issue.getUpdated_at());
+    }
+
+    /**
+     * Maps the title of an issue to a valid task name, prefixing titles shorter than MIN_NAME_LENGTH.
+     *
+     * @param title the title, may be null
+     * @return a name of MIN_NAME_LENGTH to MAX_TEXT_LENGTH characters
+     */
+    static String toName(String title) {
+        String name = title == null ? "" : title.strip();
+        if (name.length() < MIN_NAME_LENGTH) {
+            name = name.isEmpty() ? NAME_PREFIX : NAME_PREFIX + ": " + name;
+        }
+        return truncate(name);
+    }
+
+    /**
+     * Maps the body of an issue to a valid task description, replacing an empty body with DEFAULT_DESCRIPTION.
+     *
+     * @param body the body, may be null
+     * @return a non-blank description of at most MAX_TEXT_LENGTH characters
+     */
+    static String toDescription(String body) {
+        String description = body == null ? "" : body.strip();
+        return description.isEmpty() ? DEFAULT_DESCRIPTION : truncate(description);
+    }
+
+    /**
+     * Cuts a text down to the length of a task column.
+     *
+     * @param text the text, may be null
+     * @return the text, at most MAX_TEXT_LENGTH characters long
+     */
+    private static String truncate(String text) {
+        return text == null || text.length() <= MAX_TEXT_LENGTH ? text : text.substring(0, MAX_TEXT_LENGTH);
+    }
+}
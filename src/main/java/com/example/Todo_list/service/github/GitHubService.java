@@ -3,50 +3,35 @@ package com.example.Todo_list.service.github;
 import com.example.Todo_list.entity.github.Issue;
 import com.example.Todo_list.entity.github.PullRequest;
 import com.example.Todo_list.entity.github.Repo;
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import lombok.RequiredArgsConstructor;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Service class for GitHub API
  */
 @Service
+@RequiredArgsConstructor
 public class GitHubService {
 
-    private final RestTemplate restTemplate;
-    private final String gitHubApiUrl = "https://api.github.com";
+    static final int MAX_ITEMS = 300;
 
-    public GitHubService(RestTemplateBuilder restTemplateBuilder) {
-        this.restTemplate = restTemplateBuilder.build();
-    }
+    private final GitHubGateway gitHubGateway;
 
     /**
      * Get user's repositories
      * @param authorizedClient OAuth2AuthorizedClient
-     * @return List of user's repositories
+     * @return Future of the user's repositories
      */
-    public List<Repo> getUserRepos(OAuth2AuthorizedClient authorizedClient) {
-        String url = gitHubApiUrl + "/user/repos";
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(authorizedClient.getAccessToken().getTokenValue());
-        HttpEntity<String> entity = new HttpEntity<>(headers);
-
-        ResponseEntity<List<Repo>> response = restTemplate.exchange(
-                url,
-                HttpMethod.GET,
-                entity,
-                new ParameterizedTypeReference<List<Repo>>() {}
-        );
-
-        return response.getBody();
+    public CompletableFuture<List<Repo>> getUserRepos(OAuth2AuthorizedClient authorizedClient) {
+        return gitHubGateway.fetchAll(tokenOf(authorizedClient), "/user/repos", Repo.class, MAX_ITEMS);
     }
 
     /**
@@ -54,22 +39,29 @@ public class GitHubService {
      * @param authorizedClient OAuth2AuthorizedClient
      * @param owner Repository owner
      * @param repo Repository name
-     * @return List of repository's issues
+     * @return Future of the repository's issues
      */
-    public List<Issue> getRepoIssues(OAuth2AuthorizedClient authorizedClient, String owner, String repo) {
-        String url = gitHubApiUrl + "/repos/" + owner + "/" + repo + "/issues";
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(authorizedClient.getAccessToken().getTokenValue());
-        HttpEntity<String> entity = new HttpEntity<>(headers);
-
-        ResponseEntity<List<Issue>> response = restTemplate.exchange(
-                url,
-                HttpMethod.GET,
-                entity,
-                new ParameterizedTypeReference<List<Issue>>() {}
-        );
+    public CompletableFuture<List<Issue>> getRepoIssues(OAuth2AuthorizedClient authorizedClient, String owner, String repo) {
+        return gitHubGateway.fetchAll(tokenOf(authorizedClient), repoPath(owner, repo) + "/issues", Issue.class, MAX_ITEMS);
+    }
 
-        return response.getBody();
+    /**
+     * Get repository's issues, open and closed, updated at or after the given time, least recently updated first.
+     * The issues endpoint also lists pull requests.
+     * @param authorizedClient OAuth2AuthorizedClient
+     * @param owner Repository owner
+     * @param repo Repository name
+     * @param since Only issues updated at or after this time, or null for all issues
+     * @param maxItems Maximum number of issues
+     * @return Future of the repository's issues
+     */
+    public CompletableFuture<List<Issue>> getRepoIssuesUpdatedSince(OAuth2AuthorizedClient authorizedClient, String owner,
+                                                                   String repo, ZonedDateTime since, int maxItems) {
+        String path = repoPath(owner, repo) + "/issues?state=all&sort=updated&direction=asc";
+        if (since != null) {
+            path += "&since=" + DateTimeFormatter.ISO_INSTANT.format(since);
+        }
+        return gitHubGateway.fetchAll(tokenOf(authorizedClient), path, Issue.class, maxItems);
     }
 
     /**
@@ -77,21 +69,29 @@ public class GitHubService {
      * @param authorizedClient OAuth2AuthorizedClient
      * @param owner Repository owner
      * @param repo Repository name
-     * @return List of repository's pull requests
+     * @return Future of the repository's pull requests
      */
-    public List<PullRequest> getRepoPullRequests(OAuth2AuthorizedClient authorizedClient, String owner, String repo) {
-        String url = gitHubApiUrl + "/repos/" + owner + "/" + repo + "/pulls";
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(authorizedClient.getAccessToken().getTokenValue());
-        HttpEntity<String> entity = new HttpEntity<>(headers);
+    public CompletableFuture<List<PullRequest>> getRepoPullRequests(OAuth2AuthorizedClient authorizedClient, String owner, String repo) {
+        return gitHubGateway.fetchAll(tokenOf(authorizedClient), repoPath(owner, repo) + "/pulls", PullRequest.class, MAX_ITEMS);
+    }
 
-        ResponseEntity<List<PullRequest>> response = restTemplate.exchange(
-                url,
-                HttpMethod.GET,
-                entity,
-                new ParameterizedTypeReference<List<PullRequest>>() {}
-        );
+    /**
+     * Get the access token of an authorized client
+     * @param authorizedClient OAuth2AuthorizedClient
+     * @return the access token value
+     */
+    private String tokenOf(OAuth2AuthorizedClient authorizedClient) {
+        return authorizedClient.getAccessToken().getTokenValue();
+    }
 
-        return response.getBody();
+    /**
+     * Build the API path of a repository
+     * @param owner Repository owner
+     * @param repo Repository name
+     * @return the path of the repository
+     */
+    private String repoPath(String owner, String repo) {
+        return "/repos/" + UriUtils.encodePathSegment(owner, StandardCharsets.UTF_8)
+                + "/" + UriUtils.encodePathSegment(repo, StandardCharsets.UTF_8);
     }
 }
@@ -0,0 +1,119 @@
+package com.example.Todo_list.service.guest;
+
+import com.example.Todo_list.event.UserDeletedEvent;
+import com.example.Todo_list.repository.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scheduled reaper that deletes guest users once they expire, together with everything they own.
+ * Expired guests are picked oldest first from the (is_guest, created_at) index in bounded chunks, and each chunk is
+ * removed with one bulk DELETE per table in a single transaction, instead of loading every user and deleting guests
+ * one by one through entity cascades. Deleted rows and durations are recorded as metrics:
+ * guest.reaper.deleted (tagged by table), guest.reaper.chunk and guest.reaper.run.
+ */
+@Service
+@RequiredArgsConstructor
+public class GuestReaper {
+
+    static final Duration GUEST_LIFETIME = Duration.ofMinutes(30);
+    static final int CHUNK_SIZE = 500;
+
+    private static final Logger logger = LoggerFactory.getLogger(GuestReaper.class);
+
+    private final UserRepository userRepository;
+    private final ToDoRepository toDoRepository;
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final NotificationRepository notificationRepository;
+    private final OAuthUserRepository oAuthUserRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * deleteExpiredGuests() method is a scheduled method that runs every 1 minute to delete guest users created more
+     * than GUEST_LIFETIME ago.
+     */
+    @Scheduled(fixedRate = 60000)   // Check every 1 minute
+    public void deleteExpiredGuests() {
+        int deleted = deleteGuestsCreatedBefore(ZonedDateTime.now().minus(GUEST_LIFETIME));
+        if (deleted > 0) {
+            logger.info("GuestReaper.deleteExpiredGuests(): Deleted {} expired guest user(s)", deleted);
+        }
+    }
+
+    /**
+     * Deletes all guest users created before the given time, chunk by chunk.
+     *
+     * @param cutoff guests created before this time are deleted
+     * @return the number of deleted guest users
+     */
+    public int deleteGuestsCreatedBefore(ZonedDateTime cutoff) {
+        Timer.Sample run = Timer.start(meterRegistry);
+        int total = 0;
+        int chunk;
+        do {
+            chunk = deleteChunk(cutoff);
+            total += chunk;
+        } while (chunk == CHUNK_SIZE);
+        run.stop(meterRegistry.timer("guest.reaper.run"));
+        return total;
+    }
+
+    /**
+     * Deletes the next chunk of at most CHUNK_SIZE expired guest users and everything they own in one transaction.
+     * Once the transaction has committed, the deleted rows are counted and a UserDeletedEvent is handled for each
+     * guest so that their sessions are logged out.
+     *
+     * @param cutoff guests created before this time are deleted
+     * @return the number of expired guest users picked for this chunk
+     */
+    private int deleteChunk(ZonedDateTime cutoff) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Map<String, Integer> deletedRows = new LinkedHashMap<>();
+
+        List<Long> guestIds = transactionTemplate.execute(status -> {
+            List<Long> ids = userRepository.findExpiredGuestIds(cutoff, Limit.of(CHUNK_SIZE));
+            if (ids.isEmpty()) {
+                return ids;
+            }
+
+            // Children first, so that no foreign key is violated
+            deletedRows.put("comments", commentRepository.deleteByUserIdsOrTodoOwnerIds(ids));
+            deletedRows.put("notifications", notificationRepository.deleteByUserIds(ids));
+            deletedRows.put("tasks_collaborators", taskRepository.deleteAssignmentsByUserIdsOrTodoOwnerIds(ids));
+            deletedRows.put("tasks", taskRepository.deleteByTodoOwnerIds(ids));
+            deletedRows.put("todos_collaborators", toDoRepository.deleteCollaborationsByUserIdsOrOwnerIds(ids));
+            deletedRows.put("todos", toDoRepository.deleteByOwnerIds(ids));
+            deletedRows.put("oauth_users", oAuthUserRepository.deleteByUserIds(ids));
+            deletedRows.put("users", userRepository.deleteByIds(ids));
+
+            ids.forEach(id -> eventPublisher.publishEvent(new UserDeletedEvent(id)));
+            return ids;
+        });
+
+        if (guestIds == null || guestIds.isEmpty()) {
+            return 0;
+        }
+
+        deletedRows.forEach((table, rows) -> meterRegistry.counter("guest.reaper.deleted", "table", table).increment(rows));
+        long nanos = sample.stop(meterRegistry.timer("guest.reaper.chunk"));
+        logger.info("GuestReaper.deleteChunk(): Deleted {} in {} ms", deletedRows, Duration.ofNanos(nanos).toMillis());
+        return guestIds.size();
+    }
+}
@@ -1,24 +1,24 @@
 package com.example.Todo_list.service.guest;
 
 import com.example.Todo_list.entity.User;
-import com.example.Todo_list.repository.RoleRepository;
+import com.example.Todo_list.event.UserSavedEvent;
 import com.example.Todo_list.repository.UserRepository;
 import com.example.Todo_list.security.local.WebSecurityUserDetails;
+import com.example.Todo_list.service.RoleService;
+import com.example.Todo_list.service.workspace.WorkspaceProvisioner;
 import com.example.Todo_list.utils.PasswordService;
-import com.example.Todo_list.utils.SampleTodoInitializer;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -32,12 +32,13 @@ public class GuestService {
 
     private static final Logger logger = LoggerFactory.getLogger(GuestService.class);
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
-    private final PasswordService passwordService;
-    private final SampleTodoInitializer todoInitializer;
+    private final RoleService roleService;
+    private final WorkspaceProvisioner workspaceProvisioner;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * Creates a temporary guest user and authenticates them.
+     * Creates a temporary guest user with the sample workspace and authenticates them.
+     * Guests cannot log in with a password, so none is hashed; the workspace is inserted by the WorkspaceProvisioner.
      *
      * @param request the request
      */
@@ -48,15 +49,16 @@ public class GuestService {
         User guest = new User();
         guest.setFirstName("Guest");
         guest.setLastName(uuid.toString().substring(0, 8));
-        guest.setRole(roleRepository.findByName("USER").get());
+        guest.setRole(roleService.findRoleByName("USER"));
         guest.setEmail("GUEST_" + uuid.toString().substring(0, 8) + "@example.com");
-        guest.setPassword(passwordService.generateEncodedPassword(64));
+        guest.setPassword(PasswordService.NO_CREDENTIAL);
         guest.setIsGuest(true);
         userRepository.save(guest);
+        eventPublisher.publishEvent(new UserSavedEvent(guest.getId(), guest.getFirstName()));
         logger.info("GuestService.createTemporaryUser: Saved " + guest);
 
         logger.info("GuestService.createTemporaryUser: Initializing user's todo list...");
-        todoInitializer.initUserToDo(guest);
+        workspaceProvisioner.provisionGuestWorkspace(guest.getId());
 
         UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
                 new WebSecurityUserDetails(guest),
@@ -70,20 +72,4 @@ public class GuestService {
 
         logger.info("Guest user signed in: " + guest);
     }
-
-    /**
-     * Deletes expired guest users after 30 minutes
-     */
-    @Scheduled(fixedRate = 60000)
-    public void deleteExpiredUsers() {
-        logger.info("GuestService.deleteExpiredUsers(): Deleting expired users...");
-        LocalDateTime now = LocalDateTime.now();
-
-        for (User user : userRepository.findAll()) {
-            if (user.getIsGuest()  && now.minusMinutes(30).isAfter(user.getCreatedAt().toLocalDateTime())) {
-                logger.info("GuestService.deleteExpiredUsers(): Deleted expired user: {}", user);
-                userRepository.delete(user);
-            }
-        }
-    }
-}
\ No newline at end of file
+}
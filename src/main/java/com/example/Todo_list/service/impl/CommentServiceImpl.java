@@ -1,21 +1,31 @@
 package com.example.Todo_list.service.impl;
 
+import com.example.Todo_list.dto.ListingFilterDTO;
 import com.example.Todo_list.entity.Comment;
 import com.example.Todo_list.entity.User;
+import com.example.Todo_list.event.TodoContentChangedEvent;
 import com.example.Todo_list.exception.NullEntityException;
 import com.example.Todo_list.repository.CommentRepository;
+import com.example.Todo_list.repository.ToDoRepository;
 import com.example.Todo_list.repository.UserRepository;
+import com.example.Todo_list.repository.projection.CommentListView;
 import com.example.Todo_list.service.CommentService;
+import com.example.Todo_list.service.mention.MentionIndex;
+import com.example.Todo_list.utils.PageRequests;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Service class for managing comments.
@@ -25,11 +35,18 @@ import java.util.Optional;
 public class CommentServiceImpl implements CommentService {
 
     private static final Logger logger = LoggerFactory.getLogger(CommentServiceImpl.class);
+    private static final Set<String> SORT_COLUMNS = Set.of("id", "createdAt", "userFirstName");
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "createdAt");
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
+    private final ToDoRepository toDoRepository;
+    private final MentionIndex mentionIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Finds tagged users in a comment.
+     * Mentions are found with the in-memory mention index in one pass over the content, and only the owner and the
+     * collaborators of the comment's todo are kept as tagged users.
      *
      * @param comment the comment to search for tagged users
      * @return a list of tagged users in the comment
@@ -41,22 +58,24 @@ public class CommentServiceImpl implements CommentService {
             throw new NullEntityException(this.getClass().getName(), "Comment cannot be null");
         }
 
-        // Check if comment contains the tagging symbol '@'
-        if (!comment.getContent().contains("@")) {
+        // Find mentioned users in the comment
+        logger.info("CommentService.findTaggedUserInComment(): Finding tagged users in " + comment + " ...");
+        Set<Long> mentionedUserIds = mentionIndex.findMentionedUserIds(comment.getContent());
+        if (mentionedUserIds.isEmpty() || comment.getTask() == null || comment.getTask().getTodo() == null) {
             logger.info("CommentService.findTaggedUserInComment(): No tagged users found in " + comment);
             return Collections.emptyList();
         }
 
-        // Find tagged users in the comment
-        logger.info("CommentService.findTaggedUserInComment(): Finding tagged users in " + comment + " ...");
-        List<User> taggedUsers = new ArrayList<>();
-        for (User user : userRepository.findAll()) {
-            if (comment.getContent().contains("@" + user.getFirstName())) {
-                logger.info("CommentService.findTaggedUserInComment(): Found tagged user called " + user.getFirstName());
-                taggedUsers.add(user);
-            }
+        // Only members of the comment's todo can be tagged
+        List<Long> taggedUserIds = toDoRepository.findMemberIdsAmong(comment.getTask().getTodo().getId(), mentionedUserIds);
+        if (taggedUserIds.isEmpty()) {
+            logger.info("CommentService.findTaggedUserInComment(): No members of the ToDo tagged in " + comment);
+            return Collections.emptyList();
         }
 
+        List<User> taggedUsers = userRepository.findAllById(taggedUserIds);
+        taggedUsers.forEach(user ->
+                logger.info("CommentService.findTaggedUserInComment(): Found tagged user called " + user.getFirstName()));
         return taggedUsers;
     }
 
@@ -74,7 +93,9 @@ public class CommentServiceImpl implements CommentService {
         }
 
         logger.info("CommentService.save(): Saving " + comment + " ...");
-        return commentRepository.save(comment);
+        Comment saved = commentRepository.save(comment);
+        publishTodoContentChanged(saved);
+        return saved;
     }
 
     /**
@@ -127,7 +148,9 @@ public class CommentServiceImpl implements CommentService {
         }
 
         logger.info("CommentService.updateComment(): Updating " + comment + " ...");
-        return commentRepository.save(comment);
+        Comment saved = commentRepository.save(comment);
+        publishTodoContentChanged(saved);
+        return saved;
     }
 
     /**
@@ -140,6 +163,7 @@ public class CommentServiceImpl implements CommentService {
         Comment comment = this.findCommentById(id);
         logger.info("CommentService.deleteCommentById(): Deleting comment with id=" + id + " ...");
         commentRepository.delete(comment);
+        publishTodoContentChanged(comment);
     }
 
     /**
@@ -156,6 +180,7 @@ public class CommentServiceImpl implements CommentService {
 
         logger.info("CommentService.deleteComment(): Deleting " + comment + " ...");
         commentRepository.delete(comment);
+        publishTodoContentChanged(comment);
     }
 
     /**
@@ -168,4 +193,30 @@ public class CommentServiceImpl implements CommentService {
         logger.info("CommentService.findAllComments(): Finding all comments ...");
         return commentRepository.findAll();
     }
+
+    /**
+     * Find one page of the comments matching a filter. Unsupported sorts fall back to the newest comments first.
+     *
+     * @param filter   the author name, author and creation date filters
+     * @param pageable the page to find
+     * @return Page of comments.
+     */
+    @Override
+    public Page<CommentListView> findCommentPage(ListingFilterDTO filter, Pageable pageable) {
+        Pageable page = PageRequests.restrict(pageable, SORT_COLUMNS, DEFAULT_SORT);
+        logger.info("CommentService.findCommentPage(): Finding comments matching {} on {}", filter, page);
+        return commentRepository.findListPage(filter.getNamePattern(), filter.getOwnerId(),
+                                              filter.getCreatedFromTime(), filter.getCreatedBeforeTime(), page);
+    }
+
+    /**
+     * Publishes that the searchable content of the todo of a comment changed.
+     *
+     * @param comment the saved or deleted comment
+     */
+    private void publishTodoContentChanged(Comment comment) {
+        if (comment.getTask() != null && comment.getTask().getTodo() != null) {
+            eventPublisher.publishEvent(new TodoContentChangedEvent(comment.getTask().getTodo().getId()));
+        }
+    }
 }
@@ -1,62 +1,52 @@
 package com.example.Todo_list.service.impl;
 
+import com.example.Todo_list.dto.NotificationDTO;
+import com.example.Todo_list.dto.NotificationTransformer;
 import com.example.Todo_list.entity.Notification;
-import com.example.Todo_list.entity.Task;
+import com.example.Todo_list.entity.NotificationKind;
 import com.example.Todo_list.entity.User;
+import com.example.Todo_list.event.NotificationCreatedEvent;
 import com.example.Todo_list.exception.NullEntityException;
 import com.example.Todo_list.repository.NotificationRepository;
-import com.example.Todo_list.repository.TaskRepository;
 import com.example.Todo_list.repository.UserRepository;
+import com.example.Todo_list.repository.projection.NotificationFeedView;
 import com.example.Todo_list.service.NotificationService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.sql.SQLException;
 import java.time.ZonedDateTime;
 import java.util.List;
-import java.util.Objects;
+import java.util.Locale;
 import java.util.Optional;
 
 /**
  * NotificationServiceImpl is a service class that implements NotificationService interface.
  * It provides methods for sending notifications to users, finding notifications by user, finding all notifications,
- * deleting notifications by id or by object, and checking due tasks.
+ * deleting notifications by id or by object.
  */
 @Service
 @RequiredArgsConstructor
 public class NotificationServiceImpl implements NotificationService {
 
     private static final Logger logger = LoggerFactory.getLogger(NotificationServiceImpl.class);
+    public static final int BROADCAST_CHUNK_SIZE = 10000;
+    static final int MAX_MESSAGE_LENGTH = 255;
+    static final String TASK_DUE_CONSTRAINT = "uk_notifications_user_kind_task";
+    private static final String UNIQUE_VIOLATION = "23505";
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
-    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * checkDueTasks() method is a scheduled method that runs every 1 minute to check for tasks that are past due.
-     * If a task is past due, a notification is sent to all users assigned to the task.
-     */
-    @Scheduled(fixedRate = 60000)   // Check every 1 minute
-    public void checkDueTasks() {
-        for (Task task : taskRepository.findAll()) {
-            if (!Objects.equals(task.getState().getName(), "Completed") &&   // Task is not completed
-                    task.getDeadline() != null &&                               // Task has a due date
-                    task.getDeadline().isBefore(ZonedDateTime.now())) {         // Task is past due
-                for (User user : task.getAssignedUsers()) { // Send notification to all users assigned to the task if they don't already have a notification for the task
-                    if (user.getNotifications() != null &&
-                            user.getNotifications().stream().noneMatch(notification -> notification.getMessage().contains("Task " + task.getName() + " is due"))) {
-                        this.sendNotificationToUserId(user.getId(), "Task Due", "Task " + task.getName() + " is due");
-                    }
-                }
-            }
-        }
-    }
-
-    /**
-     * sendNotificationToUserId() method sends a notification to a user with the given userId.
-     * If the user is not found, an EntityNotFoundException is thrown.
+     * sendNotificationToUserId() method sends a notification to a user with the given userId and publishes it to the
+     * user's open notification streams. If the user is not found, an EntityNotFoundException is thrown.
      *
      * @param userId  the id of the user to send the notification to
      * @param title   the title of the notification
@@ -73,15 +63,16 @@ public class NotificationServiceImpl implements NotificationService {
         Optional<User> user = userRepository.findById(userId);
         if (user.isPresent()) {
             notification.setUser(user.get());
-            notificationRepository.save(notification);
+            Notification saved = notificationRepository.save(notification);
+            eventPublisher.publishEvent(new NotificationCreatedEvent(NotificationTransformer.convertEntityToDTO(saved)));
         } else {
             throw new EntityNotFoundException("User with id=" + userId + " was not found");
         }
     }
 
     /**
-     * sendNotificationToUser() method sends a notification to a user.
-     * If the user is null, a NullEntityException is thrown.
+     * sendNotificationToUser() method sends a notification to a user and publishes it to the user's open
+     * notification streams. If the user is null, a NullEntityException is thrown.
      *
      * @param user    the user to send the notification to
      * @param title   the title of the notification
@@ -100,26 +91,106 @@ public class NotificationServiceImpl implements NotificationService {
         notification.setTitle(title);
         notification.setMessage(message);
         notification.setUser(user);
-        notificationRepository.save(notification);
+        Notification saved = notificationRepository.save(notification);
+        eventPublisher.publishEvent(new NotificationCreatedEvent(NotificationTransformer.convertEntityToDTO(saved)));
+    }
+
+    /**
+     * sendTaskDueNotification() method sends a "Task Due" notification about a task to a user.
+     * The notification is inserted only if the user has no TASK_DUE notification for the task yet; losing a race
+     * against a concurrent insert of the same notification, i.e. violating TASK_DUE_CONSTRAINT, is treated as already
+     * notified. Any other integrity violation is rethrown. The message is cut to MAX_MESSAGE_LENGTH characters.
+     *
+     * @param userId   the id of the user to send the notification to
+     * @param taskId   the id of the task that became due
+     * @param taskName the name of the task that became due
+     * @return true if a notification was sent, false if the user had already been notified
+     */
+    @Override
+    public boolean sendTaskDueNotification(Long userId, Long taskId, String taskName) {
+        try {
+            boolean sent = notificationRepository.insertIfAbsent(
+                    userId, NotificationKind.TASK_DUE.name(), taskId, "Task Due", taskDueMessage(taskName)) > 0;
+            if (sent) {
+                logger.info("NotificationService.sendTaskDueNotification(): Sent due notification for taskId={} to userId={}", taskId, userId);
+                notificationRepository.findFirstByUserIdAndKindAndTaskId(userId, NotificationKind.TASK_DUE, taskId)
+                                      .map(view -> NotificationTransformer.convertFeedViewToDTO(view, userId))
+                                      .ifPresent(dto -> eventPublisher.publishEvent(new NotificationCreatedEvent(dto)));
+            }
+            return sent;
+        } catch (DataIntegrityViolationException e) {
+            if (!violates(e, TASK_DUE_CONSTRAINT)) {
+                throw e;
+            }
+            logger.info("NotificationService.sendTaskDueNotification(): userId={} was already notified about taskId={}", userId, taskId);
+            return false;
+        }
+    }
+
+    /**
+     * Builds the message of a "Task Due" notification, shortening the task name so that the message fits the column.
+     *
+     * @param taskName the name of the task that became due
+     * @return the message, at most MAX_MESSAGE_LENGTH characters long
+     */
+    private static String taskDueMessage(String taskName) {
+        String prefix = "Task ";
+        String suffix = " is due";
+        int maxNameLength = MAX_MESSAGE_LENGTH - prefix.length() - suffix.length();
+        if (taskName.length() > maxNameLength) {
+            taskName = taskName.substring(0, maxNameLength - 3) + "...";
+        }
+        return prefix + taskName + suffix;
+    }
+
+    /**
+     * Checks whether an integrity violation is a unique violation of a given constraint. Hibernate does not extract
+     * the constraint name from every database's error, so the name is looked for in the message of the SQLException,
+     * which both PostgreSQL and H2 include.
+     *
+     * @param e          the integrity violation
+     * @param constraint the lower case name of the unique constraint
+     * @return true if the violation was raised by the constraint
+     */
+    private static boolean violates(DataIntegrityViolationException e, String constraint) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                && UNIQUE_VIOLATION.equals(sqlException.getSQLState())
+                && sqlException.getMessage() != null
+                && sqlException.getMessage().toLowerCase(Locale.ROOT).contains(constraint)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
      * sendNotificationToAllUsers() method sends a notification to all users.
+     * Notifications are inserted set-based, one INSERT ... SELECT per range of BROADCAST_CHUNK_SIZE user ids, so no
+     * User entity is loaded and each chunk commits on its own. Progress is logged after every chunk.
      *
      * @param title   the title of the notification
      * @param message the message of the notification
+     * @return the number of notifications sent
      */
     @Override
-    public void sendNotificationToAllUsers(String title, String message) {
+    public int sendNotificationToAllUsers(String title, String message) {
         logger.info("NotificationService.sendNotificationToAllUsers(): Sending notifications to all users with title={}, message={}", title, message);
-        List<User> users = userRepository.findAll();
-        for (User user : users) {
-            Notification notification = new Notification();
-            notification.setTitle(title);
-            notification.setMessage(message);
-            notification.setUser(user);
-            notificationRepository.save(notification);
+
+        Long minId = userRepository.findMinId();
+        Long maxId = userRepository.findMaxId();
+        if (minId == null || maxId == null) {
+            logger.info("NotificationService.sendNotificationToAllUsers(): No users to notify");
+            return 0;
         }
+
+        int sent = 0;
+        for (long fromId = minId; fromId <= maxId; fromId += BROADCAST_CHUNK_SIZE) {
+            long toId = Math.min(fromId + BROADCAST_CHUNK_SIZE - 1, maxId);
+            sent += notificationRepository.insertForUserRange(title, message, fromId, toId);
+            logger.info("NotificationService.sendNotificationToAllUsers(): Sent {} notification(s), users up to id={} of {}", sent, toId, maxId);
+        }
+        return sent;
     }
 
     /**
@@ -158,6 +229,41 @@ public class NotificationServiceImpl implements NotificationService {
         return notificationRepository.findByUser(user);
     }
 
+    /**
+     * findNotificationFeed() method finds one page of a user's notification feed, newest first.
+     * Pages are addressed by the (createdAt, id) of the last notification already seen, so that each page is a
+     * single index range scan no matter how deep the user pages. The limit is clamped to [1, MAX_FEED_LIMIT].
+     *
+     * @param userId          the id of the user to find notifications for
+     * @param beforeCreatedAt the creation time of the last notification already seen, or null for the first page
+     * @param beforeId        the id of the last notification already seen, or null for the first page
+     * @param limit           the maximum number of notifications to return
+     * @return a list of at most limit notifications
+     */
+    @Override
+    public List<NotificationFeedView> findNotificationFeed(Long userId, ZonedDateTime beforeCreatedAt, Long beforeId, int limit) {
+        logger.info("NotificationService.findNotificationFeed(): Finding notifications of userId={} before ({}, {}) with limit={}", userId, beforeCreatedAt, beforeId, limit);
+
+        Limit pageLimit = Limit.of(NotificationService.feedPageSize(limit));
+        if (beforeCreatedAt == null || beforeId == null) {
+            return notificationRepository.findFeed(userId, pageLimit);
+        }
+        return notificationRepository.findFeedBefore(userId, beforeCreatedAt, beforeId, pageLimit);
+    }
+
+    /**
+     * countUnreadNotifications() method counts the unread notifications of a user.
+     * Notifications are deleted once they are marked as read, so every stored notification is unread.
+     *
+     * @param userId the id of the user to count notifications for
+     * @return the number of unread notifications
+     */
+    @Override
+    public long countUnreadNotifications(Long userId) {
+        logger.info("NotificationService.countUnreadNotifications(): Counting notifications of userId={}", userId);
+        return notificationRepository.countByUserId(userId);
+    }
+
     /**
      * findAllNotifications() method finds all notifications.
      *
@@ -1,5 +1,6 @@
 package com.example.Todo_list.service.impl;
 
+import com.example.Todo_list.config.CacheConfig;
 import com.example.Todo_list.entity.Role;
 import com.example.Todo_list.repository.RoleRepository;
 import com.example.Todo_list.service.RoleService;
@@ -8,6 +9,8 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -15,6 +18,7 @@ import java.util.Optional;
 
 /**
  * Service class for managing Role entities.
+ * Lookups are cached by id, by name and as a whole list (see CacheConfig); deleting a role evicts them.
  */
 @Service
 @Transactional
@@ -30,6 +34,7 @@ public class RoleServiceImpl implements RoleService {
      * @return Role with given id
      */
     @Override
+    @Cacheable(cacheNames = CacheConfig.ROLES_BY_ID, key = "#id", condition = "#id != null")
     public Role findRoleById(Long id) {
         Optional<Role> role = roleRepository.findById(id);
 
@@ -48,6 +53,7 @@ public class RoleServiceImpl implements RoleService {
      * @return Role with given name
      */
     @Override
+    @Cacheable(cacheNames = CacheConfig.ROLES_BY_NAME, key = "#name", condition = "#name != null")
     public Role findRoleByName(String name) {
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException("Cannot find Role with null or empty name");
@@ -69,6 +75,7 @@ public class RoleServiceImpl implements RoleService {
      * @param name - name of Role
      */
     @Override
+    @CacheEvict(cacheNames = {CacheConfig.ROLES_BY_ID, CacheConfig.ROLES_BY_NAME, CacheConfig.ALL_ROLES}, allEntries = true)
     public void deleteRoleByName(String name) {
         Role role = this.findRoleByName(name);
         logger.info("RoleService.deleteRoleByName(): Deleting " + role);
@@ -80,6 +87,7 @@ public class RoleServiceImpl implements RoleService {
      * @return list of Roles
      */
     @Override
+    @Cacheable(CacheConfig.ALL_ROLES)
     public List<Role> findAllRoles() {
         logger.info("RoleService.findAllRoles(): Finding all Roles");
         return roleRepository.findAll();
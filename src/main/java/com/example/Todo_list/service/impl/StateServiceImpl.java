@@ -1,5 +1,6 @@
 package com.example.Todo_list.service.impl;
 
+import com.example.Todo_list.config.CacheConfig;
 import com.example.Todo_list.entity.State;
 import com.example.Todo_list.exception.NullEntityException;
 import com.example.Todo_list.repository.StateRepository;
@@ -9,13 +10,16 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
 
 /**
- * Service class for managing states
+ * Service class for managing states.
+ * Lookups are cached by id, by name and as a whole list (see CacheConfig); saving or deleting a state evicts them.
  */
 @Service
 @Transactional
@@ -32,6 +36,7 @@ public class StateServiceImpl implements StateService {
      * @return the saved state
      */
     @Override
+    @CacheEvict(cacheNames = {CacheConfig.STATES_BY_ID, CacheConfig.STATES_BY_NAME, CacheConfig.ALL_STATES}, allEntries = true)
     public State save(State state) {
         if (state == null) {
             logger.error("StateService.createState(): Attempting to create null state");
@@ -42,7 +47,14 @@ public class StateServiceImpl implements StateService {
         return stateRepository.save(state);
     }
 
+    /**
+     * Finds a state by its id
+     *
+     * @param id the id of the state to be found
+     * @return the state with the given id
+     */
     @Override
+    @Cacheable(cacheNames = CacheConfig.STATES_BY_ID, key = "#id", condition = "#id != null")
     public State findStateById(Long id) {
         if (id == null) {
             logger.error("StateService.findStateById(): Cannot find State with null id");
@@ -66,6 +78,7 @@ public class StateServiceImpl implements StateService {
      * @return the state with the given name
      */
     @Override
+    @Cacheable(cacheNames = CacheConfig.STATES_BY_NAME, key = "#name", condition = "#name != null")
     public State findStateByName(String name) {
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException("Cannot find State with null or empty name");
@@ -87,6 +100,7 @@ public class StateServiceImpl implements StateService {
      * @param name the name of the state to be deleted
      */
     @Override
+    @CacheEvict(cacheNames = {CacheConfig.STATES_BY_ID, CacheConfig.STATES_BY_NAME, CacheConfig.ALL_STATES}, allEntries = true)
     public void deleteStateByName(String name) {
         State state = this.findStateByName(name);
         logger.info("StateService.deleteStateByName(): Deleting " + state);
@@ -99,6 +113,7 @@ public class StateServiceImpl implements StateService {
      * @return a list of all states
      */
     @Override
+    @Cacheable(CacheConfig.ALL_STATES)
     public List<State> findAllStates() {
         logger.info("StateService.findAllState(): Finding all states");
         return stateRepository.findAll();
@@ -2,6 +2,8 @@ package com.example.Todo_list.service.impl;
 
 import com.example.Todo_list.entity.Task;
 import com.example.Todo_list.entity.User;
+import com.example.Todo_list.event.TaskDueEvent;
+import com.example.Todo_list.event.TodoContentChangedEvent;
 import com.example.Todo_list.exception.NullEntityException;
 import com.example.Todo_list.repository.TaskRepository;
 import com.example.Todo_list.repository.UserRepository;
@@ -11,8 +13,11 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +32,7 @@ public class TaskServiceImpl implements TaskService {
     private static final Logger logger = LoggerFactory.getLogger(TaskServiceImpl.class);
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Saves a task to the database
@@ -42,7 +48,10 @@ public class TaskServiceImpl implements TaskService {
         }
 
         logger.info("TaskService.save(): Saving " + task);
-        return taskRepository.save(task);
+        Task saved = taskRepository.save(task);
+        publishTodoContentChanged(saved);
+        publishTaskDueIfPastDeadline(saved);
+        return saved;
     }
 
     /**
@@ -73,6 +82,7 @@ public class TaskServiceImpl implements TaskService {
         Task task = this.findTaskById(id);
         logger.info("TaskService.deleteTaskById(): Successfully deleted " + task.toString());
         taskRepository.delete(task);
+        publishTodoContentChanged(task);
     }
 
     /**
@@ -86,14 +96,17 @@ public class TaskServiceImpl implements TaskService {
     }
 
     /**
-     * Finds all tasks in the database
-     * @param userId ID of the user
-     * @return List of all tasks
+     * Finds one page of the tasks assigned to a user, ordered by id, starting after the given task id
+     * @param userId  ID of the user
+     * @param afterId ID of the last task of the previous page, or null for the first page
+     * @param limit   Maximum number of tasks to return, clamped to [1, MAX_PAGE_LIMIT]
+     * @return List of at most limit tasks
      */
     @Override
-    public List<Task> findAssignedTasksByUserId(Long userId) {
-        logger.info("TaskService.findTaskByAssignedUserId(): Finding all tasks by userId=" + userId);
-        return taskRepository.findAssignedTasksByUserId(userId);
+    public List<Task> findAssignedTaskPageOfUserId(Long userId, Long afterId, int limit) {
+        logger.info("TaskService.findAssignedTaskPageOfUserId(): Finding tasks of userId={} after taskId={} with limit={}", userId, afterId, limit);
+        Limit pageLimit = Limit.of(TaskService.pageSize(limit));
+        return taskRepository.findAssignedTaskPage(userId, afterId == null ? 0L : afterId, pageLimit);
     }
 
     /**
@@ -112,6 +125,7 @@ public class TaskServiceImpl implements TaskService {
         logger.info("TaskService.assignTaskToUser(): Assigned task " + task + " to user with id=" + userId);
         userRepository.save(user);
         taskRepository.save(task);
+        publishTaskDueIfPastDeadline(task);
     }
 
     /**
@@ -131,4 +145,25 @@ public class TaskServiceImpl implements TaskService {
         userRepository.save(user);
         taskRepository.save(task);
     }
+
+    /**
+     * Publishes that a task is due if its deadline has already passed, so that its assignees are notified even if the
+     * overdue task scanner has already scanned past the deadline
+     * @param task the saved or assigned task
+     */
+    private void publishTaskDueIfPastDeadline(Task task) {
+        if (task.getId() != null && task.getDeadline() != null && !task.getDeadline().isAfter(ZonedDateTime.now())) {
+            eventPublisher.publishEvent(new TaskDueEvent(task.getId()));
+        }
+    }
+
+    /**
+     * Publishes that the searchable content of the todo of a task changed
+     * @param task the saved or deleted task
+     */
+    private void publishTodoContentChanged(Task task) {
+        if (task.getTodo() != null) {
+            eventPublisher.publishEvent(new TodoContentChangedEvent(task.getTodo().getId()));
+        }
+    }
 }
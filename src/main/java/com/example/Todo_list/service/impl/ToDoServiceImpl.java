@@ -1,21 +1,30 @@
 package com.example.Todo_list.service.impl;
 
+import com.example.Todo_list.dto.ListingFilterDTO;
 import com.example.Todo_list.entity.ToDo;
 import com.example.Todo_list.entity.User;
+import com.example.Todo_list.event.TodoContentChangedEvent;
 import com.example.Todo_list.exception.NullEntityException;
 import com.example.Todo_list.exception.UserIsToDoOwnerException;
 import com.example.Todo_list.repository.ToDoRepository;
 import com.example.Todo_list.repository.UserRepository;
+import com.example.Todo_list.repository.projection.ToDoListView;
 import com.example.Todo_list.service.ToDoService;
+import com.example.Todo_list.utils.PageRequests;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Service class for ToDo
@@ -26,8 +35,11 @@ import java.util.Optional;
 public class ToDoServiceImpl implements ToDoService {
 
     private final static Logger logger = LoggerFactory.getLogger(ToDoServiceImpl.class);
+    private static final Set<String> SORT_COLUMNS = Set.of("id", "title", "createdAt", "ownerFirstName", "ownerLastName");
+    private static final Sort DEFAULT_SORT = Sort.by("id");
     private final ToDoRepository toDoRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Saves a ToDo to the database
@@ -43,7 +55,9 @@ public class ToDoServiceImpl implements ToDoService {
         }
 
         logger.info("ToDoService.save(): Saving " + toDo);
-        return toDoRepository.save(toDo);
+        ToDo saved = toDoRepository.save(toDo);
+        eventPublisher.publishEvent(new TodoContentChangedEvent(saved.getId()));
+        return saved;
     }
 
     /**
@@ -75,6 +89,7 @@ public class ToDoServiceImpl implements ToDoService {
         ToDo todo = this.findToDoById(id);
         logger.info("ToDoService.deleteToDoById(): Deleting " + todo);
         toDoRepository.delete(todo);
+        eventPublisher.publishEvent(new TodoContentChangedEvent(id));
     }
 
     /**
@@ -89,15 +104,33 @@ public class ToDoServiceImpl implements ToDoService {
     }
 
     /**
-     * Finds all ToDos of a user by its id
+     * Finds one page of the ToDos matching a filter. Unsupported sorts fall back to sorting by id.
      *
-     * @param userId Id of the user
-     * @return List of all ToDos of the user
+     * @param filter   the title, owner and creation date filters
+     * @param pageable the page to find
+     * @return a page of ToDos
      */
     @Override
-    public List<ToDo> findAllToDoOfUserId(Long userId) {
-        logger.info("ToDoService.findAllToDoOfUserId(): Finding all ToDos of ownerId/userId=" + userId);
-        return toDoRepository.findTodoByOwnerId(userId);
+    public Page<ToDoListView> findToDoPage(ListingFilterDTO filter, Pageable pageable) {
+        Pageable page = PageRequests.restrict(pageable, SORT_COLUMNS, DEFAULT_SORT);
+        logger.info("ToDoService.findToDoPage(): Finding ToDos matching {} on {}", filter, page);
+        return toDoRepository.findListPage(filter.getNamePattern(), filter.getOwnerId(),
+                                           filter.getCreatedFromTime(), filter.getCreatedBeforeTime(), page);
+    }
+
+    /**
+     * Finds one page of the ToDos that a user owns or collaborates on, ordered by id, starting after the given ToDo id
+     *
+     * @param userId  Id of the user
+     * @param afterId Id of the last ToDo of the previous page, or null for the first page
+     * @param limit   Maximum number of ToDos to return, clamped to [1, MAX_PAGE_LIMIT]
+     * @return List of at most limit ToDos of the user
+     */
+    @Override
+    public List<ToDo> findToDoPageOfUserId(Long userId, Long afterId, int limit) {
+        logger.info("ToDoService.findToDoPageOfUserId(): Finding ToDos of ownerId/userId={} after toDoId={} with limit={}", userId, afterId, limit);
+        int pageLimit = ToDoService.pageSize(limit);
+        return toDoRepository.findTodoPageOfUser(userId, afterId == null ? 0L : afterId, pageLimit);
     }
 
     /**
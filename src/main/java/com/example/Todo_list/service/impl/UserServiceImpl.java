@@ -1,21 +1,35 @@
 package com.example.Todo_list.service.impl;
 
+import com.example.Todo_list.config.CacheConfig;
+import com.example.Todo_list.dto.ListingFilterDTO;
 import com.example.Todo_list.entity.User;
+import com.example.Todo_list.event.UserDeletedEvent;
+import com.example.Todo_list.event.UserSavedEvent;
 import com.example.Todo_list.exception.NullEntityException;
 import com.example.Todo_list.repository.OAuthUserRepository;
 import com.example.Todo_list.repository.UserRepository;
+import com.example.Todo_list.repository.projection.UserListView;
+import com.example.Todo_list.repository.projection.UserSummary;
 import com.example.Todo_list.service.UserService;
+import com.example.Todo_list.service.workspace.WorkspaceProvisioner;
+import com.example.Todo_list.utils.PageRequests;
 import com.example.Todo_list.utils.PasswordService;
-import com.example.Todo_list.utils.SampleTodoInitializer;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Service class for managing User entities.
@@ -26,10 +40,14 @@ import java.util.Optional;
 public class UserServiceImpl implements UserService {
 
     private static final Logger logger = LoggerFactory.getLogger(UserServiceImpl.class);
+    private static final Set<String> SORT_COLUMNS = Set.of("id", "firstName", "lastName", "email", "roleName", "createdAt");
+    private static final Sort DEFAULT_SORT = Sort.by("id");
     private final UserRepository userRepository;
     private final OAuthUserRepository oAuthUserRepository;
     private final PasswordService passwordService;
-    private final SampleTodoInitializer todoInitializer;
+    private final WorkspaceProvisioner workspaceProvisioner;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
 
     /**
      * Saves a User entity to the database.
@@ -49,9 +67,14 @@ public class UserServiceImpl implements UserService {
 
         logger.info("UserService.save(): Saving " + user);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserSavedEvent(user.getId(), user.getFirstName()));
 
         logger.info("UserService.save(): Initializing user's todo list...");
-        todoInitializer.initUserToDo(user);
+        if (Boolean.TRUE.equals(user.getIsGuest())) {
+            workspaceProvisioner.provisionGuestWorkspace(user.getId());
+        } else {
+            workspaceProvisioner.provisionMemberWorkspace(user.getId());
+        }
 
         return user;
     }
@@ -97,7 +120,8 @@ public class UserServiceImpl implements UserService {
     }
 
     /**
-     * Updates a User entity in the database.
+     * Updates a User entity in the database, and evicts the cached login principal under both the old and the new
+     * email of the user.
      *
      * @param user User entity to update
      * @return the updated User entity
@@ -111,12 +135,17 @@ public class UserServiceImpl implements UserService {
         }
 
         User oldUser = this.findUserById(user.getId());
+        String oldEmail = oldUser.getEmail();
         logger.info("UserService.updateUser(): Updating " + oldUser + " to " + user);
-        return userRepository.save(user);
+        User updatedUser = userRepository.save(user);
+        evictPrincipals(oldEmail, user.getEmail());
+        eventPublisher.publishEvent(new UserSavedEvent(user.getId(), user.getFirstName()));
+        return updatedUser;
     }
 
     /**
-     * Deletes a User entity from the database.
+     * Deletes a User entity from the database, evicts the cached login principal of the user and publishes a
+     * UserDeletedEvent so that the user is logged out.
      *
      * @param id the id of the User entity to delete
      * @throws EntityNotFoundException if no User entity with the given id was found
@@ -127,6 +156,8 @@ public class UserServiceImpl implements UserService {
         logger.info("UserService.deleteUserById(): Deleting " + user);
         oAuthUserRepository.deleteOAuthUserByUser(user);
         userRepository.delete(user);
+        evictPrincipals(user.getEmail());
+        eventPublisher.publishEvent(new UserDeletedEvent(id));
     }
 
     /**
@@ -139,4 +170,47 @@ public class UserServiceImpl implements UserService {
         logger.info("UserService.findAllUser(): Finding all users");
         return userRepository.findAll();
     }
+
+    /**
+     * Finds one page of the users matching a filter. Unsupported sorts fall back to sorting by id.
+     *
+     * @param filter   the name and creation date filters
+     * @param pageable the page to find
+     * @return a page of users
+     */
+    @Override
+    public Page<UserListView> findUserPage(ListingFilterDTO filter, Pageable pageable) {
+        Pageable page = PageRequests.restrict(pageable, SORT_COLUMNS, DEFAULT_SORT);
+        logger.info("UserService.findUserPage(): Finding users matching {} on {}", filter, page);
+        return userRepository.findListPage(filter.getNamePattern(), filter.getCreatedFromTime(), filter.getCreatedBeforeTime(), page);
+    }
+
+    /**
+     * Finds the id, name and email of all users, ordered by id.
+     *
+     * @return a list of summaries of all users
+     */
+    @Override
+    public List<UserSummary> findAllUserSummaries() {
+        logger.info("UserService.findAllUserSummaries(): Finding summaries of all users");
+        return userRepository.findAllSummaries();
+    }
+
+    /**
+     * Evicts the cached login principals of the given emails, see WebSecurityUserDetailsService.loadUserByUsername.
+     * The cache manager is transaction aware, so the eviction happens once the current transaction has committed.
+     *
+     * @param emails the emails of the users whose principals changed
+     */
+    private void evictPrincipals(String... emails) {
+        Cache principals = cacheManager.getCache(CacheConfig.PRINCIPALS);
+        if (principals == null) {
+            return;
+        }
+        for (String email : emails) {
+            if (email != null) {
+                principals.evict(email);
+            }
+        }
+    }
 }
@@ -0,0 +1,201 @@
+package com.example.Todo_list.service.mention;
+
+import java.util.*;
+
+/**
+ * Aho-Corasick automaton over the mentions "@" + first name of a set of distinct first names.
+ * A single left-to-right pass over a text finds every mention it contains, including overlapping ones, in time
+ * linear in the length of the text plus the number of matches, independently of the number of users.
+ * First names are added and removed one at a time: adding a name only adds the states of its path that are not in the
+ * trie yet, and removing one only prunes the states no other name passes through. The failure links are then
+ * recomputed by link() before the next search. The automaton is not thread-safe; MentionIndex guards it with a lock.
+ */
+final class MentionAutomaton {
+
+    static final char MENTION_PREFIX = '@';
+
+    private static final int ROOT = 0;
+
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final List<String> outputs = new ArrayList<>();
+    private final Deque<Integer> freeStates = new ArrayDeque<>();
+    private int[] failure = new int[0];
+    private int[] dictionaryLink = new int[0];
+    private boolean linked = false;
+
+    /**
+     * Builds an empty automaton.
+     */
+    MentionAutomaton() {
+        addState();
+    }
+
+    /**
+     * Builds the automaton of the mentions of the given first names.
+     *
+     * @param firstNames the distinct first names
+     */
+    MentionAutomaton(Collection<String> firstNames) {
+        this();
+        firstNames.forEach(this::addFirstName);
+        link();
+    }
+
+    /**
+     * Adds the mention of a first name to the trie.
+     *
+     * @param firstName the first name, ignored if null or empty
+     */
+    void addFirstName(String firstName) {
+        if (firstName == null || firstName.isEmpty()) {
+            return;
+        }
+
+        String mention = MENTION_PREFIX + firstName;
+        int state = ROOT;
+        for (int i = 0; i < mention.length(); i++) {
+            Integer child = transitions.get(state).get(mention.charAt(i));
+            if (child == null) {
+                child = addState();
+                transitions.get(state).put(mention.charAt(i), child);
+            }
+            state = child;
+        }
+        outputs.set(state, firstName);
+        linked = false;
+    }
+
+    /**
+     * Removes the mention of a first name from the trie, pruning the states that no other mention passes through.
+     *
+     * @param firstName the first name, ignored if null, empty or not in the trie
+     */
+    void removeFirstName(String firstName) {
+        if (firstName == null || firstName.isEmpty()) {
+            return;
+        }
+
+        String mention = MENTION_PREFIX + firstName;
+        int[] path = new int[mention.length() + 1];
+        for (int i = 0; i < mention.length(); i++) {
+            Integer child = transitions.get(path[i]).get(mention.charAt(i));
+            if (child == null) {
+                return;
+            }
+            path[i + 1] = child;
+        }
+
+        outputs.set(path[mention.length()], null);
+        for (int i = mention.length(); i > 0; i--) {
+            int state = path[i];
+            if (!transitions.get(state).isEmpty() || outputs.get(state) != null) {
+                break;
+            }
+            transitions.get(path[i - 1]).remove(mention.charAt(i - 1));
+            freeStates.push(state);
+        }
+        linked = false;
+    }
+
+    /**
+     * Checks whether the failure links reflect the current trie, i.e. whether the automaton can be searched.
+     *
+     * @return true if no first name was added or removed since the last link()
+     */
+    boolean isLinked() {
+        return linked;
+    }
+
+    /**
+     * Computes the failure link of every state (its longest proper suffix that is also in the trie) and its
+     * dictionary link (the nearest state along the failure links at which a mention ends), in breadth-first order.
+     */
+    void link() {
+        if (linked) {
+            return;
+        }
+
+        failure = new int[transitions.size()];
+        dictionaryLink = new int[transitions.size()];
+
+        Deque<Integer> queue = new ArrayDeque<>(transitions.get(ROOT).values());
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> transition : transitions.get(state).entrySet()) {
+                int child = transition.getValue();
+                int fallback = failure[state];
+                while (fallback != ROOT && !transitions.get(fallback).containsKey(transition.getKey())) {
+                    fallback = failure[fallback];
+                }
+                Integer target = transitions.get(fallback).get(transition.getKey());
+                failure[child] = target == null || target == child ? ROOT : target;
+                dictionaryLink[child] = outputs.get(failure[child]) == null
+                        ? dictionaryLink[failure[child]]
+                        : failure[child];
+                queue.add(child);
+            }
+        }
+        linked = true;
+    }
+
+    /**
+     * Finds the first names mentioned in a text. The automaton must be linked.
+     *
+     * @param text the text to search
+     * @return the mentioned first names, in order of first mention
+     */
+    Set<String> findMentionedFirstNames(String text) {
+        if (!linked) {
+            throw new IllegalStateException("MentionAutomaton must be linked before searching");
+        }
+
+        Set<String> firstNames = new LinkedHashSet<>();
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            for (int match = outputs.get(state) == null ? dictionaryLink[state] : state;
+                 match != ROOT;
+                 match = dictionaryLink[match]) {
+                firstNames.add(outputs.get(match));
+            }
+        }
+        return firstNames;
+    }
+
+    /**
+     * Returns the number of states in the trie of the automaton.
+     *
+     * @return the number of states
+     */
+    int size() {
+        return transitions.size() - freeStates.size();
+    }
+
+    /**
+     * Adds an empty state to the trie of the automaton, reusing a pruned state if there is one.
+     *
+     * @return the index of the new state
+     */
+    private int addState() {
+        if (!freeStates.isEmpty()) {
+            return freeStates.pop();
+        }
+        transitions.add(new HashMap<>());
+        outputs.add(null);
+        return transitions.size() - 1;
+    }
+
+    /**
+     * Returns the state reached from a state on a character, following failure links where the trie has no edge.
+     *
+     * @param state     the current state
+     * @param character the next character of the text
+     * @return the next state
+     */
+    private int next(int state, char character) {
+        while (state != ROOT && !transitions.get(state).containsKey(character)) {
+            state = failure[state];
+        }
+        return transitions.get(state).getOrDefault(character, ROOT);
+    }
+}
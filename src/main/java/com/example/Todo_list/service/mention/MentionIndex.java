@@ -0,0 +1,175 @@
+package com.example.Todo_list.service.mention;
+
+import com.example.Todo_list.event.UserDeletedEvent;
+import com.example.Todo_list.event.UserSavedEvent;
+import com.example.Todo_list.repository.UserRepository;
+import com.example.Todo_list.repository.projection.UserSummary;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of the mentions "@" + first name of all users, used to find the users tagged in a comment in one
+ * pass over its text. The first names are loaded once from the database and then kept up to date from committed
+ * UserSavedEvents and UserDeletedEvents. The automaton holds each distinct first name once, and the users sharing a
+ * first name are kept beside it: adding or removing a user under a first name that is already indexed, such as the
+ * "Guest" of every guest account, leaves the automaton untouched, and only first names that are new or no longer
+ * used add or prune states.
+ */
+@Component
+@RequiredArgsConstructor
+public class MentionIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(MentionIndex.class);
+
+    private final UserRepository userRepository;
+    private final Map<Long, String> firstNames = new HashMap<>();
+    private final Map<String, Set<Long>> userIdsByFirstName = new HashMap<>();
+    private final MentionAutomaton automaton = new MentionAutomaton();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private boolean loaded = false;
+
+    /**
+     * Finds the ids of the users mentioned in a text.
+     *
+     * @param text the text to search
+     * @return the ids of the mentioned users, in order of first mention
+     */
+    public Set<Long> findMentionedUserIds(String text) {
+        if (text == null || text.indexOf(MentionAutomaton.MENTION_PREFIX) < 0) {
+            return Collections.emptySet();
+        }
+
+        while (true) {
+            lock.readLock().lock();
+            try {
+                if (loaded && automaton.isLinked()) {
+                    Set<Long> userIds = new LinkedHashSet<>();
+                    for (String firstName : automaton.findMentionedFirstNames(text)) {
+                        userIds.addAll(userIdsByFirstName.getOrDefault(firstName, Set.of()));
+                    }
+                    return userIds;
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            link();
+        }
+    }
+
+    /**
+     * Records the first name of a created or updated user once the transaction that saved it has committed.
+     *
+     * @param event the event of the saved user
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserSaved(UserSavedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+
+            String previous = firstNames.put(event.getUserId(), event.getFirstName());
+            if (!Objects.equals(previous, event.getFirstName())) {
+                removeUser(event.getUserId(), previous);
+                addUser(event.getUserId(), event.getFirstName());
+                logger.info("MentionIndex.onUserSaved(): First name of userId={} changed", event.getUserId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Forgets a deleted user once the transaction that deleted it has committed.
+     *
+     * @param event the event of the deleted user
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (loaded && firstNames.containsKey(event.getUserId())) {
+                removeUser(event.getUserId(), firstNames.remove(event.getUserId()));
+                logger.info("MentionIndex.onUserDeleted(): Removed userId={}", event.getUserId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Loads the first names from the database on first use, and recomputes the links of the automaton if first names
+     * were added or removed since the last search.
+     */
+    private void link() {
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                for (UserSummary user : userRepository.findAllSummaries()) {
+                    firstNames.put(user.getId(), user.getFirstName());
+                    addUser(user.getId(), user.getFirstName());
+                }
+                loaded = true;
+            }
+            if (!automaton.isLinked()) {
+                automaton.link();
+                logger.info("MentionIndex.link(): Linked mentions of {} user(s) into {} state(s)", firstNames.size(), automaton.size());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a user under a first name, adding the first name to the automaton if no other user has it. Must hold the
+     * write lock.
+     *
+     * @param userId    the id of the user
+     * @param firstName the first name of the user
+     */
+    private void addUser(Long userId, String firstName) {
+        if (firstName == null || firstName.isEmpty()) {
+            return;
+        }
+
+        Set<Long> userIds = userIdsByFirstName.computeIfAbsent(firstName, name -> new HashSet<>());
+        if (userIds.isEmpty()) {
+            automaton.addFirstName(firstName);
+        }
+        userIds.add(userId);
+    }
+
+    /**
+     * Removes a user from under a first name, removing the first name from the automaton if no other user has it.
+     * Must hold the write lock.
+     *
+     * @param userId    the id of the user
+     * @param firstName the first name of the user
+     */
+    private void removeUser(Long userId, String firstName) {
+        Set<Long> userIds = firstName == null ? null : userIdsByFirstName.get(firstName);
+        if (userIds == null) {
+            return;
+        }
+
+        userIds.remove(userId);
+        if (userIds.isEmpty()) {
+            userIdsByFirstName.remove(firstName);
+            automaton.removeFirstName(firstName);
+        }
+    }
+}
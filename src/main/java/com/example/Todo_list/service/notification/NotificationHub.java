@@ -0,0 +1,123 @@
+package com.example.Todo_list.service.notification;
+
+import com.example.Todo_list.dto.NotificationDTO;
+import com.example.Todo_list.event.NotificationCreatedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process publish/subscribe hub that pushes newly created notifications to the browsers of their users over
+ * server-sent events. Every open page, including several tabs of one session, holds its own emitter, which is only
+ * dropped once it completes, times out or fails, so that tabs never close each other's streams. Emitters of pages
+ * that were closed without completing are dropped by the next heartbeat.
+ */
+@Component
+public class NotificationHub {
+
+    static final String NOTIFICATION_EVENT = "notification";
+    static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationHub.class);
+
+    private final Map<Long, Set<SseEmitter>> emittersByUser = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a new emitter that will receive the notifications of a user, alongside the user's other open pages.
+     *
+     * @param userId the id of the user
+     * @return the emitter to return from the stream endpoint
+     */
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(e -> remove(userId, emitter));
+
+        emittersByUser.compute(userId, (id, emitters) -> {
+            Set<SseEmitter> pages = emitters == null ? ConcurrentHashMap.newKeySet() : emitters;
+            pages.add(emitter);
+            return pages;
+        });
+
+        logger.info("NotificationHub.subscribe(): Subscribed a page of userId={}", userId);
+        return emitter;
+    }
+
+    /**
+     * Pushes a notification to every open page of its user. Emitters that can no longer be written to are dropped.
+     *
+     * @param notification the notification to push
+     */
+    public void publish(NotificationDTO notification) {
+        Set<SseEmitter> emitters = emittersByUser.get(notification.getUserId());
+        if (emitters == null) {
+            return;
+        }
+
+        emitters.forEach(emitter -> {
+            try {
+                emitter.send(SseEmitter.event().name(NOTIFICATION_EVENT).data(notification));
+            } catch (IOException | IllegalStateException e) {
+                remove(notification.getUserId(), emitter);
+            }
+        });
+    }
+
+    /**
+     * Pushes a notification once the transaction that created it has committed, or immediately if there is none.
+     *
+     * @param event the event of the created notification
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationCreated(NotificationCreatedEvent event) {
+        publish(event.getNotification());
+    }
+
+    /**
+     * Sends a comment to every open emitter so that idle connections are not closed by proxies, and drops the
+     * emitters whose clients have gone away.
+     */
+    @Scheduled(fixedRate = 25000)
+    public void sendHeartbeat() {
+        emittersByUser.forEach((userId, emitters) -> emitters.forEach(emitter -> {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                remove(userId, emitter);
+            }
+        }));
+    }
+
+    /**
+     * Counts the open emitters of a user.
+     *
+     * @param userId the id of the user
+     * @return the number of subscribed pages
+     */
+    int subscriberCount(Long userId) {
+        Set<SseEmitter> emitters = emittersByUser.get(userId);
+        return emitters == null ? 0 : emitters.size();
+    }
+
+    /**
+     * Removes an emitter that has completed, timed out or failed.
+     *
+     * @param userId  the id of the user
+     * @param emitter the emitter to remove
+     */
+    private void remove(Long userId, SseEmitter emitter) {
+        emittersByUser.computeIfPresent(userId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.Todo_list.service.notification;
+
+import com.example.Todo_list.entity.ScanCheckpoint;
+import com.example.Todo_list.event.TaskDueEvent;
+import com.example.Todo_list.repository.ScanCheckpointRepository;
+import com.example.Todo_list.repository.TaskRepository;
+import com.example.Todo_list.repository.projection.OverdueTaskView;
+import com.example.Todo_list.repository.projection.TaskAssigneeView;
+import com.example.Todo_list.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Scheduled scanner that notifies assigned users when their tasks become overdue.
+ * Instead of sweeping the whole tasks table, each run only looks at tasks whose deadline fell between the previous
+ * run's high-water mark and now, paging through them in bounded batches so that memory use does not grow with the
+ * size of the table. A task that is saved or assigned with a deadline that has already passed, e.g. created already
+ * overdue or with its deadline moved back, may lie before every future window, so its assignees are notified as soon
+ * as the TaskDueEvent of the change is committed.
+ */
+@Service
+@RequiredArgsConstructor
+public class OverdueTaskScanner {
+
+    static final String CHECKPOINT_NAME = "overdue-tasks";
+    static final String COMPLETED_STATE = "Completed";
+    static final int BATCH_SIZE = 500;
+
+    private static final Logger logger = LoggerFactory.getLogger(OverdueTaskScanner.class);
+    private static final ZonedDateTime INITIAL_MARK = ZonedDateTime.ofInstant(Instant.EPOCH, ZoneOffset.UTC);
+
+    private final TaskRepository taskRepository;
+    private final ScanCheckpointRepository scanCheckpointRepository;
+    private final NotificationService notificationService;
+
+    /**
+     * checkDueTasks() method is a scheduled method that runs every 1 minute to check for tasks that became past due
+     * since the last run. A notification is sent to all users assigned to such a task.
+     */
+    @Scheduled(fixedRate = 60000)   // Check every 1 minute
+    public void checkDueTasks() {
+        ZonedDateTime from = scanCheckpointRepository.findById(CHECKPOINT_NAME)
+                                                     .map(ScanCheckpoint::getHighWaterMark)
+                                                     .orElse(INITIAL_MARK);
+        ZonedDateTime upTo = ZonedDateTime.now();
+
+        int scanned = scanWindow(from, upTo);
+
+        scanCheckpointRepository.save(new ScanCheckpoint(CHECKPOINT_NAME, upTo));
+        logger.info("OverdueTaskScanner.checkDueTasks(): Scanned {} overdue task(s) with deadlines in ({}, {}]", scanned, from, upTo);
+    }
+
+    /**
+     * Notifies the assignees of a task once the transaction that saved or assigned it while due has committed. This
+     * does not wait for the high-water mark: a scan running concurrently may already have passed the deadline, and a
+     * task whose deadline is still in the window of the next scan is not notified twice, since a user gets at most one
+     * TASK_DUE notification per task.
+     *
+     * @param event the event of the due task
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onTaskDue(TaskDueEvent event) {
+        taskRepository.findTaskWithDeadline(event.getTaskId(), COMPLETED_STATE)
+                      .filter(task -> !task.getDeadline().isAfter(ZonedDateTime.now()))
+                      .ifPresent(task -> {
+                          logger.info("OverdueTaskScanner.onTaskDue(): Notifying the assignees of taskId={}, due at {}", task.getId(), task.getDeadline());
+                          notifyAssignees(List.of(task));
+                      });
+    }
+
+    /**
+     * Pages through every non-completed task whose deadline lies in the window (from, upTo] and notifies its assignees.
+     *
+     * @param from the exclusive lower bound of the window
+     * @param upTo the inclusive upper bound of the window
+     * @return the number of overdue tasks found in the window
+     */
+    private int scanWindow(ZonedDateTime from, ZonedDateTime upTo) {
+        ZonedDateTime afterDeadline = from;
+        Long afterId = Long.MAX_VALUE;
+        int scanned = 0;
+
+        List<OverdueTaskView> batch;
+        do {
+            batch = taskRepository.findOverdueTasks(upTo, afterDeadline, afterId, COMPLETED_STATE, Limit.of(BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            notifyAssignees(batch);
+            scanned += batch.size();
+
+            OverdueTaskView last = batch.get(batch.size() - 1);
+            afterDeadline = last.getDeadline();
+            afterId = last.getId();
+        } while (batch.size() == BATCH_SIZE);
+
+        return scanned;
+    }
+
+    /**
+     * Sends a "Task Due" notification to every user assigned to a task of the batch, unless they already have one.
+     *
+     * @param batch the overdue tasks
+     */
+    private void notifyAssignees(List<OverdueTaskView> batch) {
+        Map<Long, OverdueTaskView> tasksById = batch.stream()
+                                                    .collect(Collectors.toMap(OverdueTaskView::getId, task -> task));
+
+        for (TaskAssigneeView assignee : taskRepository.findAssigneesByTaskIds(tasksById.keySet())) {
+            OverdueTaskView task = tasksById.get(assignee.getTaskId());
+            notificationService.sendTaskDueNotification(assignee.getUserId(), task.getId(), task.getName());
+        }
+    }
+}
@@ -0,0 +1,330 @@
+package com.example.Todo_list.service.search;
+
+import com.example.Todo_list.dto.SearchResultDTO;
+import com.example.Todo_list.event.TodoContentChangedEvent;
+import com.example.Todo_list.event.UserDeletedEvent;
+import com.example.Todo_list.repository.CommentRepository;
+import com.example.Todo_list.repository.TaskRepository;
+import com.example.Todo_list.repository.ToDoRepository;
+import com.example.Todo_list.repository.projection.SearchDocumentView;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Embedded inverted index used when the database has no full-text search of its own, such as the H2 database of the
+ * test profile. The text of all todos, tasks and comments is loaded from the database on the first search and then
+ * kept up to date one todo at a time from committed TodoContentChangedEvents. Deleting users deletes their todos and
+ * comments in bulk, so a UserDeletedEvent reindexes the todos that the user owned or commented on.
+ * Words are lower cased, common English stop words are dropped and plurals are folded to a simple singular. A result
+ * ranks by the weights of the query words in it, words of a title counting more than words of a description, each
+ * scaled by how rare the word is.
+ */
+@RequiredArgsConstructor
+public class InMemorySearchIndex implements SearchIndex {
+
+    static final double TITLE_WEIGHT = 1.0;
+    static final double TEXT_WEIGHT = 0.4;
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemorySearchIndex.class);
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it", "of", "on", "or", "the",
+            "this", "to", "with"
+    );
+    private static final Comparator<SearchResultDTO> RANKING = Comparator.comparingDouble(SearchResultDTO::getRank)
+            .reversed()
+            .thenComparing(result -> result.getType().name())
+            .thenComparing(SearchResultDTO::getId);
+
+    private final ToDoRepository toDoRepository;
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+
+    private final Map<DocumentKey, Document> documents = new HashMap<>();
+    private final Map<String, Map<DocumentKey, Double>> postings = new HashMap<>();
+    private final Map<Long, Set<DocumentKey>> documentsByTodo = new HashMap<>();
+    private final Map<Long, Set<DocumentKey>> documentsByUser = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private boolean loaded = false;
+
+    /**
+     * Finds one page of the todos, tasks and comments containing all words of a query, best match first, among those
+     * belonging to the todos a user owns or collaborates on.
+     *
+     * @param query    the words to search for
+     * @param userId   the id of the user, or null to search all todos
+     * @param pageable the page to find; its sort is ignored
+     * @return the page of results
+     */
+    @Override
+    public Page<SearchResultDTO> search(String query, Long userId, Pageable pageable) {
+        List<String> words = tokenize(query).stream().distinct().toList();
+        if (words.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        Set<Long> visibleTodoIds = userId == null ? null : new HashSet<>(toDoRepository.findMemberTodoIds(userId));
+        ensureLoaded();
+
+        List<SearchResultDTO> results = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            List<Map<DocumentKey, Double>> matches = new ArrayList<>();
+            for (String word : words) {
+                Map<DocumentKey, Double> posting = postings.get(word);
+                if (posting == null) {
+                    return Page.empty(pageable);
+                }
+                matches.add(posting);
+            }
+            // Walk the rarest word and look the others up
+            matches.sort(Comparator.comparingInt(Map::size));
+
+            candidates:
+            for (DocumentKey key : matches.get(0).keySet()) {
+                Document document = documents.get(key);
+                if (visibleTodoIds != null && !visibleTodoIds.contains(document.todoId())) {
+                    continue;
+                }
+
+                double rank = 0;
+                for (Map<DocumentKey, Double> posting : matches) {
+                    Double weight = posting.get(key);
+                    if (weight == null) {
+                        continue candidates;
+                    }
+                    rank += weight * Math.log(1 + (double) documents.size() / posting.size());
+                }
+                results.add(document.toResult(rank));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        results.sort(RANKING);
+        int from = (int) Math.min(pageable.getOffset(), results.size());
+        int to = Math.min(from + pageable.getPageSize(), results.size());
+        logger.info("InMemorySearchIndex.search(): Found {} result(s) for {} of userId={}", results.size(), words, userId);
+        return new PageImpl<>(results.subList(from, to), pageable, results.size());
+    }
+
+    /**
+     * Reindexes a todo with its tasks and comments once the transaction that changed it has committed. A deleted todo
+     * or task takes its tasks and comments out of the index with it.
+     *
+     * @param event the event of the changed todo
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoContentChanged(TodoContentChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            removeTodo(event.getTodoId());
+            addTodo(event.getTodoId());
+            logger.info("InMemorySearchIndex.onTodoContentChanged(): Reindexed todoId={}", event.getTodoId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reindexes the todos a user owned or commented on once the transaction that deleted the user has committed, so
+     * that the todos and comments deleted with the user are gone from the next search. The rest of the index is kept.
+     *
+     * @param event the event of the deleted user
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDeleted(UserDeletedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            Set<DocumentKey> keys = documentsByUser.getOrDefault(event.getUserId(), Set.of());
+            Set<Long> todoIds = new HashSet<>();
+            keys.forEach(key -> todoIds.add(documents.get(key).todoId()));
+            for (Long todoId : todoIds) {
+                removeTodo(todoId);
+                addTodo(todoId);
+            }
+            logger.info("InMemorySearchIndex.onUserDeleted(): Reindexed todoIds={} after deleting userId={}",
+                        todoIds, event.getUserId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Splits a text into its lower case words, without stop words and with plurals folded to a simple singular.
+     *
+     * @param text the text to split
+     * @return the words of the text, in order
+     */
+    static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+
+        List<String> words = new ArrayList<>();
+        for (String word : SEPARATORS.split(text.toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty() && !STOP_WORDS.contains(word)) {
+                words.add(singular(word));
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Folds the regular English plural endings of a word.
+     *
+     * @param word the lower case word
+     * @return the word without its plural ending
+     */
+    private static String singular(String word) {
+        if (word.length() > 4 && word.endsWith("ies")) {
+            return word.substring(0, word.length() - 3) + "y";
+        }
+        if (word.endsWith("sses")) {
+            return word.substring(0, word.length() - 2);
+        }
+        if (word.length() > 3 && word.endsWith("s") && !word.endsWith("ss")) {
+            return word.substring(0, word.length() - 1);
+        }
+        return word;
+    }
+
+    /**
+     * Loads the text of all todos, tasks and comments on first use.
+     */
+    private void ensureLoaded() {
+        lock.readLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                addTodo(null);
+                loaded = true;
+                logger.info("InMemorySearchIndex.ensureLoaded(): Indexed {} document(s) with {} distinct word(s)",
+                            documents.size(), postings.size());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indexes the text of a todo with its tasks and comments. Must hold the write lock.
+     *
+     * @param todoId the id of the todo, or null for all todos
+     */
+    private void addTodo(Long todoId) {
+        toDoRepository.findSearchDocuments(todoId).forEach(view -> add(SearchDocumentType.TODO, view));
+        taskRepository.findSearchDocuments(todoId).forEach(view -> add(SearchDocumentType.TASK, view));
+        commentRepository.findSearchDocuments(todoId).forEach(view -> add(SearchDocumentType.COMMENT, view));
+    }
+
+    /**
+     * Indexes the text of one todo, task or comment. Comments are titled by their task, but only their content is
+     * searched. Must hold the write lock.
+     *
+     * @param type the type of the document
+     * @param view the text of the document
+     */
+    private void add(SearchDocumentType type, SearchDocumentView view) {
+        Map<String, Double> weights = new HashMap<>();
+        if (type != SearchDocumentType.COMMENT) {
+            tokenize(view.getTitle()).forEach(word -> weights.merge(word, TITLE_WEIGHT, Double::sum));
+        }
+        tokenize(view.getText()).forEach(word -> weights.merge(word, TEXT_WEIGHT, Double::sum));
+
+        DocumentKey key = new DocumentKey(type, view.getId());
+        documents.put(key, new Document(
+                type, view.getId(), view.getTodoId(), view.getTaskId(), view.getUserId(), view.getTitle(), view.getText(),
+                weights.keySet()
+        ));
+        weights.forEach((word, weight) -> postings.computeIfAbsent(word, w -> new HashMap<>()).put(key, weight));
+        documentsByTodo.computeIfAbsent(view.getTodoId(), id -> new HashSet<>()).add(key);
+        if (view.getUserId() != null) {
+            documentsByUser.computeIfAbsent(view.getUserId(), id -> new HashSet<>()).add(key);
+        }
+    }
+
+    /**
+     * Removes a todo with its tasks and comments from the index. Must hold the write lock.
+     *
+     * @param todoId the id of the todo
+     */
+    private void removeTodo(Long todoId) {
+        Set<DocumentKey> keys = documentsByTodo.remove(todoId);
+        if (keys == null) {
+            return;
+        }
+
+        for (DocumentKey key : keys) {
+            Document document = documents.remove(key);
+            for (String word : document.words()) {
+                Map<DocumentKey, Double> posting = postings.get(word);
+                posting.remove(key);
+                if (posting.isEmpty()) {
+                    postings.remove(word);
+                }
+            }
+
+            Set<DocumentKey> userKeys = documentsByUser.get(document.userId());
+            if (userKeys != null) {
+                userKeys.remove(key);
+                if (userKeys.isEmpty()) {
+                    documentsByUser.remove(document.userId());
+                }
+            }
+        }
+    }
+
+    /**
+     * The type and id identifying an indexed todo, task or comment.
+     */
+    private record DocumentKey(SearchDocumentType type, Long id) {
+    }
+
+    /**
+     * An indexed todo, task or comment with the user it is deleted with and the distinct words it is indexed under.
+     */
+    private record Document(SearchDocumentType type, Long id, Long todoId, Long taskId, Long userId, String title,
+                            String text, Set<String> words) {
+
+        /**
+         * Converts the document into a search result.
+         *
+         * @param rank the rank of the document for the search
+         * @return the search result
+         */
+        SearchResultDTO toResult(double rank) {
+            return new SearchResultDTO(type, id, todoId, taskId, title, text, rank);
+        }
+    }
+}
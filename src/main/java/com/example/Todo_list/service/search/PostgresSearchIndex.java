@@ -0,0 +1,103 @@
+package com.example.Todo_list.service.search;
+
+import com.example.Todo_list.dto.SearchResultDTO;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Full-text search on PostgreSQL. Todos, tasks and comments carry a generated tsvector column with a GIN index, added
+ * by search-postgres.sql once Hibernate has created the tables; PostgreSQL recomputes the column in the same statement
+ * whenever the service layer saves a todo, task or comment, and deleted rows leave the index with their row.
+ * Queries are parsed with websearch_to_tsquery, so quoted phrases, "or" and "-word" work as in a web search engine,
+ * and results are ranked with ts_rank.
+ */
+@RequiredArgsConstructor
+public class PostgresSearchIndex implements SearchIndex, InitializingBean {
+
+    static final String SCHEMA_SCRIPT = "search-postgres.sql";
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgresSearchIndex.class);
+
+    private static final String ALL_TODOS = "SELECT id FROM todos";
+    private static final String MEMBER_TODOS =
+            "SELECT id FROM todos WHERE owner_id = :userId " +
+            "UNION SELECT todo_id FROM todos_collaborators WHERE collaborator_id = :userId";
+    private static final String HITS =
+            "WITH query AS (SELECT websearch_to_tsquery('english', :query) AS q), " +
+            "visible_todos AS (%s), " +
+            "hits AS (" +
+            "SELECT 'TODO' AS type, t.id AS id, t.id AS todo_id, CAST(NULL AS BIGINT) AS task_id, t.title AS title, " +
+            "t.description AS text, ts_rank(t.search_vector, query.q) AS rank " +
+            "FROM query, todos t JOIN visible_todos v ON v.id = t.id WHERE t.search_vector @@ query.q " +
+            "UNION ALL " +
+            "SELECT 'TASK', k.id, k.todo_id, k.id, k.name, k.description, ts_rank(k.search_vector, query.q) " +
+            "FROM query, tasks k JOIN visible_todos v ON v.id = k.todo_id WHERE k.search_vector @@ query.q " +
+            "UNION ALL " +
+            "SELECT 'COMMENT', c.id, k.todo_id, k.id, k.name, c.comment, ts_rank(c.search_vector, query.q) " +
+            "FROM query, comments c JOIN tasks k ON k.id = c.task_id JOIN visible_todos v ON v.id = k.todo_id " +
+            "WHERE c.search_vector @@ query.q" +
+            ") ";
+    private static final String PAGE =
+            "SELECT type, id, todo_id, task_id, title, text, rank FROM hits " +
+            "ORDER BY rank DESC, type, id LIMIT :limit OFFSET :offset";
+    private static final String COUNT = "SELECT COUNT(*) FROM hits";
+
+    private static final RowMapper<SearchResultDTO> RESULT_MAPPER = (rs, rowNum) -> new SearchResultDTO(
+            SearchDocumentType.valueOf(rs.getString("type")),
+            rs.getLong("id"),
+            rs.getLong("todo_id"),
+            rs.getObject("task_id", Long.class),
+            rs.getString("title"),
+            rs.getString("text"),
+            rs.getDouble("rank")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds the search columns and their indexes if they do not exist yet.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        new ResourceDatabasePopulator(new ClassPathResource(SCHEMA_SCRIPT))
+                .execute(Objects.requireNonNull(jdbcTemplate.getJdbcTemplate().getDataSource()));
+        logger.info("PostgresSearchIndex.afterPropertiesSet(): Search columns and indexes are in place");
+    }
+
+    /**
+     * Finds one page of the todos, tasks and comments matching a web search query, best match first, among those
+     * belonging to the todos a user owns or collaborates on. The total is only counted when the page does not tell it.
+     *
+     * @param query    the web search query
+     * @param userId   the id of the user, or null to search all todos
+     * @param pageable the page to find; its sort is ignored
+     * @return the page of results
+     */
+    @Override
+    public Page<SearchResultDTO> search(String query, Long userId, Pageable pageable) {
+        String hits = String.format(HITS, userId == null ? ALL_TODOS : MEMBER_TODOS);
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("userId", userId)
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+
+        List<SearchResultDTO> results = jdbcTemplate.query(hits + PAGE, parameters, RESULT_MAPPER);
+        logger.info("PostgresSearchIndex.search(): Found {} result(s) on {} for '{}' of userId={}", results.size(), pageable, query, userId);
+        return PageableExecutionUtils.getPage(results, pageable,
+                                              () -> jdbcTemplate.queryForObject(hits + COUNT, parameters, Long.class));
+    }
+}
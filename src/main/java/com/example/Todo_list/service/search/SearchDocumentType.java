@@ -0,0 +1,8 @@
+package com.example.Todo_list.service.search;
+
+/**
+ * Enum representing what a search result is: a todo, a task or a comment on a task.
+ */
+public enum SearchDocumentType {
+    TODO, TASK, COMMENT
+}
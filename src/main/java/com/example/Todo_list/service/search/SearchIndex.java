@@ -0,0 +1,23 @@
+package com.example.Todo_list.service.search;
+
+import com.example.Todo_list.dto.SearchResultDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Full-text index of the titles and descriptions of todos, the names and descriptions of tasks and the content of
+ * comments. Titles and names weigh more than descriptions.
+ */
+public interface SearchIndex {
+
+    /**
+     * Finds one page of the todos, tasks and comments matching all words of a query, best match first, among those
+     * belonging to the todos a user owns or collaborates on.
+     *
+     * @param query    the words to search for
+     * @param userId   the id of the user, or null to search all todos
+     * @param pageable the page to find; its sort is ignored
+     * @return the page of results
+     */
+    Page<SearchResultDTO> search(String query, Long userId, Pageable pageable);
+}
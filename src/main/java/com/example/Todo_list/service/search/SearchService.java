@@ -0,0 +1,54 @@
+package com.example.Todo_list.service.search;
+
+import com.example.Todo_list.dto.SearchResultDTO;
+import com.example.Todo_list.utils.PageRequests;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+/**
+ * Full-text search across todos, tasks and comments, answered by the SearchIndex of the database in use and limited
+ * to the todos the searching user may access: administrators search every todo, other users the todos they own or
+ * collaborate on.
+ */
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    /**
+     * The longest query searched; longer queries are cut.
+     */
+    public static final int MAX_QUERY_LENGTH = 255;
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchService.class);
+
+    private final SearchIndex searchIndex;
+
+    /**
+     * Finds one page of the todos, tasks and comments a user may access matching a query, best match first.
+     *
+     * @param query    the words to search for
+     * @param userId   the id of the searching user
+     * @param admin    whether the user is an administrator
+     * @param pageable the page to find, with a size clamped to [1, MAX_PAGE_SIZE]; its sort is ignored
+     * @return the page of results, empty for a blank query
+     */
+    public Page<SearchResultDTO> search(String query, Long userId, boolean admin, Pageable pageable) {
+        Pageable page = PageRequest.of(pageable.getPageNumber(),
+                                       Math.max(1, Math.min(pageable.getPageSize(), PageRequests.MAX_PAGE_SIZE)));
+        String words = query == null ? "" : query.strip();
+        if (words.isEmpty()) {
+            return Page.empty(page);
+        }
+        if (words.length() > MAX_QUERY_LENGTH) {
+            words = words.substring(0, MAX_QUERY_LENGTH);
+        }
+
+        logger.info("SearchService.search(): Searching '{}' for userId={} on {}", words, userId, page);
+        return searchIndex.search(words, admin ? null : userId, page);
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.Todo_list.service.workspace;
+
+import com.example.Todo_list.entity.NotificationKind;
+import com.example.Todo_list.entity.Priority;
+import com.example.Todo_list.event.TodoContentChangedEvent;
+import com.example.Todo_list.service.StateService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inserts the sample workspace every new user starts with, whether they sign up with the form, through OAuth or as a
+ * guest. The workspace is kept as a prebuilt template and inserted with a few JDBC batches, instead of about twenty
+ * individual entity saves. States are looked up through the cached StateService. Guests and registered users only
+ * differ in their welcome notifications.
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkspaceProvisioner {
+
+    static final List<SampleTodo> TEMPLATE = List.of(
+            new SampleTodo("Sample Project #1", "This is a sample project created by the system.", List.of(
+                    new SampleTask("Sample Task #1", "New", Priority.TRIVIAL),
+                    new SampleTask("Sample Task #2", "In Progress", Priority.LOW),
+                    new SampleTask("Sample Task #3", "Completed", Priority.MEDIUM),
+                    new SampleTask("Sample Task #4", "In Progress", Priority.HIGH),
+                    new SampleTask("Sample Task #5", "Under Review", Priority.URGENT)
+            )),
+            new SampleTodo("Sample Project #2", "This is a sample project created by the system.", List.of()),
+            new SampleTodo("Sample Project #3", "This is a sample project created by the system.", List.of())
+    );
+
+    static final String SAMPLE_TASK_DESCRIPTION = "This is a sample task created by the system.";
+    static final String SAMPLE_COMMENT = "Sample Comment";
+
+    static final List<SampleNotification> GUEST_NOTIFICATIONS = List.of(
+            new SampleNotification("Sample Notification", "This is a sample notification created by the system."),
+            new SampleNotification("Please read me!", "Your account will be deleted after 30 minutes of use. Please sign up to access all features.")
+    );
+
+    static final List<SampleNotification> MEMBER_NOTIFICATIONS = List.of(
+            new SampleNotification("Sample Notification", "This is a sample notification created by the system."),
+            new SampleNotification("Please read me!", "Feel free to change your role to 'Admin' in your profile to access all features.")
+    );
+
+    private final StateService stateService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Inserts the sample workspace for a guest that has already been saved: the sample todos and tasks, an assignment
+     * of the first task to the guest, a comment on it and the welcome notifications of guests. Must run inside the
+     * transaction that saved the guest.
+     *
+     * @param guestId the id of the guest user
+     */
+    public void provisionGuestWorkspace(Long guestId) {
+        insertWorkspace(guestId, GUEST_NOTIFICATIONS);
+    }
+
+    /**
+     * Inserts the sample workspace for a registered user that has already been saved, with the welcome notifications
+     * of registered users. Must run inside a transaction.
+     *
+     * @param userId the id of the user
+     */
+    public void provisionMemberWorkspace(Long userId) {
+        insertWorkspace(userId, MEMBER_NOTIFICATIONS);
+    }
+
+    /**
+     * Inserts the sample todos and tasks, an assignment of the first task to the user, a comment on it and the given
+     * notifications.
+     *
+     * @param userId        the id of the user
+     * @param notifications the welcome notifications of the user
+     */
+    private void insertWorkspace(Long userId, List<SampleNotification> notifications) {
+        OffsetDateTime now = OffsetDateTime.now();
+
+        List<Long> todoIds = insertWithKeys(
+                "INSERT INTO todos (title, description, owner_id, created_at) VALUES (?, ?, ?, ?)",
+                TEMPLATE.stream().map(todo -> new Object[] {todo.title(), todo.description(), userId, now}).toList()
+        );
+
+        List<Object[]> taskRows = new ArrayList<>();
+        for (int i = 0; i < TEMPLATE.size(); i++) {
+            for (SampleTask task : TEMPLATE.get(i).tasks()) {
+                taskRows.add(new Object[] {
+                        task.name(), SAMPLE_TASK_DESCRIPTION, task.priority().name(), stateService.findStateByName(task.state()).getId(), todoIds.get(i)
+                });
+            }
+        }
+        List<Long> taskIds = insertWithKeys(
+                "INSERT INTO tasks (name, description, priority, state_id, todo_id) VALUES (?, ?, ?, ?, ?)", taskRows
+        );
+        Long firstTaskId = taskIds.get(0);
+
+        jdbcTemplate.update("INSERT INTO tasks_collaborators (task_id, collaborator_id) VALUES (?, ?)", firstTaskId, userId);
+        jdbcTemplate.update(
+                "INSERT INTO comments (comment, user_id, task_id, created_at, is_edited) VALUES (?, ?, ?, ?, FALSE)",
+                SAMPLE_COMMENT, userId, firstTaskId, now
+        );
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO notifications (title, message, user_id, created_at, kind) VALUES (?, ?, ?, ?, ?)",
+                notifications.stream()
+                        .map(n -> new Object[] {n.title(), n.message(), userId, now, NotificationKind.GENERAL.name()})
+                        .toList()
+        );
+        todoIds.forEach(todoId -> eventPublisher.publishEvent(new TodoContentChangedEvent(todoId)));
+    }
+
+    /**
+     * Inserts the given rows as one JDBC batch and returns their generated ids in row order.
+     *
+     * @param sql  the INSERT statement
+     * @param rows the parameters of each row
+     * @return the generated ids
+     */
+    private List<Long> insertWithKeys(String sql, List<Object[]> rows) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(sql, new String[] {"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Object[] row = rows.get(i);
+                        for (int column = 0; column < row.length; column++) {
+                            ps.setObject(column + 1, row[column]);
+                        }
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                },
+                keyHolder
+        );
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+
+    /**
+     * A sample todo of the workspace template.
+     */
+    record SampleTodo(String title, String description, List<SampleTask> tasks) {
+    }
+
+    /**
+     * A sample task of the workspace template.
+     */
+    record SampleTask(String name, String state, Priority priority) {
+    }
+
+    /**
+     * A welcome notification of a new user.
+     */
+    record SampleNotification(String title, String message) {
+    }
+}
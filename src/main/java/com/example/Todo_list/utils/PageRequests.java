@@ -0,0 +1,70 @@
+package com.example.Todo_list.utils;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Set;
+
+/**
+ * Helpers for the page requests of the paged listings, which are sorted by the database.
+ */
+public final class PageRequests {
+
+    /**
+     * The maximum number of rows on one page of a listing.
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * The column that every listing is finally sorted by, so that rows with equal sort keys keep their order from one
+     * page to the next. It is sorted in the direction of the main order, so that an index on (column DESC, id DESC)
+     * serves a descending listing.
+     */
+    static final String TIE_BREAKER = "id";
+
+    private PageRequests() {
+    }
+
+    /**
+     * Restricts a page request from a client to what a listing supports: the page size is clamped to
+     * [1, MAX_PAGE_SIZE] and sorts by columns the listing does not support are dropped, falling back to the default
+     * sort if none is left.
+     *
+     * @param pageable    the requested page
+     * @param sortable    the columns of the listing query that it can be sorted by
+     * @param defaultSort the sort of the listing if the request has no supported sort
+     * @return the restricted page request, always sorted by id last in the direction of its main order
+     */
+    public static Pageable restrict(Pageable pageable, Set<String> sortable, Sort defaultSort) {
+        Sort sort = Sort.by(pageable.getSort().filter(order -> sortable.contains(order.getProperty())).toList());
+        if (sort.isUnsorted()) {
+            sort = defaultSort;
+        }
+        if (sort.getOrderFor(TIE_BREAKER) == null) {
+            Sort.Direction direction = sort.stream()
+                                           .findFirst()
+                                           .map(Sort.Order::getDirection)
+                                           .orElse(Sort.Direction.ASC);
+            sort = sort.and(Sort.by(direction, TIE_BREAKER));
+        }
+
+        if (pageable.isUnpaged()) {
+            return PageRequest.of(0, MAX_PAGE_SIZE, sort);
+        }
+        return PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), MAX_PAGE_SIZE), sort);
+    }
+
+    /**
+     * Formats the main order of a sort as the value of a sort request parameter, to keep the sort across page links.
+     *
+     * @param sort the sort of a page
+     * @return the sort parameter, e.g. "createdAt,desc", or null if the page is not sorted
+     */
+    public static String sortParameter(Sort sort) {
+        return sort.stream()
+                   .findFirst()
+                   .map(order -> order.getProperty() + "," + order.getDirection().name().toLowerCase())
+                   .orElse(null);
+    }
+}
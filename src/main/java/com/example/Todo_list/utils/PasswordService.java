@@ -1,30 +1,117 @@
 package com.example.Todo_list.utils;
 
-import lombok.RequiredArgsConstructor;
+import com.example.Todo_list.exception.PasswordHashingBusyException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
- * Service class for managing passwords.
+ * Service class for managing passwords, and the password encoder of the application.
+ * Passwords are hashed with BCrypt at a configurable cost, stored with a "{bcrypt}" prefix; hashes stored before the
+ * prefix was introduced, or with a lower cost, still match and are upgraded on the next successful login.
+ * <p>
+ * Hashing runs on the calling request thread, but only a bounded number of hashes run at once, one per processor by
+ * default: a burst of logins then queues for a hashing permit instead of competing for the CPU with every other
+ * request, and the request threads waiting for a permit are parked rather than busy. A bounded number of callers may
+ * wait for a permit, each for at most the maximum wait. When too many are already waiting, or the wait runs out, the
+ * caller is turned away with a PasswordHashingBusyException rather than delayed further: a login attempt is then
+ * redirected to the login page with a "try again" message, and any other request is answered with 503 Service
+ * Unavailable. The password was not checked in either case, so the attempt can simply be repeated.
+ * <p>
+ * Accounts that cannot log in with a password, such as OAuth and guest users, store NO_CREDENTIAL and never match;
+ * checking a password against them still runs a full BCrypt check against a dummy hash, so that the response time does
+ * not tell which email addresses belong to such accounts.
  */
 @Service
-@RequiredArgsConstructor
-public class PasswordService extends BCryptPasswordEncoder {
+public class PasswordService implements PasswordEncoder {
 
-    public boolean matches(String rawPassword, String encodedPassword) {
-        return super.matches(rawPassword, encodedPassword);
+    /** Stored as the password of accounts that have no password; never matches any password. */
+    public static final String NO_CREDENTIAL = "{none}NoCredential0";
+
+    static final String BCRYPT_ID = "bcrypt";
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordService.class);
+
+    private final PasswordEncoder encoder;
+    private final String dummyHash;
+    private final Semaphore hashingPermits;
+    private final int maxWaiting;
+    private final Duration maxWait;
+
+    /**
+     * Creates the password service.
+     *
+     * @param strength    the BCrypt cost of new hashes
+     * @param concurrency the number of hashes that may run at once, or 0 for one per processor
+     * @param maxWaiting  the number of callers that may wait for a hashing permit
+     * @param maxWait     the longest time a caller waits for a hashing permit
+     */
+    public PasswordService(@Value("${security.password.bcrypt-strength:12}") int strength,
+                           @Value("${security.password.hashing-concurrency:0}") int concurrency,
+                           @Value("${security.password.hashing-max-waiting:64}") int maxWaiting,
+                           @Value("${security.password.hashing-max-wait:5s}") Duration maxWait) {
+        DelegatingPasswordEncoder delegatingEncoder =
+                new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, new BCryptPasswordEncoder(strength)));
+        delegatingEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder(strength));
+        this.encoder = delegatingEncoder;
+        this.dummyHash = delegatingEncoder.encode(generatePassword(16));
+        int permits = concurrency > 0 ? concurrency : Runtime.getRuntime().availableProcessors();
+        this.hashingPermits = new Semaphore(permits, true);
+        this.maxWaiting = maxWaiting;
+        this.maxWait = maxWait;
     }
 
     /**
-     * Generates a random password with the given length
-     * @param length the length of the password
-     * @return the generated password
+     * Hashes a password once a hashing permit is free.
+     *
+     * @param rawPassword the password to hash
+     * @return the hashed password, prefixed with "{bcrypt}"
+     * @throws PasswordHashingBusyException if no hashing permit became free in time
+     */
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return throttle(() -> encoder.encode(rawPassword));
+    }
+
+    /**
+     * Checks a password against a stored hash once a hashing permit is free. Accounts without a password never match,
+     * but cost the same as any other account: the password is checked against a dummy hash and the result discarded.
+     *
+     * @param rawPassword     the password to check
+     * @param encodedPassword the stored hash
+     * @return true if the password matches the hash
+     * @throws PasswordHashingBusyException if no hashing permit became free in time
      */
-    public String generateEncodedPassword(int length) {
-        return super.encode(generatePassword(length));
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (!hasCredential(encodedPassword)) {
+            throttle(() -> encoder.matches(rawPassword == null ? "" : rawPassword, dummyHash));
+            return false;
+        }
+        return throttle(() -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Checks whether a stored hash should be replaced: hashes without the "{bcrypt}" prefix or with a lower cost.
+     *
+     * @param encodedPassword the stored hash
+     * @return true if the hash should be upgraded on the next successful login
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return hasCredential(encodedPassword) && encoder.upgradeEncoding(encodedPassword);
     }
 
     /**
@@ -33,7 +120,7 @@ public class PasswordService extends BCryptPasswordEncoder {
      * @return the encoded password
      */
     public String encodePassword(String rawPassword) {
-        return super.encode(rawPassword);
+        return encode(rawPassword);
     }
 
     /**
@@ -66,4 +153,45 @@ public class PasswordService extends BCryptPasswordEncoder {
 
         return password.toString();
     }
+
+    /**
+     * Runs hashing work on the calling thread once a hashing permit is free.
+     *
+     * @param work the hashing work
+     * @return the result of the work
+     * @throws PasswordHashingBusyException if too many callers are already waiting, or no permit became free within
+     *                                      the maximum wait
+     */
+    <T> T throttle(Supplier<T> work) {
+        if (hashingPermits.getQueueLength() >= maxWaiting) {
+            logger.warn("PasswordService.throttle(): {} hashes already waiting, rejecting", hashingPermits.getQueueLength());
+            throw new PasswordHashingBusyException("Too many sign-ins at once, please try again in a moment");
+        }
+
+        try {
+            if (!hashingPermits.tryAcquire(maxWait.toMillis(), TimeUnit.MILLISECONDS)) {
+                logger.warn("PasswordService.throttle(): No hashing permit became free within {}, rejecting", maxWait);
+                throw new PasswordHashingBusyException("Too many sign-ins at once, please try again in a moment");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("Interrupted while waiting to hash a password");
+        }
+
+        try {
+            return work.get();
+        } finally {
+            hashingPermits.release();
+        }
+    }
+
+    /**
+     * Checks whether a stored password is an actual hash rather than missing or NO_CREDENTIAL.
+     *
+     * @param encodedPassword the stored password
+     * @return true if the stored password can be matched
+     */
+    private static boolean hasCredential(String encodedPassword) {
+        return encodedPassword != null && !encodedPassword.isEmpty() && !NO_CREDENTIAL.equals(encodedPassword);
+    }
 }
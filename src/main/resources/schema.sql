@@ -38,9 +38,11 @@ CREATE TABLE IF NOT EXISTS tasks (
     todo_id BIGINT,
     assigned_user_id BIGINT,
     deadline TIMESTAMP WITH TIME ZONE,
+    github_issue_id BIGINT,
     FOREIGN KEY (todo_id) REFERENCES todos(id),
     FOREIGN KEY (state_id) REFERENCES states(id),
-    FOREIGN KEY (assigned_user_id) REFERENCES users(id)
+    FOREIGN KEY (assigned_user_id) REFERENCES users(id),
+    CONSTRAINT uk_tasks_todo_github_issue UNIQUE (todo_id, github_issue_id)
 );
 
 CREATE TABLE IF NOT EXISTS todos_collaborators (
@@ -85,5 +87,36 @@ CREATE TABLE IF NOT EXISTS notifications (
     message VARCHAR(255) NOT NULL,
     user_id BIGINT,
     created_at TIMESTAMP WITH TIME ZONE,
-    FOREIGN KEY (user_id) REFERENCES users(id)
-);
\ No newline at end of file
+    kind VARCHAR(255) DEFAULT 'GENERAL' NOT NULL,
+    task_id BIGINT,
+    FOREIGN KEY (user_id) REFERENCES users(id),
+    CONSTRAINT uk_notifications_user_kind_task UNIQUE (user_id, kind, task_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_deadline ON tasks (deadline);
+
+CREATE INDEX IF NOT EXISTS idx_users_guest_created_at ON users (is_guest, created_at);
+
+CREATE INDEX IF NOT EXISTS idx_todos_owner ON todos (owner_id, id);
+
+CREATE INDEX IF NOT EXISTS idx_todos_collaborators_collaborator ON todos_collaborators (collaborator_id, todo_id);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_collaborators_collaborator ON tasks_collaborators (collaborator_id, task_id);
+
+CREATE INDEX IF NOT EXISTS idx_notifications_user_feed ON notifications (user_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_comments_created_at ON comments (created_at DESC, id DESC);
+
+CREATE TABLE IF NOT EXISTS scan_checkpoints (
+    name VARCHAR(255) PRIMARY KEY,
+    high_water_mark TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS github_issue_syncs (
+    id SERIAL PRIMARY KEY,
+    todo_id BIGINT NOT NULL,
+    repository VARCHAR(255) NOT NULL,
+    last_updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    FOREIGN KEY (todo_id) REFERENCES todos(id) ON DELETE CASCADE,
+    CONSTRAINT uk_github_issue_syncs_todo_repository UNIQUE (todo_id, repository)
+);
@@ -0,0 +1,125 @@
+package com.example.Todo_list.config;
+
+import com.example.Todo_list.entity.Role;
+import com.example.Todo_list.entity.State;
+import com.example.Todo_list.repository.RoleRepository;
+import com.example.Todo_list.repository.StateRepository;
+import com.example.Todo_list.service.RoleService;
+import com.example.Todo_list.service.StateService;
+import com.example.Todo_list.service.impl.RoleServiceImpl;
+import com.example.Todo_list.service.impl.StateServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig({CacheConfig.class, StateServiceImpl.class, RoleServiceImpl.class, ReferenceDataCacheWarmer.class})
+public class ReferenceDataCacheTests {
+
+    @Autowired
+    private StateService stateService;
+
+    @Autowired
+    private RoleService roleService;
+
+    @Autowired
+    private ReferenceDataCacheWarmer referenceDataCacheWarmer;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private StateRepository stateRepository;
+
+    @MockBean
+    private RoleRepository roleRepository;
+
+    private State state;
+    private Role role;
+
+    @BeforeEach
+    void beforeEach() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        state = new State();
+        state.setId(1L);
+        state.setName("New");
+        role = new Role();
+        role.setId(2L);
+        role.setName("USER");
+    }
+
+    @Test
+    @DisplayName("findStateById() and findStateByName() read a state from the database only once")
+    void testStateLookupsAreCached() {
+        when(stateRepository.findById(1L)).thenReturn(Optional.of(state));
+        when(stateRepository.findByName("New")).thenReturn(Optional.of(state));
+
+        stateService.findStateById(1L);
+        stateService.findStateByName("New");
+        assertSame(state, stateService.findStateById(1L));
+        assertSame(state, stateService.findStateByName("New"));
+
+        verify(stateRepository, times(1)).findById(1L);
+        verify(stateRepository, times(1)).findByName("New");
+    }
+
+    @Test
+    @DisplayName("save() evicts the cached states")
+    void testSaveEvictsStates() {
+        when(stateRepository.findAll()).thenReturn(List.of(state));
+        when(stateRepository.save(state)).thenReturn(state);
+
+        stateService.findAllStates();
+        stateService.save(state);
+        stateService.findAllStates();
+
+        verify(stateRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("deleteRoleByName() evicts the cached roles")
+    void testDeleteEvictsRoles() {
+        when(roleRepository.findByName("USER")).thenReturn(Optional.of(role));
+
+        roleService.findRoleByName("USER");
+        roleService.deleteRoleByName("USER");
+        verify(roleRepository).delete(role);
+        clearInvocations(roleRepository);
+
+        roleService.findRoleByName("USER");
+
+        verify(roleRepository, times(1)).findByName("USER");
+    }
+
+    @Test
+    @DisplayName("warmUp() caches all states and roles by id and by name")
+    void testWarmUp() {
+        when(stateRepository.findAll()).thenReturn(List.of(state));
+        when(roleRepository.findAll()).thenReturn(List.of(role));
+
+        referenceDataCacheWarmer.warmUp();
+
+        assertSame(state, stateService.findStateById(1L));
+        assertSame(state, stateService.findStateByName("New"));
+        assertEquals(List.of(state), stateService.findAllStates());
+        assertSame(role, roleService.findRoleById(2L));
+        assertSame(role, roleService.findRoleByName("USER"));
+        assertEquals(List.of(role), roleService.findAllRoles());
+        verify(stateRepository, never()).findById(any());
+        verify(stateRepository, never()).findByName(any());
+        verify(roleRepository, never()).findById(any());
+        verify(roleRepository, never()).findByName(any());
+        verify(stateRepository, times(1)).findAll();
+        verify(roleRepository, times(1)).findAll();
+    }
+}
@@ -2,6 +2,7 @@ package com.example.Todo_list.controller;
 
 import com.example.Todo_list.entity.User;
 import com.example.Todo_list.security.local.WebSecurityUserDetails;
+import com.example.Todo_list.security.logout.UserExistenceCache;
 import com.example.Todo_list.service.UserService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,6 +20,7 @@ import java.util.List;
 import static com.example.Todo_list.controller.utils.ControllerTestUtils.createRole;
 import static com.example.Todo_list.controller.utils.ControllerTestUtils.createUser;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
@@ -32,6 +34,9 @@ public class LoginControllerTests {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private UserExistenceCache userExistenceCache;
+
     @Test
     @DisplayName("Test")
     void testUnauthorizedUserLoginPageView() throws Exception {
@@ -68,6 +73,7 @@ public class LoginControllerTests {
                 List.of(new SimpleGrantedAuthority(user.getRole().getName()))
         );
         SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+        when(userExistenceCache.exists(user.getId())).thenReturn(true);
 
         mockMvc.perform(get("/home"))
                 .andExpect(status().isOk())
@@ -3,9 +3,12 @@ package com.example.Todo_list.controller;
 import com.example.Todo_list.controller.utils.ControllerTestUtils;
 import com.example.Todo_list.entity.Role;
 import com.example.Todo_list.entity.User;
+import com.example.Todo_list.repository.projection.NotificationFeedView;
 import com.example.Todo_list.security.local.WebSecurityUserDetails;
+import com.example.Todo_list.security.logout.UserExistenceCache;
 import com.example.Todo_list.service.impl.NotificationServiceImpl;
 import com.example.Todo_list.service.impl.UserServiceImpl;
+import com.example.Todo_list.service.notification.NotificationHub;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,11 +21,14 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -40,11 +46,18 @@ public class NotificationControllerTests {
     @MockBean
     private UserServiceImpl userService;
 
+    @MockBean
+    private NotificationHub notificationHub;
+
+    @MockBean
+    private UserExistenceCache userExistenceCache;
+
     private final User user = ControllerTestUtils.createUser();
     private final Role role = ControllerTestUtils.createRole();
 
     @BeforeEach
     public void beforeEach() {
+        when(userExistenceCache.exists(any())).thenReturn(true);
         user.setRole(role);
 
         UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
@@ -71,6 +84,59 @@ public class NotificationControllerTests {
         verify(notificationService, times(1)).findNotificationsByUser(userService.findUserById(1L));
     }
 
+    @Test
+    @DisplayName("getUserNotificationFeed() should return a page of notifications with the unread count and next cursor")
+    public void testGetUserNotificationFeed() throws Exception {
+        ZonedDateTime createdAt = ZonedDateTime.parse("2024-01-01T12:00:00Z");
+        when(notificationService.findNotificationFeed(1L, null, null, 1)).thenReturn(List.of(feedView(7L, createdAt)));
+        when(notificationService.countUnreadNotifications(1L)).thenReturn(5L);
+
+        mockMvc.perform(get("/notifications/user/1/feed").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.notifications[0].id").value(7))
+                .andExpect(jsonPath("$.notifications[0].userId").value(1))
+                .andExpect(jsonPath("$.unreadCount").value(5))
+                .andExpect(jsonPath("$.nextBeforeId").value(7))
+                .andExpect(jsonPath("$.nextBefore").exists());
+
+        verify(notificationService, never()).findNotificationsByUser(any());
+    }
+
+    @Test
+    @DisplayName("getUserNotificationFeed() should pass the cursor on and return no next cursor on the last page")
+    public void testGetUserNotificationFeedLastPage() throws Exception {
+        when(notificationService.findNotificationFeed(eq(1L), any(ZonedDateTime.class), eq(7L), eq(20))).thenReturn(List.of());
+
+        mockMvc.perform(get("/notifications/user/1/feed")
+                        .param("before", "2024-01-01T12:00:00Z")
+                        .param("beforeId", "7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.notifications").isEmpty())
+                .andExpect(jsonPath("$.nextBefore").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("getUnreadNotificationCount() should return the number of unread notifications")
+    public void testGetUnreadNotificationCount() throws Exception {
+        when(notificationService.countUnreadNotifications(1L)).thenReturn(3L);
+
+        mockMvc.perform(get("/notifications/user/1/count"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("3"));
+    }
+
+    @Test
+    @DisplayName("streamUserNotifications() should open an event stream for the page")
+    public void testStreamUserNotifications() throws Exception {
+        when(notificationHub.subscribe(1L)).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/notifications/user/1/stream").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+
+        verify(notificationHub, times(1)).subscribe(1L);
+    }
+
     @Test
     @DisplayName("markNotiifcationsAsRead() should delete the notification marked as read and return status 200")
     public void testMarkNotificationsAsRead() throws Exception {
@@ -80,4 +146,13 @@ public class NotificationControllerTests {
 
         verify(notificationService, times(1)).deleteNotificationById(1L);
     }
+
+    private static NotificationFeedView feedView(Long id, ZonedDateTime createdAt) {
+        return new NotificationFeedView() {
+            public Long getId() { return id; }
+            public String getTitle() { return "Title"; }
+            public String getMessage() { return "Message"; }
+            public ZonedDateTime getCreatedAt() { return createdAt; }
+        };
+    }
 }
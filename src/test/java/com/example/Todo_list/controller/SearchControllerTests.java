@@ -0,0 +1,95 @@
+package com.example.Todo_list.controller;
+
+import com.example.Todo_list.controller.utils.ControllerTestUtils;
+import com.example.Todo_list.dto.SearchResultDTO;
+import com.example.Todo_list.entity.Role;
+import com.example.Todo_list.entity.User;
+import com.example.Todo_list.security.local.WebSecurityUserDetails;
+import com.example.Todo_list.security.logout.UserExistenceCache;
+import com.example.Todo_list.service.impl.RoleServiceImpl;
+import com.example.Todo_list.service.impl.UserServiceImpl;
+import com.example.Todo_list.service.search.SearchDocumentType;
+import com.example.Todo_list.service.search.SearchService;
+import com.example.Todo_list.utils.PasswordService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(SearchController.class)
+public class SearchControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SearchService searchService;
+
+    @MockBean
+    private UserServiceImpl userService;
+
+    @MockBean
+    private RoleServiceImpl roleService;
+
+    @MockBean
+    private PasswordService passwordService;
+
+    @MockBean
+    private UserExistenceCache userExistenceCache;
+
+    private final User user = ControllerTestUtils.createUser();
+    private final Role role = ControllerTestUtils.createRole();
+
+    @BeforeEach
+    public void beforeEach() {
+        when(userExistenceCache.exists(any())).thenReturn(true);
+        user.setRole(role);
+
+        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
+                new WebSecurityUserDetails(user),
+                "password",
+                List.of(new SimpleGrantedAuthority(user.getRole().getName()))
+        );
+        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+    }
+
+    @Test
+    @DisplayName("search() should return search template with the results of the query for the current user")
+    void testSearch() throws Exception {
+        Page<SearchResultDTO> results = new PageImpl<>(List.of(
+                new SearchResultDTO(SearchDocumentType.TASK, 3L, 1L, 3L, "Urgent Task", "Finish the report", 0.6)
+        ), PageRequest.of(0, 20), 1);
+        when(searchService.search(anyString(), any(), anyBoolean(), any(Pageable.class))).thenReturn(results);
+
+        mockMvc.perform(get("/search").param("q", "urgent"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("search"))
+                .andExpect(model().attribute("query", "urgent"))
+                .andExpect(model().attribute("results", results))
+                .andExpect(content().string(containsString("Urgent Task")));
+
+        verify(searchService).search(eq("urgent"), eq(user.getId()), eq(false), any(Pageable.class));
+    }
+}
@@ -1,11 +1,14 @@
 package com.example.Todo_list.controller;
 
 import com.example.Todo_list.controller.utils.ControllerTestUtils;
+import com.example.Todo_list.dto.ListingFilterDTO;
 import com.example.Todo_list.entity.Comment;
 import com.example.Todo_list.entity.Role;
 import com.example.Todo_list.entity.Task;
 import com.example.Todo_list.entity.User;
+import com.example.Todo_list.repository.projection.CommentListView;
 import com.example.Todo_list.security.local.WebSecurityUserDetails;
+import com.example.Todo_list.security.logout.UserExistenceCache;
 import com.example.Todo_list.service.impl.CommentServiceImpl;
 import com.example.Todo_list.service.impl.RoleServiceImpl;
 import com.example.Todo_list.service.impl.UserServiceImpl;
@@ -13,16 +16,28 @@ import com.example.Todo_list.utils.PasswordService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -45,6 +60,9 @@ public class TaskCommentControllerTests {
     @MockBean
     private PasswordService passwordService;
 
+    @MockBean
+    private UserExistenceCache userExistenceCache;
+
     private final User user = ControllerTestUtils.createUser();
     private final Role role = ControllerTestUtils.createRole();
     private final Task task = ControllerTestUtils.createTask();
@@ -52,6 +70,7 @@ public class TaskCommentControllerTests {
 
     @BeforeEach
     public void beforeEach() {
+        when(userExistenceCache.exists(any())).thenReturn(true);
         user.setRole(role);
 
         comment.setUser(user);
@@ -66,15 +85,30 @@ public class TaskCommentControllerTests {
     }
 
     @Test
-    @DisplayName("showAllComments() should return comments-all template and all comments")
+    @DisplayName("showAllComments() should return comments-all template and the requested page of comments")
     public void testShowAllComments() throws Exception {
-        when(commentService.findAllComments()).thenReturn(List.of(comment));
+        CommentListView commentView = ControllerTestUtils.createProjection(CommentListView.class, Map.of(
+                "id", 1L, "content", "Sample Comment", "createdAt", ZonedDateTime.now(), "isEdited", false,
+                "userId", user.getId(), "userFirstName", user.getFirstName(), "taskId", task.getId()
+        ));
+        Page<CommentListView> comments = new PageImpl<>(
+                List.of(commentView), PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt")), 1
+        );
+        when(commentService.findCommentPage(any(ListingFilterDTO.class), any(Pageable.class))).thenReturn(comments);
 
-        mockMvc.perform(get("/comments/all"))
+        mockMvc.perform(get("/comments/all").param("ownerId", String.valueOf(user.getId())))
                 .andExpect(status().isOk())
                 .andExpect(view().name("comments-all"))
                 .andExpect(model().attributeExists("comments"))
-                .andExpect(model().attribute("comments", List.of(comment)));
+                .andExpect(model().attribute("comments", comments))
+                .andExpect(model().attribute("sort", "createdAt,desc"))
+                .andExpect(content().string(containsString("Sample Comment")));
+
+        ArgumentCaptor<ListingFilterDTO> filter = ArgumentCaptor.forClass(ListingFilterDTO.class);
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(commentService).findCommentPage(filter.capture(), pageable.capture());
+        assertEquals(user.getId(), filter.getValue().getOwnerId());
+        assertEquals(Sort.by(Sort.Direction.DESC, "createdAt"), pageable.getValue().getSort());
     }
 
     @Test
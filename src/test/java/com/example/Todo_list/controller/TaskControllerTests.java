@@ -4,6 +4,7 @@ import com.example.Todo_list.controller.utils.ControllerTestUtils;
 import com.example.Todo_list.entity.*;
 import com.example.Todo_list.repository.StateRepository;
 import com.example.Todo_list.security.local.WebSecurityUserDetails;
+import com.example.Todo_list.security.logout.UserExistenceCache;
 import com.example.Todo_list.service.impl.*;
 import com.example.Todo_list.utils.PasswordService;
 import jakarta.persistence.EntityNotFoundException;
@@ -68,6 +69,9 @@ public class TaskControllerTests {
     @MockBean
     private StateRepository stateRepository;
 
+    @MockBean
+    private UserExistenceCache userExistenceCache;
+
     private final User user = ControllerTestUtils.createUser();
     private final Role role = ControllerTestUtils.createRole();
     private final Task task = ControllerTestUtils.createTask();
@@ -78,6 +82,7 @@ public class TaskControllerTests {
 
     @BeforeEach
     public void beforeEach() {
+        when(userExistenceCache.exists(any())).thenReturn(true);
         user.setRole(role);
 
         task.setPriority(priority);
@@ -1,9 +1,14 @@
 package com.example.Todo_list.controller;
 
 import com.example.Todo_list.controller.utils.ControllerTestUtils;
+import com.example.Todo_list.dto.BoardTaskDTO;
+import com.example.Todo_list.dto.ListingFilterDTO;
 import com.example.Todo_list.entity.*;
 import com.example.Todo_list.exception.UserIsToDoOwnerException;
+import com.example.Todo_list.repository.projection.ToDoListView;
 import com.example.Todo_list.security.local.WebSecurityUserDetails;
+import com.example.Todo_list.security.logout.UserExistenceCache;
+import com.example.Todo_list.service.board.TodoBoardQueryService;
 import com.example.Todo_list.service.impl.*;
 import com.example.Todo_list.utils.PasswordService;
 import jakarta.persistence.EntityNotFoundException;
@@ -14,6 +19,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -25,9 +35,12 @@ import org.springframework.util.MultiValueMap;
 import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -45,7 +58,7 @@ public class ToDoControllerTests {
     private ToDoServiceImpl toDoService;
 
     @MockBean
-    private TaskServiceImpl taskService;
+    private TodoBoardQueryService todoBoardQueryService;
 
     @MockBean
     private UserServiceImpl userService;
@@ -59,6 +72,9 @@ public class ToDoControllerTests {
     @MockBean
     private NotificationServiceImpl notificationService;
 
+    @MockBean
+    private UserExistenceCache userExistenceCache;
+
     private final User user = ControllerTestUtils.createUser();
     private final Role role = ControllerTestUtils.createRole();
     private final Task task = ControllerTestUtils.createTask();
@@ -68,6 +84,7 @@ public class ToDoControllerTests {
 
     @BeforeEach
     public void beforeEach() {
+        when(userExistenceCache.exists(any())).thenReturn(true);
         user.setRole(role);
 
         task.setPriority(priority);
@@ -91,6 +108,26 @@ public class ToDoControllerTests {
         SecurityContextHolder.clearContext();
     }
 
+    @Test
+    @DisplayName("displayAllToDos() should return todos-all view with the requested page of ToDos")
+    void testDisplayAllToDos() throws Exception {
+        ToDoListView toDoView = ControllerTestUtils.createProjection(ToDoListView.class, Map.of(
+                "id", toDo.getId(), "title", toDo.getTitle(), "createdAt", ZonedDateTime.now(),
+                "ownerId", user.getId(), "ownerFirstName", user.getFirstName(), "ownerLastName", user.getLastName()
+        ));
+        Page<ToDoListView> todos = new PageImpl<>(List.of(toDoView), PageRequest.of(0, 1, Sort.by("title", "id")), 3);
+        when(toDoService.findToDoPage(any(ListingFilterDTO.class), any(Pageable.class))).thenReturn(todos);
+        when(userService.findUserById(user.getId())).thenReturn(user);
+
+        mockMvc.perform(get("/todos/all").param("user_id", "1").param("size", "1").param("sort", "title,asc"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("todos-all"))
+                .andExpect(model().attribute("todos", todos))
+                .andExpect(model().attribute("sort", "title,asc"))
+                .andExpect(content().string(containsString(toDo.getTitle())))
+                .andExpect(content().string(containsString("/todos/all?user_id=1&amp;page=1&amp;size=1&amp;sort=title,asc")));
+    }
+
     @Test
     @DisplayName("showToDoCreationForm() should return a form to create a new ToDo")
     void testShowToDoCreationForm() throws Exception {
@@ -131,8 +168,14 @@ public class ToDoControllerTests {
     @DisplayName("displayToDo() should return the ToDo and its tasks")
     void testDisplayToDo() throws Exception {
         when(toDoService.findToDoById(any(long.class))).thenReturn(toDo);
-        when(taskService.findAllTasksOfToDo(any(long.class))).thenReturn(List.of(task));
-        when(userService.findAllUsers()).thenReturn(List.of(user));
+        BoardTaskDTO boardTask = new BoardTaskDTO();
+        boardTask.setId(task.getId());
+        boardTask.setName(task.getName());
+        boardTask.setPriority(task.getPriority());
+        boardTask.setPriorityOrdinal(task.getPriority().ordinal());
+        boardTask.setStateName(task.getState().getName());
+        when(todoBoardQueryService.findBoardTasks(any(long.class))).thenReturn(List.of(boardTask));
+        when(userService.findAllUserSummaries()).thenReturn(List.of());
 
         mockMvc.perform(get("/todos/1/tasks"))
                 .andExpect(status().isOk())
@@ -207,13 +250,26 @@ public class ToDoControllerTests {
     @Test
     @DisplayName("displayAllToDo() should return all the ToDos of a user")
     void testDisplayAllToDo() throws Exception {
-        when(toDoService.findAllToDoOfUserId(any(long.class))).thenReturn(List.of(toDo));
+        when(toDoService.findToDoPageOfUserId(any(long.class), any(), anyInt())).thenReturn(List.of(toDo));
         when(userService.findUserById(any(long.class))).thenReturn(user);
 
         mockMvc.perform(get("/todos/all/users/1"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("todos-user"))
-                .andExpect(model().attributeExists("todos", "user"));
+                .andExpect(model().attributeExists("todos", "user"))
+                .andExpect(model().attribute("nextAfter", nullValue()));
+    }
+
+    @Test
+    @DisplayName("displayAllToDo() should link to the next page when the page is full")
+    void testDisplayAllToDoNextPage() throws Exception {
+        when(toDoService.findToDoPageOfUserId(1L, 3L, 1)).thenReturn(List.of(toDo));
+        when(userService.findUserById(any(long.class))).thenReturn(user);
+
+        mockMvc.perform(get("/todos/all/users/1").param("after", "3").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(view().name("todos-user"))
+                .andExpect(model().attribute("nextAfter", toDo.getId()));
     }
 
     @Test
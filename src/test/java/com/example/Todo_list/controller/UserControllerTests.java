@@ -1,11 +1,14 @@
 package com.example.Todo_list.controller;
 
 import com.example.Todo_list.controller.utils.ControllerTestUtils;
+import com.example.Todo_list.dto.ListingFilterDTO;
 import com.example.Todo_list.entity.OAuthUser;
 import com.example.Todo_list.entity.Role;
 import com.example.Todo_list.entity.ToDo;
 import com.example.Todo_list.entity.User;
+import com.example.Todo_list.repository.projection.UserListView;
 import com.example.Todo_list.security.local.WebSecurityUserDetails;
+import com.example.Todo_list.security.logout.UserExistenceCache;
 import com.example.Todo_list.security.oauth2.CustomOAuth2UserDetails;
 import com.example.Todo_list.security.oauth2.OAuth2Provider;
 import com.example.Todo_list.service.guest.GuestService;
@@ -17,9 +20,15 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
@@ -36,7 +45,9 @@ import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -61,12 +72,16 @@ public class UserControllerTests {
     @MockBean
     private GuestService guestService;
 
+    @MockBean
+    private UserExistenceCache userExistenceCache;
+
     private final User user = ControllerTestUtils.createUser();
     private final Role role = ControllerTestUtils.createRole();
     private Role otherRole;
 
     @BeforeEach
     public void beforeEach() {
+        when(userExistenceCache.exists(any())).thenReturn(true);
         otherRole = new Role();
         otherRole.setId(2L);
         otherRole.setName("User");
@@ -277,23 +292,29 @@ public class UserControllerTests {
     }
 
     @Test
-    @DisplayName("showUserList() should return user-list view with a list of users")
+    @DisplayName("showUserList() should return user-list view with the requested page of users")
     void testShowUserList() throws Exception {
-        when(userService.findAllUsers()).thenReturn(Collections.singletonList(user));
-
-        mockMvc.perform(get("/users/all"))
+        UserListView userView = ControllerTestUtils.createProjection(UserListView.class, Map.of(
+                "id", user.getId(), "firstName", user.getFirstName(), "lastName", user.getLastName(),
+                "email", user.getEmail(), "roleName", role.getName()
+        ));
+        Page<UserListView> users = new PageImpl<>(List.of(userView), PageRequest.of(1, 20, Sort.by("lastName", "id")), 21);
+        when(userService.findUserPage(any(ListingFilterDTO.class), any(Pageable.class))).thenReturn(users);
+
+        mockMvc.perform(get("/users/all").param("name", "doe").param("page", "1").param("sort", "lastName,asc"))
                 .andExpect(status().isOk())
                 .andExpect(view().name("user-list"))
-                .andExpect(model().attribute("users", hasSize(1)))
-                .andExpect(model().attribute("users", hasItem(
-                        allOf(
-                                hasProperty("id", is(1L)),
-                                hasProperty("role", is(role)),
-                                hasProperty("firstName", is("Test")),
-                                hasProperty("lastName", is("Doe")),
-                                hasProperty("email", is("test@mail.com")),
-                                hasProperty("password", is("StrongPassword12345?"))
-                        ))));
+                .andExpect(model().attribute("users", users))
+                .andExpect(model().attribute("sort", "lastName,asc"))
+                .andExpect(content().string(containsString("Test Doe")))
+                .andExpect(content().string(containsString("Page 2 of 2, 21 in total")));
+
+        ArgumentCaptor<ListingFilterDTO> filter = ArgumentCaptor.forClass(ListingFilterDTO.class);
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(userService).findUserPage(filter.capture(), pageable.capture());
+        assertEquals("doe", filter.getValue().getName());
+        assertEquals(1, pageable.getValue().getPageNumber());
+        assertEquals(Sort.by("lastName"), pageable.getValue().getSort());
     }
 
     private MultiValueMap<String, String> getValidUserMultiValueMap() {
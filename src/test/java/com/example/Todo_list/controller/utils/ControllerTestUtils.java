@@ -1,8 +1,10 @@
 package com.example.Todo_list.controller.utils;
 
 import com.example.Todo_list.entity.*;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import java.time.ZonedDateTime;
+import java.util.Map;
 
 public class ControllerTestUtils {
 
@@ -16,6 +18,10 @@ public class ControllerTestUtils {
         return user;
     }
 
+    public static <T> T createProjection(Class<T> type, Map<String, Object> values) {
+        return new SpelAwareProxyProjectionFactory().createProjection(type, values);
+    }
+
     public static Role createRole() {
         Role role = new Role();
         role.setId(1L);
@@ -2,10 +2,14 @@ package com.example.Todo_list.repository;
 
 import com.example.Todo_list.entity.Comment;
 import com.example.Todo_list.entity.User;
+import com.example.Todo_list.repository.projection.CommentListView;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 
@@ -20,6 +24,22 @@ public class CommentRepositoryTests {
     @Autowired
     private UserRepository userRepository;
 
+    @Test
+    @DisplayName("findListPage() finds a page of the comments of an author, with the author's name and the task")
+    void testFindListPage() {
+        Page<CommentListView> page = commentRepository.findListPage(
+                "%admin%", 1L, null, null, PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"))
+        );
+
+        assertEquals(1, page.getTotalElements());
+        CommentListView comment = page.getContent().get(0);
+        assertEquals("Sample Comment", comment.getContent());
+        assertEquals("Admin", comment.getUserFirstName());
+        assertEquals(1L, comment.getTaskId());
+        assertFalse(comment.getIsEdited());
+        assertTrue(commentRepository.findListPage("%", 2L, null, null, PageRequest.of(0, 20)).isEmpty());
+    }
+
     @Test
     @DisplayName("Test")
     void testFindByUser() {
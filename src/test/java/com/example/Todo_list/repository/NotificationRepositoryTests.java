@@ -1,10 +1,13 @@
 package com.example.Todo_list.repository;
 
 import com.example.Todo_list.entity.Notification;
+import com.example.Todo_list.entity.NotificationKind;
+import com.example.Todo_list.repository.projection.NotificationFeedView;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 
 import java.util.List;
 
@@ -34,4 +37,63 @@ public class NotificationRepositoryTests {
         assertEquals("Sample Message", notification.getMessage());
         assertEquals(1, notification.getUser().getId());
     }
+
+    @Test
+    @DisplayName("insertIfAbsent() inserts a task notification only once per user, kind and task")
+    void testInsertIfAbsent() {
+        long before = notificationRepository.count();
+
+        assertEquals(1, notificationRepository.insertIfAbsent(2L, "TASK_DUE", 3L, "Task Due", "Task Trivial Task is due"));
+        assertEquals(0, notificationRepository.insertIfAbsent(2L, "TASK_DUE", 3L, "Task Due", "Task Trivial Task is due"));
+        assertEquals(1, notificationRepository.insertIfAbsent(2L, "TASK_DUE", 4L, "Task Due", "Task Trivial Task is due"));
+        assertEquals(1, notificationRepository.insertIfAbsent(3L, "TASK_DUE", 3L, "Task Due", "Task Trivial Task is due"));
+        assertEquals(before + 3, notificationRepository.count());
+
+        Notification inserted = notificationRepository.findByUser(userRepository.findById(3L).get()).stream()
+                .filter(notification -> notification.getKind() == NotificationKind.TASK_DUE)
+                .findFirst().orElseThrow();
+        assertEquals(3L, inserted.getTaskId());
+        assertNotNull(inserted.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("Notifications not tied to a task default to the GENERAL kind")
+    void testDefaultKind() {
+        Notification notification = notificationRepository.findById(1L).get();
+        assertEquals(NotificationKind.GENERAL, notification.getKind());
+        assertNull(notification.getTaskId());
+    }
+
+    @Test
+    @DisplayName("insertForUserRange() inserts one notification per user in the id range")
+    void testInsertForUserRange() {
+        long before = notificationRepository.count();
+
+        assertEquals(3, notificationRepository.insertForUserRange("Broadcast", "Broadcast Message", 2L, 4L));
+        assertEquals(before + 3, notificationRepository.count());
+        assertTrue(notificationRepository.findByUser(userRepository.findById(1L).get()).stream()
+                .noneMatch(notification -> notification.getTitle().equals("Broadcast")));
+    }
+
+    @Test
+    @DisplayName("findFeed() and findFeedBefore() page through a user's notifications newest first without overlap")
+    void testFindFeedKeyset() {
+        List<NotificationFeedView> firstPage = notificationRepository.findFeed(1L, Limit.of(2));
+        assertEquals(2, firstPage.size());
+        assertEquals(3L, firstPage.get(0).getId());
+        assertEquals(2L, firstPage.get(1).getId());
+
+        NotificationFeedView last = firstPage.get(1);
+        List<NotificationFeedView> secondPage = notificationRepository.findFeedBefore(1L, last.getCreatedAt(), last.getId(), Limit.of(2));
+        assertEquals(1, secondPage.size());
+        assertEquals(1L, secondPage.get(0).getId());
+        assertEquals("Sample Notification", secondPage.get(0).getTitle());
+    }
+
+    @Test
+    @DisplayName("countByUserId() returns the number of notifications of a user")
+    void testCountByUserId() {
+        assertEquals(3, notificationRepository.countByUserId(1L));
+        assertEquals(0, notificationRepository.countByUserId(-1L));
+    }
 }
@@ -3,6 +3,7 @@ package com.example.Todo_list.repository;
 import com.example.Todo_list.entity.OAuthUser;
 import com.example.Todo_list.entity.User;
 import com.example.Todo_list.security.oauth2.OAuth2Provider;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -37,6 +38,18 @@ public class OAuthUserRepositoryTests {
         assertTrue(oAuthUserRepository.findByProviderAndProviderUserId(OAuth2Provider.GITHUB, "github12345").isPresent());
     }
 
+    @Test
+    @DisplayName("findWithUserByProviderAndProviderUserId() finds an OAuthUser together with its User and their Role")
+    void testFindWithUserByProviderAndProviderUserId() {
+        OAuthUser oAuthGithubUser =
+                oAuthUserRepository.findWithUserByProviderAndProviderUserId(OAuth2Provider.GITHUB, "github12345").get();
+
+        assertTrue(Hibernate.isInitialized(oAuthGithubUser.getUser()));
+        assertTrue(Hibernate.isInitialized(oAuthGithubUser.getUser().getRole()));
+        assertEquals("githubuser@mail.com", oAuthGithubUser.getUser().getEmail());
+        assertTrue(oAuthUserRepository.findWithUserByProviderAndProviderUserId(OAuth2Provider.GOOGLE, "github12345").isEmpty());
+    }
+
     @Test
     @DisplayName("deleteByUser() deletes an OAuthUser given a User")
     void testDeleteOAuthUserByUser() {
@@ -0,0 +1,109 @@
+package com.example.Todo_list.repository;
+
+import com.example.Todo_list.entity.ToDo;
+import com.example.Todo_list.entity.User;
+import com.example.Todo_list.repository.projection.UserSummary;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Entries of a read-write cache region only become visible to transactions started after the one that put them, so
+ * these tests run without a test transaction and let every repository call commit on its own.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SecondLevelCacheTests {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private StateRepository stateRepository;
+
+    @Autowired
+    private ToDoRepository toDoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void beforeEach() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Cached entities are read from the second-level cache once they have been loaded")
+    void testEntitiesAreCached() {
+        stateRepository.findById(1L).orElseThrow();
+        toDoRepository.findById(1L).orElseThrow();
+
+        assertEquals("New", stateRepository.findById(1L).orElseThrow().getName());
+        assertNotNull(toDoRepository.findById(1L).orElseThrow().getTitle());
+
+        assertEquals(1, statistics.getDomainDataRegionStatistics("states").getHitCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("todos").getHitCount());
+    }
+
+    @Test
+    @DisplayName("Saving a cached entity replaces its cache entry")
+    void testSaveUpdatesEntity() {
+        ToDo todo = toDoRepository.findById(1L).orElseThrow();
+        String title = todo.getTitle();
+        todo.setTitle("Renamed todo");
+        toDoRepository.save(todo);
+
+        try {
+            assertEquals("Renamed todo", toDoRepository.findById(1L).orElseThrow().getTitle());
+        } finally {
+            todo.setTitle(title);
+            toDoRepository.save(todo);
+        }
+    }
+
+    @Test
+    @DisplayName("findAllSummaries() is answered from the query cache until a user is saved")
+    void testUserSummariesAreCached() {
+        int users = userRepository.findAllSummaries().size();
+        assertEquals(users, userRepository.findAllSummaries().size());
+        assertEquals(1, statistics.getQueryRegionStatistics("user-summaries").getHitCount());
+
+        User user = new User();
+        user.setFirstName("Cache");
+        user.setLastName("Tester");
+        user.setEmail("cache.tester@mail.com");
+        user.setPassword("Password1!");
+        user.setRole(roleRepository.findByName("USER").orElseThrow());
+        user = userRepository.save(user);
+
+        try {
+            List<UserSummary> summaries = userRepository.findAllSummaries();
+            assertEquals(users + 1, summaries.size());
+            assertEquals("cache.tester@mail.com", summaries.get(summaries.size() - 1).getEmail());
+            assertEquals(1, statistics.getQueryRegionStatistics("user-summaries").getHitCount());
+        } finally {
+            userRepository.delete(user);
+        }
+    }
+}
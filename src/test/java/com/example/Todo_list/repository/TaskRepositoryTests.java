@@ -2,11 +2,16 @@ package com.example.Todo_list.repository;
 
 import com.example.Todo_list.entity.Priority;
 import com.example.Todo_list.entity.Task;
+import com.example.Todo_list.entity.User;
+import com.example.Todo_list.repository.projection.BoardTaskView;
+import com.example.Todo_list.repository.projection.OverdueTaskView;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -17,6 +22,9 @@ public class TaskRepositoryTests {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private UserRepository userRepository;
+
     @Test
     @DisplayName("findByTodoId() returns a List<Task> associated with a ToDo given its ID")
     void testFindTasksByTodoIdFound() {
@@ -40,4 +48,107 @@ public class TaskRepositoryTests {
     void testFindTasksByTodoIdNotFound() {
         assertTrue(taskRepository.findByTodoId(999L).isEmpty());
     }
+
+    @Test
+    @DisplayName("findOverdueTasks() returns non-completed tasks with deadlines in the scan window in (deadline, id) order")
+    void testFindOverdueTasks() {
+        ZonedDateTime deadline = ZonedDateTime.now().plusHours(1);
+        Task inProgress = taskRepository.findById(3L).get();    // "In Progress"
+        inProgress.setDeadline(deadline);
+        Task completed = taskRepository.findById(1L).get();     // "Completed"
+        completed.setDeadline(deadline);
+        Task later = taskRepository.findById(2L).get();         // "New"
+        later.setDeadline(deadline.plusDays(1));
+        taskRepository.saveAll(List.of(inProgress, completed, later));
+
+        List<OverdueTaskView> overdue = taskRepository.findOverdueTasks(
+                deadline.plusMinutes(1), deadline.minusMinutes(1), Long.MAX_VALUE, "Completed", Limit.of(10));
+
+        assertEquals(1, overdue.size());
+        assertEquals(3L, overdue.get(0).getId());
+        assertEquals("Medium Priority Task", overdue.get(0).getName());
+
+        List<OverdueTaskView> afterCursor = taskRepository.findOverdueTasks(
+                deadline.plusMinutes(1), overdue.get(0).getDeadline(), overdue.get(0).getId(), "Completed", Limit.of(10));
+        assertTrue(afterCursor.isEmpty());
+    }
+
+    @Test
+    @DisplayName("findTaskWithDeadline() finds a task with a deadline unless it is completed")
+    void testFindTaskWithDeadline() {
+        ZonedDateTime deadline = ZonedDateTime.now().plusHours(1);
+        Task inProgress = taskRepository.findById(3L).get();    // "In Progress"
+        inProgress.setDeadline(deadline);
+        Task completed = taskRepository.findById(1L).get();     // "Completed"
+        completed.setDeadline(deadline);
+        Task noDeadline = taskRepository.findById(2L).get();    // "New"
+        noDeadline.setDeadline(null);
+        taskRepository.saveAll(List.of(inProgress, completed, noDeadline));
+
+        OverdueTaskView task = taskRepository.findTaskWithDeadline(3L, "Completed").orElseThrow();
+        assertEquals("Medium Priority Task", task.getName());
+        assertNotNull(task.getDeadline());
+        assertTrue(taskRepository.findTaskWithDeadline(1L, "Completed").isEmpty());
+        assertTrue(taskRepository.findTaskWithDeadline(2L, "Completed").isEmpty());
+    }
+
+    @Test
+    @DisplayName("findAssigneesByTaskIds() returns the assigned user ids of the given tasks")
+    void testFindAssigneesByTaskIds() {
+        Task task = taskRepository.findById(2L).get();
+        task.getAssignedUsers().add(userRepository.findById(2L).get());
+        taskRepository.save(task);
+
+        var assignees = taskRepository.findAssigneesByTaskIds(List.of(2L, 3L));
+
+        assertEquals(1, assignees.size());
+        assertEquals(2L, assignees.get(0).getTaskId());
+        assertEquals(2L, assignees.get(0).getUserId());
+    }
+
+    @Test
+    @DisplayName("findBoardTasks() returns the tasks of a ToDo from the most to the least urgent priority")
+    void testFindBoardTasks() {
+        var tasks = taskRepository.findBoardTasks(1L);
+
+        assertEquals(5, tasks.size());
+        assertEquals(List.of(Priority.URGENT, Priority.HIGH, Priority.MEDIUM, Priority.LOW, Priority.TRIVIAL),
+                     tasks.stream().map(BoardTaskView::getPriority).toList());
+        assertEquals(5L, tasks.get(0).getId());
+        assertNotNull(tasks.get(0).getStateName());
+        assertTrue(taskRepository.findBoardTasks(999L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("findBoardAssignees() returns the assigned users of the tasks of a ToDo with their names")
+    void testFindBoardAssignees() {
+        Task task = taskRepository.findById(2L).get();
+        User user = userRepository.findById(2L).get();
+        task.getAssignedUsers().add(user);
+        taskRepository.save(task);
+
+        var assignees = taskRepository.findBoardAssignees(1L);
+
+        assertEquals(1, assignees.size());
+        assertEquals(2L, assignees.get(0).getTaskId());
+        assertEquals(2L, assignees.get(0).getUserId());
+        assertEquals(user.getFirstName(), assignees.get(0).getFirstName());
+        assertEquals(user.getLastName(), assignees.get(0).getLastName());
+        assertTrue(taskRepository.findBoardAssignees(2L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("findAssignedTaskPage() pages through the tasks assigned to a user in id order")
+    void testFindAssignedTaskPage() {
+        User user = userRepository.findById(2L).get();
+        for (Long taskId : List.of(9L, 2L, 12L)) {
+            Task task = taskRepository.findById(taskId).get();
+            task.getAssignedUsers().add(user);
+            taskRepository.save(task);
+        }
+
+        assertEquals(List.of(2L, 9L), taskRepository.findAssignedTaskPage(2L, 0L, Limit.of(2)).stream().map(Task::getId).toList());
+        assertEquals(List.of(12L), taskRepository.findAssignedTaskPage(2L, 9L, Limit.of(2)).stream().map(Task::getId).toList());
+        assertTrue(taskRepository.findAssignedTaskPage(3L, 0L, Limit.of(2)).isEmpty());
+    }
 }
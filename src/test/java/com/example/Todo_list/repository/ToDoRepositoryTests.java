@@ -1,12 +1,17 @@
 package com.example.Todo_list.repository;
 
 import com.example.Todo_list.entity.ToDo;
+import com.example.Todo_list.repository.projection.ToDoListView;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -17,10 +22,27 @@ public class ToDoRepositoryTests {
     private ToDoRepository toDoRepository;
 
     @Test
-    @DisplayName("findToDoByOwnerId() returns a non-empty List<ToDo> given a valid User ID")
-    void testFindToDoByOwnerIdFound() {
+    @DisplayName("findListPage() finds a page of the ToDos matching a title and an owner, with their owners' names")
+    void testFindListPage() {
+        Page<ToDoListView> page = toDoRepository.findListPage(
+                "%project #%", 2L, null, null, PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "title").and(Sort.by("id")))
+        );
+
+        assertEquals(3, page.getTotalElements());
+        assertEquals(List.of("User Project #3", "User Project #2"), page.getContent().stream().map(ToDoListView::getTitle).toList());
+        assertEquals(2L, page.getContent().get(0).getOwnerId());
+        assertEquals("User", page.getContent().get(0).getOwnerFirstName());
+
+        Page<ToDoListView> all = toDoRepository.findListPage("%", null, null, null, PageRequest.of(0, 100, Sort.by("id")));
+        assertEquals(toDoRepository.count(), all.getTotalElements());
+        assertEquals(1L, all.getContent().get(0).getId());
+    }
+
+    @Test
+    @DisplayName("findTodoPageOfUser() returns the ToDos a user owns or collaborates on, ordered by id")
+    void testFindTodoPageOfUserFound() {
         Long adminUserId = 1L;
-        List<ToDo> todos = toDoRepository.findTodoByOwnerId(adminUserId);
+        List<ToDo> todos = toDoRepository.findTodoPageOfUser(adminUserId, 0L, 20);
         assertNotNull(todos);
         assertFalse(todos.isEmpty());
         assertEquals(3, todos.size());
@@ -32,11 +54,68 @@ public class ToDoRepositoryTests {
         assertEquals(1, todo.getOwner().getId());
         assertFalse(todo.getTasks().isEmpty());
         assertFalse(todo.getCollaborators().isEmpty());
+
+        // User 2 owns ToDos 4-6 and collaborates on ToDo 1
+        assertEquals(List.of(1L, 4L, 5L, 6L),
+                     toDoRepository.findTodoPageOfUser(2L, 0L, 20).stream().map(ToDo::getId).toList());
+    }
+
+    @Test
+    @DisplayName("findTodoPageOfUser() pages through the ToDos of a user after the given id")
+    void testFindTodoPageOfUserPaged() {
+        assertEquals(List.of(1L, 4L), toDoRepository.findTodoPageOfUser(2L, 0L, 2).stream().map(ToDo::getId).toList());
+        assertEquals(List.of(5L, 6L), toDoRepository.findTodoPageOfUser(2L, 4L, 2).stream().map(ToDo::getId).toList());
+        assertTrue(toDoRepository.findTodoPageOfUser(2L, 6L, 2).isEmpty());
+    }
+
+    @Test
+    @DisplayName("findTodoPageOfUser() returns an empty List<ToDo> if the given User ID was invalid")
+    void testFindTodoPageOfUserNotFound() {
+        assertTrue(toDoRepository.findTodoPageOfUser(999L, 0L, 20).isEmpty());
+    }
+
+    @Test
+    @DisplayName("isOwner() and isOwnerOrCollaborator() tell owners and collaborators apart from other users")
+    void testTodoMembership() {
+        assertTrue(toDoRepository.isOwner(1L, 1L));
+        assertTrue(toDoRepository.isOwnerOrCollaborator(1L, 1L));
+
+        assertFalse(toDoRepository.isOwner(1L, 2L));
+        assertTrue(toDoRepository.isOwnerOrCollaborator(1L, 2L));
+
+        assertFalse(toDoRepository.isOwner(1L, 3L));
+        assertFalse(toDoRepository.isOwnerOrCollaborator(1L, 3L));
+
+        assertFalse(toDoRepository.isOwnerOrCollaborator(999L, 1L));
+    }
+
+    @Test
+    @DisplayName("isOwnerOfTaskTodo() and isMemberOfTaskTodo() check the todo that the task belongs to")
+    void testTaskTodoMembership() {
+        assertTrue(toDoRepository.isOwnerOfTaskTodo(1L, 1L));
+        assertTrue(toDoRepository.isMemberOfTaskTodo(1L, 1L));
+
+        assertFalse(toDoRepository.isOwnerOfTaskTodo(1L, 4L));
+        assertTrue(toDoRepository.isMemberOfTaskTodo(1L, 4L));
+
+        assertFalse(toDoRepository.isOwnerOfTaskTodo(12L, 1L));
+        assertFalse(toDoRepository.isMemberOfTaskTodo(12L, 1L));
+
+        assertFalse(toDoRepository.isMemberOfTaskTodo(999L, 1L));
+    }
+
+    @Test
+    @DisplayName("findMemberIdsAmong() keeps only the given users that own or collaborate on the todo")
+    void testFindMemberIdsAmong() {
+        assertEquals(Set.of(1L, 2L), Set.copyOf(toDoRepository.findMemberIdsAmong(1L, List.of(1L, 2L, 3L))));
+        assertEquals(List.of(2L), toDoRepository.findMemberIdsAmong(1L, List.of(2L, 999L)));
+        assertTrue(toDoRepository.findMemberIdsAmong(4L, List.of(1L, 3L)).isEmpty());
     }
 
     @Test
-    @DisplayName("findToDoByOwnerId() returns an empty List<ToDo> if the given User ID was invalid")
-    void testFindToDoByOwnerIdNotFound() {
-        assertTrue(toDoRepository.findTodoByOwnerId(999L).isEmpty());
+    @DisplayName("findMemberTodoIds() finds the todos a user owns or collaborates on")
+    void testFindMemberTodoIds() {
+        assertEquals(Set.of(1L, 4L, 5L, 6L), Set.copyOf(toDoRepository.findMemberTodoIds(2L)));
+        assertTrue(toDoRepository.findMemberTodoIds(999L).isEmpty());
     }
 }
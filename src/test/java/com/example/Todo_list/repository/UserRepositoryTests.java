@@ -1,10 +1,20 @@
 package com.example.Todo_list.repository;
 
 import com.example.Todo_list.entity.User;
+import com.example.Todo_list.repository.projection.UserCredentials;
+import com.example.Todo_list.repository.projection.UserListView;
+import com.example.Todo_list.repository.projection.UserSummary;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.ZonedDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -40,4 +50,67 @@ public class UserRepositoryTests {
         String invalidEmail = "error@mail.com";
         assertFalse(userRepository.findByEmail(invalidEmail).isPresent());
     }
+
+    @Test
+    @DisplayName("findCredentialsByEmail() finds the id, first name, email, password and role name of a User")
+    void testFindCredentialsByEmail() {
+        User adminUser = userRepository.findByEmail("admin@mail.com").get();
+        UserCredentials credentials = userRepository.findCredentialsByEmail("admin@mail.com").get();
+
+        assertEquals(adminUser.getId(), credentials.getId());
+        assertEquals(adminUser.getFirstName(), credentials.getFirstName());
+        assertEquals(adminUser.getEmail(), credentials.getEmail());
+        assertEquals(adminUser.getPassword(), credentials.getPassword());
+        assertEquals(adminUser.getRole().getName(), credentials.getRoleName());
+        assertFalse(userRepository.findCredentialsByEmail("error@mail.com").isPresent());
+    }
+
+    @Test
+    @DisplayName("findListPage() finds a page of the users matching a name, with their role names, sorted by the database")
+    void testFindListPage() {
+        Page<UserListView> page = userRepository.findListPage(
+                "%doe%", null, null, PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "firstName").and(Sort.by("id")))
+        );
+
+        assertEquals(4, page.getTotalElements());
+        assertEquals(2, page.getTotalPages());
+        assertEquals(List.of("User", "Guest"), page.getContent().stream().map(UserListView::getFirstName).toList());
+        assertEquals("USER", page.getContent().get(0).getRoleName());
+
+        ZonedDateTime tomorrow = ZonedDateTime.now().plusDays(1);
+        assertEquals(List.of("admin@mail.com"), userRepository.findListPage("%admin%", null, tomorrow, PageRequest.of(0, 20))
+                .map(UserListView::getEmail).getContent());
+        assertTrue(userRepository.findListPage("%", tomorrow, null, PageRequest.of(0, 20)).isEmpty());
+        // The LIKE wildcards of a name are matched literally once escaped
+        assertTrue(userRepository.findListPage("%!_%", null, null, PageRequest.of(0, 20)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("findAll() loads roles with the users but leaves their comments and notifications unloaded")
+    void testFindAllLoadsRoleOnly() {
+        List<User> users = userRepository.findAll();
+        assertFalse(users.isEmpty());
+
+        User user = users.get(0);
+        assertTrue(Hibernate.isInitialized(user.getRole()));
+        assertFalse(Hibernate.isInitialized(user.getComments()));
+        assertFalse(Hibernate.isInitialized(user.getNotifications()));
+    }
+
+    @Test
+    @DisplayName("findAllSummaries() returns the id, name and email of every user ordered by id")
+    void testFindAllSummaries() {
+        List<UserSummary> summaries = userRepository.findAllSummaries();
+        assertEquals(userRepository.count(), summaries.size());
+
+        UserSummary admin = summaries.get(0);
+        assertEquals(1L, admin.getId());
+        assertEquals("admin@mail.com", admin.getEmail());
+        assertNotNull(admin.getFirstName());
+        assertNotNull(admin.getLastName());
+
+        for (int i = 1; i < summaries.size(); i++) {
+            assertTrue(summaries.get(i - 1).getId() < summaries.get(i).getId());
+        }
+    }
 }
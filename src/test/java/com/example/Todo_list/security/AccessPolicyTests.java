@@ -0,0 +1,76 @@
+package com.example.Todo_list.security;
+
+import com.example.Todo_list.repository.ToDoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AccessPolicyTests {
+
+    @Mock
+    private ToDoRepository toDoRepository;
+
+    @InjectMocks
+    private AccessPolicy accessPolicy;
+
+    @AfterEach
+    public void afterEach() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("isTodoOwner() and canAccessTodo() grant access to the owner")
+    public void testTodoOwner() {
+        when(toDoRepository.isOwner(1L, 1L)).thenReturn(true);
+        when(toDoRepository.isOwnerOrCollaborator(1L, 1L)).thenReturn(true);
+
+        assertTrue(accessPolicy.isTodoOwner(1L, 1L));
+        assertTrue(accessPolicy.canAccessTodo(1L, 1L));
+    }
+
+    @Test
+    @DisplayName("canAccessTodo() grants access to collaborators, but isTodoOwner() does not")
+    public void testTodoCollaborator() {
+        when(toDoRepository.isOwner(1L, 2L)).thenReturn(false);
+        when(toDoRepository.isOwnerOrCollaborator(1L, 2L)).thenReturn(true);
+
+        assertFalse(accessPolicy.isTodoOwner(1L, 2L));
+        assertTrue(accessPolicy.canAccessTodo(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("canAccessTask() and isTaskTodoOwner() deny access to users outside the task's todo")
+    public void testTaskStranger() {
+        when(toDoRepository.isOwnerOfTaskTodo(1L, 3L)).thenReturn(false);
+        when(toDoRepository.isMemberOfTaskTodo(1L, 3L)).thenReturn(false);
+
+        assertFalse(accessPolicy.isTaskTodoOwner(1L, 3L));
+        assertFalse(accessPolicy.canAccessTask(1L, 3L));
+    }
+
+    @Test
+    @DisplayName("Access checks are queried once per request and memoized for the rest of it")
+    public void testMemoizedPerRequest() {
+        when(toDoRepository.isMemberOfTaskTodo(1L, 2L)).thenReturn(true);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertTrue(accessPolicy.canAccessTask(1L, 2L));
+        assertTrue(accessPolicy.canAccessTask(1L, 2L));
+        verify(toDoRepository, times(1)).isMemberOfTaskTodo(1L, 2L);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertTrue(accessPolicy.canAccessTask(1L, 2L));
+        verify(toDoRepository, times(2)).isMemberOfTaskTodo(1L, 2L);
+    }
+}
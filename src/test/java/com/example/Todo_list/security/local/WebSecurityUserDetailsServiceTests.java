@@ -0,0 +1,99 @@
+package com.example.Todo_list.security.local;
+
+import com.example.Todo_list.config.CacheConfig;
+import com.example.Todo_list.repository.UserRepository;
+import com.example.Todo_list.repository.projection.UserCredentials;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig({CacheConfig.class, WebSecurityUserDetailsService.class})
+public class WebSecurityUserDetailsServiceTests {
+
+    private static final String EMAIL = "user@mail.com";
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private UserDetailsPasswordService userDetailsPasswordService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void beforeEach() {
+        cacheManager.getCache(CacheConfig.PRINCIPALS).clear();
+    }
+
+    @Test
+    @DisplayName("loadUserByUsername() builds the user details from the credentials and reads them only once")
+    void testLoadUserByUsernameIsCached() {
+        UserCredentials credentials = credentials("{bcrypt}old");
+        when(userRepository.findCredentialsByEmail(EMAIL)).thenReturn(Optional.of(credentials));
+
+        WebSecurityUserDetails userDetails = (WebSecurityUserDetails) userDetailsService.loadUserByUsername(EMAIL);
+        assertSame(userDetails, userDetailsService.loadUserByUsername(EMAIL));
+
+        assertEquals(1L, userDetails.getId());
+        assertEquals("User", userDetails.getFirstName());
+        assertEquals(EMAIL, userDetails.getUsername());
+        assertEquals("{bcrypt}old", userDetails.getPassword());
+        assertEquals("USER", userDetails.getAuthorities().iterator().next().getAuthority());
+        verify(userRepository, times(1)).findCredentialsByEmail(EMAIL);
+        verify(userRepository, never()).findByEmail(any());
+    }
+
+    @Test
+    @DisplayName("loadUserByUsername() throws UsernameNotFoundException and caches nothing if no user has the email")
+    void testLoadUnknownUser() {
+        when(userRepository.findCredentialsByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername(EMAIL));
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername(EMAIL));
+        verify(userRepository, times(2)).findCredentialsByEmail(EMAIL);
+    }
+
+    @Test
+    @DisplayName("updatePassword() stores the new hash and replaces the cached user details")
+    void testUpdatePasswordReplacesCachedUserDetails() {
+        UserCredentials oldCredentials = credentials("{bcrypt}old");
+        UserCredentials newCredentials = credentials("{bcrypt}new");
+        when(userRepository.findCredentialsByEmail(EMAIL))
+                .thenReturn(Optional.of(oldCredentials), Optional.of(newCredentials));
+        when(userRepository.updatePasswordByEmail(EMAIL, "{bcrypt}new")).thenReturn(1);
+
+        UserDetails userDetails = userDetailsService.loadUserByUsername(EMAIL);
+        userDetailsPasswordService.updatePassword(userDetails, "{bcrypt}new");
+
+        assertEquals("{bcrypt}new", userDetailsService.loadUserByUsername(EMAIL).getPassword());
+        verify(userRepository).updatePasswordByEmail(EMAIL, "{bcrypt}new");
+        verify(userRepository, times(2)).findCredentialsByEmail(EMAIL);
+    }
+
+    private static UserCredentials credentials(String password) {
+        UserCredentials credentials = mock(UserCredentials.class);
+        when(credentials.getId()).thenReturn(1L);
+        when(credentials.getFirstName()).thenReturn("User");
+        when(credentials.getEmail()).thenReturn(EMAIL);
+        when(credentials.getPassword()).thenReturn(password);
+        when(credentials.getRoleName()).thenReturn("USER");
+        return credentials;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.Todo_list.security.logout;
+
+import com.example.Todo_list.event.UserDeletedEvent;
+import com.example.Todo_list.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserExistenceCacheTests {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserExistenceCache userExistenceCache;
+
+    @Test
+    @DisplayName("exists() queries the database once per user and answers repeated lookups from the cache")
+    public void testExistsCached() {
+        when(userRepository.existsById(1L)).thenReturn(true);
+
+        assertTrue(userExistenceCache.exists(1L));
+        assertTrue(userExistenceCache.exists(1L));
+
+        verify(userRepository, times(1)).existsById(1L);
+    }
+
+    @Test
+    @DisplayName("onUserDeleted() invalidates the cached entry so the deleted user is reported as missing")
+    public void testOnUserDeleted() {
+        when(userRepository.existsById(1L)).thenReturn(true, false);
+        assertTrue(userExistenceCache.exists(1L));
+
+        userExistenceCache.onUserDeleted(new UserDeletedEvent(1L));
+
+        assertFalse(userExistenceCache.exists(1L));
+        verify(userRepository, times(2)).existsById(1L);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.Todo_list.security.oauth2;
+
+import com.example.Todo_list.entity.OAuthUser;
+import com.example.Todo_list.entity.Role;
+import com.example.Todo_list.entity.User;
+import com.example.Todo_list.event.OAuthUserCreatedEvent;
+import com.example.Todo_list.event.UserSavedEvent;
+import com.example.Todo_list.repository.OAuthUserRepository;
+import com.example.Todo_list.repository.UserRepository;
+import com.example.Todo_list.service.RoleService;
+import com.example.Todo_list.service.workspace.WorkspaceProvisioner;
+import com.example.Todo_list.utils.PasswordService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OAuthUserProvisionerTests {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private OAuthUserRepository oAuthUserRepository;
+
+    @Mock
+    private RoleService roleService;
+
+    @Mock
+    private WorkspaceProvisioner workspaceProvisioner;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private OAuthUserProvisioner oAuthUserProvisioner;
+
+    @Test
+    @DisplayName("findUser() returns the User of the OAuthUser found with its User and Role")
+    void testFindUser() {
+        User user = new User();
+        OAuthUser oAuthUser = new OAuthUser();
+        oAuthUser.setUser(user);
+        when(oAuthUserRepository.findWithUserByProviderAndProviderUserId(OAuth2Provider.GITHUB, "github12345"))
+                .thenReturn(Optional.of(oAuthUser));
+
+        assertSame(user, oAuthUserProvisioner.findUser(OAuth2Provider.GITHUB, "github12345").orElseThrow());
+        verify(oAuthUserRepository, never()).findByProviderAndProviderUserId(any(), any());
+    }
+
+    @Test
+    @DisplayName("createUser() saves the User and its OAuthUser without a password and leaves the workspace for later")
+    void testCreateUser() {
+        Role role = new Role();
+        role.setName("USER");
+        when(roleService.findRoleByName("USER")).thenReturn(role);
+        User user = new User();
+        user.setFirstName("GitHub");
+
+        assertSame(user, oAuthUserProvisioner.createUser(user, OAuth2Provider.GITHUB, "github12345"));
+
+        assertEquals(PasswordService.NO_CREDENTIAL, user.getPassword());
+        assertSame(role, user.getRole());
+        verify(userRepository).save(user);
+        ArgumentCaptor<OAuthUser> oAuthUser = ArgumentCaptor.forClass(OAuthUser.class);
+        verify(oAuthUserRepository).save(oAuthUser.capture());
+        assertEquals(OAuth2Provider.GITHUB, oAuthUser.getValue().getProvider());
+        assertEquals("github12345", oAuthUser.getValue().getProviderUserId());
+        assertSame(user, oAuthUser.getValue().getUser());
+        verify(eventPublisher).publishEvent(any(UserSavedEvent.class));
+        verify(eventPublisher).publishEvent(any(OAuthUserCreatedEvent.class));
+        verifyNoInteractions(workspaceProvisioner);
+    }
+
+    @Test
+    @DisplayName("onOAuthUserCreated() inserts the sample workspace of registered users")
+    void testOnOAuthUserCreated() {
+        oAuthUserProvisioner.onOAuthUserCreated(new OAuthUserCreatedEvent(7L));
+        verify(workspaceProvisioner).provisionMemberWorkspace(7L);
+    }
+}
@@ -1,10 +1,15 @@
 package com.example.Todo_list.service;
 
 import com.example.Todo_list.entity.Comment;
+import com.example.Todo_list.entity.Task;
+import com.example.Todo_list.entity.ToDo;
 import com.example.Todo_list.entity.User;
 import com.example.Todo_list.exception.NullEntityException;
 import com.example.Todo_list.repository.CommentRepository;
+import com.example.Todo_list.repository.ToDoRepository;
+import com.example.Todo_list.repository.UserRepository;
 import com.example.Todo_list.service.impl.CommentServiceImpl;
+import com.example.Todo_list.service.mention.MentionIndex;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,9 +18,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -27,6 +34,18 @@ public class CommentServiceTests {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ToDoRepository toDoRepository;
+
+    @Mock
+    private MentionIndex mentionIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CommentServiceImpl commentService;
 
@@ -157,4 +176,40 @@ public class CommentServiceTests {
         assertThrows(NullEntityException.class, () -> commentService.deleteComment(null));
         verify(commentRepository, times(0)).delete(any(Comment.class));
     }
+
+    @Test
+    @DisplayName("findTaggedUserInComment() returns the mentioned users that own or collaborate on the comment's ToDo")
+    void testFindTaggedUserInComment() {
+        ToDo toDo = new ToDo();
+        toDo.setId(1L);
+        Task task = new Task();
+        task.setTodo(toDo);
+        comment.setTask(task);
+        comment.setContent("Hi @John and @Jane");
+        User john = new User();
+        john.setId(2L);
+        john.setFirstName("John");
+
+        when(mentionIndex.findMentionedUserIds(comment.getContent())).thenReturn(Set.of(2L, 3L));
+        when(toDoRepository.findMemberIdsAmong(1L, Set.of(2L, 3L))).thenReturn(List.of(2L));
+        when(userRepository.findAllById(List.of(2L))).thenReturn(List.of(john));
+
+        assertEquals(List.of(john), commentService.findTaggedUserInComment(comment));
+        verify(userRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("findTaggedUserInComment() does not query users if nobody is mentioned")
+    void testFindTaggedUserInCommentNoMentions() {
+        when(mentionIndex.findMentionedUserIds(comment.getContent())).thenReturn(Set.of());
+
+        assertTrue(commentService.findTaggedUserInComment(comment).isEmpty());
+        verifyNoInteractions(toDoRepository, userRepository);
+    }
+
+    @Test
+    @DisplayName("findTaggedUserInComment() should throw NullEntityException when given a null comment")
+    void testFindTaggedUserInNullComment() {
+        assertThrows(NullEntityException.class, () -> commentService.findTaggedUserInComment(null));
+    }
 }
@@ -1,12 +1,11 @@
 package com.example.Todo_list.service;
 
 import com.example.Todo_list.entity.Notification;
-import com.example.Todo_list.entity.State;
-import com.example.Todo_list.entity.Task;
+import com.example.Todo_list.entity.NotificationKind;
 import com.example.Todo_list.entity.User;
+import com.example.Todo_list.event.NotificationCreatedEvent;
 import com.example.Todo_list.exception.NullEntityException;
 import com.example.Todo_list.repository.NotificationRepository;
-import com.example.Todo_list.repository.TaskRepository;
 import com.example.Todo_list.repository.UserRepository;
 import com.example.Todo_list.service.impl.NotificationServiceImpl;
 import jakarta.persistence.EntityNotFoundException;
@@ -14,16 +13,22 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
+import java.sql.SQLException;
 import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,14 +41,12 @@ public class NotificationServiceTests {
     private UserRepository userRepository;
 
     @Mock
-    private TaskRepository taskRepository;
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private NotificationServiceImpl notificationService;
 
     private User user;
-    private Task task;
-    private State state;
     private Notification notification;
 
     @BeforeEach
@@ -51,52 +54,11 @@ public class NotificationServiceTests {
         user = new User();
         user.setId(1L);
 
-        state = new State();
-        state.setId(1L);
-        state.setName("Completed");
-
-        task = new Task();
-        task.setId(1L);
-        task.setName("Task 1");
-        task.setState(state);
-
         notification = new Notification();
         notification.setId(1L);
         notification.setTitle("Task Due");
         notification.setMessage("Task 1 is due");
-    }
-
-    @Test
-    @DisplayName("checkDueTasks() does not send notifications for tasks that are not past due")
-    public void testCheckDueTasksBeforeDeadline() {
-        task.setDeadline(ZonedDateTime.now().plusHours(1));
-
-        when(taskRepository.findAll()).thenReturn(Collections.singletonList(task));
-
-        notificationService.checkDueTasks();
-
-        verify(taskRepository, times(1)).findAll();
-        verify(notificationRepository, times(0)).save(any(Notification.class));
-    }
-
-    @Test
-    @DisplayName("checkDueTasks() checks for tasks that are past due and sends notifications to users assigned to the task")
-    public void testCheckDueTasksAfterDeadline() {
-        state.setName("In Progress");  // Task is not completed
-        task.setState(state);
-        task.setDeadline(ZonedDateTime.now().minusHours(12));
-        task.setAssignedUsers(Collections.singletonList(user));
-
-        user.setNotifications(Collections.singletonList(notification));
         notification.setUser(user);
-
-        when(taskRepository.findAll()).thenReturn(Collections.singletonList(task));
-        when(userRepository.findById(any(long.class))).thenReturn(java.util.Optional.of(user));
-
-        notificationService.checkDueTasks();
-
-        verify(taskRepository, times(1)).findAll();
-        verify(notificationRepository, times(1)).save(any(Notification.class));
     }
 
     @Test
@@ -109,6 +71,7 @@ public class NotificationServiceTests {
 
         verify(userRepository, times(1)).findById(any(long.class));
         verify(notificationRepository, times(1)).save(any(Notification.class));
+        verify(eventPublisher, times(1)).publishEvent(any(NotificationCreatedEvent.class));
     }
 
     @Test
@@ -120,6 +83,65 @@ public class NotificationServiceTests {
 
         verify(userRepository, times(1)).findById(any(long.class));
         verify(notificationRepository, times(0)).save(any(Notification.class));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("sendTaskDueNotification() returns true if a new notification was inserted")
+    public void testSendTaskDueNotification() {
+        when(notificationRepository.insertIfAbsent(1L, "TASK_DUE", 2L, "Task Due", "Task Task 2 is due")).thenReturn(1);
+
+        assertTrue(notificationService.sendTaskDueNotification(1L, 2L, "Task 2"));
+
+        verify(notificationRepository, never()).save(any(Notification.class));
+        verify(notificationRepository, times(1)).findFirstByUserIdAndKindAndTaskId(1L, NotificationKind.TASK_DUE, 2L);
+    }
+
+    @Test
+    @DisplayName("sendTaskDueNotification() returns false if the user was already notified about the task")
+    public void testSendTaskDueNotificationAlreadyNotified() {
+        when(notificationRepository.insertIfAbsent(eq(1L), eq("TASK_DUE"), eq(2L), any(), any())).thenReturn(0);
+
+        assertFalse(notificationService.sendTaskDueNotification(1L, 2L, "Task 2"));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("sendTaskDueNotification() returns false if a concurrent insert violated the unique constraint")
+    public void testSendTaskDueNotificationConcurrentInsert() {
+        when(notificationRepository.insertIfAbsent(eq(1L), eq("TASK_DUE"), eq(2L), any(), any()))
+                .thenThrow(new DataIntegrityViolationException("Duplicate", new SQLException(
+                        "duplicate key value violates unique constraint \"uk_notifications_user_kind_task\"", "23505"
+                )));
+
+        assertFalse(notificationService.sendTaskDueNotification(1L, 2L, "Task 2"));
+    }
+
+    @Test
+    @DisplayName("sendTaskDueNotification() rethrows integrity violations other than the duplicate notification")
+    public void testSendTaskDueNotificationOtherViolation() {
+        DataIntegrityViolationException violation = new DataIntegrityViolationException(
+                "Foreign key", new SQLException("insert or update on table \"notifications\" violates foreign key constraint", "23503")
+        );
+        when(notificationRepository.insertIfAbsent(eq(1L), eq("TASK_DUE"), eq(2L), any(), any())).thenThrow(violation);
+
+        assertSame(violation, assertThrows(DataIntegrityViolationException.class,
+                                           () -> notificationService.sendTaskDueNotification(1L, 2L, "Task 2")));
+    }
+
+    @Test
+    @DisplayName("sendTaskDueNotification() shortens the name of a task so that the message fits the column")
+    public void testSendTaskDueNotificationLongName() {
+        String name = "n".repeat(255);
+        when(notificationRepository.insertIfAbsent(eq(1L), eq("TASK_DUE"), eq(2L), any(), any())).thenReturn(1);
+
+        assertTrue(notificationService.sendTaskDueNotification(1L, 2L, name));
+
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(notificationRepository).insertIfAbsent(eq(1L), eq("TASK_DUE"), eq(2L), eq("Task Due"), message.capture());
+        assertEquals(255, message.getValue().length());
+        assertTrue(message.getValue().startsWith("Task nnn"));
+        assertTrue(message.getValue().endsWith("... is due"));
     }
 
     @Test
@@ -140,15 +162,69 @@ public class NotificationServiceTests {
     }
 
     @Test
-    @DisplayName("sendNotificationToAllUsers() sends a notification to all users")
+    @DisplayName("sendNotificationToAllUsers() sends a notification to all users without loading them")
     public void testSendNotificationToAllUsers() {
-        when(userRepository.findAll()).thenReturn(Collections.singletonList(user));
-        when(notificationRepository.save(any(Notification.class))).thenReturn(notification);
+        when(userRepository.findMinId()).thenReturn(1L);
+        when(userRepository.findMaxId()).thenReturn(4L);
+        when(notificationRepository.insertForUserRange(notification.getTitle(), notification.getMessage(), 1L, 4L)).thenReturn(4);
 
-        notificationService.sendNotificationToAllUsers(notification.getTitle(), notification.getMessage());
+        assertEquals(4, notificationService.sendNotificationToAllUsers(notification.getTitle(), notification.getMessage()));
 
-        verify(userRepository, times(1)).findAll();
-        verify(notificationRepository, times(1)).save(any(Notification.class));
+        verify(userRepository, never()).findAll();
+        verify(notificationRepository, never()).save(any(Notification.class));
+    }
+
+    @Test
+    @DisplayName("sendNotificationToAllUsers() inserts notifications in chunks of user id ranges")
+    public void testSendNotificationToAllUsersChunked() {
+        long maxId = 2L * NotificationServiceImpl.BROADCAST_CHUNK_SIZE + 5;
+        when(userRepository.findMinId()).thenReturn(1L);
+        when(userRepository.findMaxId()).thenReturn(maxId);
+        when(notificationRepository.insertForUserRange(any(), any(), any(), any())).thenReturn(10);
+
+        assertEquals(30, notificationService.sendNotificationToAllUsers("Title", "Message"));
+
+        verify(notificationRepository).insertForUserRange("Title", "Message", 1L, (long) NotificationServiceImpl.BROADCAST_CHUNK_SIZE);
+        verify(notificationRepository).insertForUserRange("Title", "Message", 2L * NotificationServiceImpl.BROADCAST_CHUNK_SIZE + 1, maxId);
+        verify(notificationRepository, times(3)).insertForUserRange(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("sendNotificationToAllUsers() sends nothing if there are no users")
+    public void testSendNotificationToAllUsersNoUsers() {
+        when(userRepository.findMinId()).thenReturn(null);
+
+        assertEquals(0, notificationService.sendNotificationToAllUsers("Title", "Message"));
+
+        verify(notificationRepository, never()).insertForUserRange(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("findNotificationFeed() returns the newest notifications if no cursor is given")
+    public void testFindNotificationFeedFirstPage() {
+        notificationService.findNotificationFeed(1L, null, null, 20);
+
+        verify(notificationRepository, times(1)).findFeed(1L, Limit.of(20));
+        verify(notificationRepository, never()).findFeedBefore(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("findNotificationFeed() continues after the cursor and clamps the limit")
+    public void testFindNotificationFeedBefore() {
+        ZonedDateTime before = ZonedDateTime.now();
+
+        notificationService.findNotificationFeed(1L, before, 5L, 1000);
+
+        verify(notificationRepository, times(1)).findFeedBefore(1L, before, 5L, Limit.of(NotificationService.MAX_FEED_LIMIT));
+        verify(notificationRepository, never()).findFeed(any(), any());
+    }
+
+    @Test
+    @DisplayName("countUnreadNotifications() counts the notifications of a user")
+    public void testCountUnreadNotifications() {
+        when(notificationRepository.countByUserId(1L)).thenReturn(3L);
+
+        assertEquals(3L, notificationService.countUnreadNotifications(1L));
     }
 
     @Test
@@ -1,7 +1,10 @@
 package com.example.Todo_list.service;
 
 import com.example.Todo_list.entity.Task;
+import com.example.Todo_list.entity.ToDo;
 import com.example.Todo_list.entity.User;
+import com.example.Todo_list.event.TaskDueEvent;
+import com.example.Todo_list.event.TodoContentChangedEvent;
 import com.example.Todo_list.exception.NullEntityException;
 import com.example.Todo_list.repository.TaskRepository;
 import com.example.Todo_list.repository.UserRepository;
@@ -16,7 +19,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
+import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -31,6 +37,9 @@ public class TaskServiceTests {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TaskServiceImpl taskService;
 
@@ -66,6 +75,32 @@ public class TaskServiceTests {
         assertEquals(task, actual);
     }
 
+    @Test
+    @DisplayName("save() should publish a TodoContentChangedEvent for the todo of the task")
+    void testSavePublishesTodoContentChanged() {
+        ToDo toDo = new ToDo();
+        toDo.setId(7L);
+        task.setTodo(toDo);
+        when(taskRepository.save(any(Task.class))).thenReturn(task);
+
+        taskService.save(task);
+
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof TodoContentChangedEvent changed && changed.getTodoId().equals(7L)));
+    }
+
+    @Test
+    @DisplayName("save() publishes a TaskDueEvent for a task saved with a deadline that has already passed")
+    void testSavePublishesTaskDue() {
+        task.setDeadline(ZonedDateTime.now().minusHours(1));
+        when(taskRepository.save(any(Task.class))).thenReturn(task);
+
+        taskService.save(task);
+
+        verify(eventPublisher).publishEvent(argThat((Object event) ->
+                event instanceof TaskDueEvent due && due.getTaskId().equals(task.getId())));
+    }
+
     @Test
     @DisplayName("save() should throw NullEntityException when task is null")
     void testSaveInvalidToDo() {
@@ -122,18 +157,19 @@ public class TaskServiceTests {
     }
 
     @Test
-    @DisplayName("findAssignedTasksByUserId() should return a list of tasks assigned to a user")
+    @DisplayName("findAssignedTaskPageOfUserId() should return a page of tasks assigned to a user")
     void testFindAssignedTaskByUserId() {
         task.getAssignedUsers().add(user);
         user.getAssignedTasks().add(task);
 
-        when(taskRepository.findAssignedTasksByUserId(any(long.class))).thenReturn(Collections.singletonList(task));
+        when(taskRepository.findAssignedTaskPage(any(long.class), any(long.class), any(Limit.class))).thenReturn(Collections.singletonList(task));
 
-        List<Task> actual = taskService.findAssignedTasksByUserId(user.getId());
+        List<Task> actual = taskService.findAssignedTaskPageOfUserId(user.getId(), null, 20);
 
         assertFalse(actual.isEmpty());
         assertEquals(1, actual.size());
         assertEquals(task, actual.get(0));
+        verify(taskRepository).findAssignedTaskPage(user.getId(), 0L, Limit.of(20));
     }
 
     @Test
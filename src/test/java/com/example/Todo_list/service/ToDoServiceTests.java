@@ -2,6 +2,7 @@ package com.example.Todo_list.service;
 
 import com.example.Todo_list.entity.ToDo;
 import com.example.Todo_list.entity.User;
+import com.example.Todo_list.event.TodoContentChangedEvent;
 import com.example.Todo_list.exception.NullEntityException;
 import com.example.Todo_list.exception.UserIsToDoOwnerException;
 import com.example.Todo_list.repository.ToDoRepository;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Collections;
 import java.util.List;
@@ -33,6 +35,9 @@ public class ToDoServiceTests {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ToDoServiceImpl toDoService;
 
@@ -61,6 +66,7 @@ public class ToDoServiceTests {
         ToDo actual = toDoService.save(toDo);
 
         verify(toDoRepository).save(any(ToDo.class));
+        verify(eventPublisher).publishEvent(any(TodoContentChangedEvent.class));
         assertEquals(toDo, actual);
     }
 
@@ -97,6 +103,7 @@ public class ToDoServiceTests {
 
         verify(toDoRepository).findById(any(long.class));
         verify(toDoRepository, times(1)).delete(any(ToDo.class));
+        verify(eventPublisher).publishEvent(any(TodoContentChangedEvent.class));
     }
 
     @Test
@@ -133,33 +140,45 @@ public class ToDoServiceTests {
     }
 
     @Test
-    @DisplayName("findAllToDosOfUserId() should return an empty list if no ToDos are found for a user")
+    @DisplayName("findToDoPageOfUserId() should return an empty list if no ToDos are found for a user")
     void testFindAllToDosOfUserIdEmpty() {
-        when(toDoRepository.findTodoByOwnerId(any(long.class))).thenReturn(Collections.emptyList());
+        when(toDoRepository.findTodoPageOfUser(any(long.class), any(long.class), anyInt())).thenReturn(Collections.emptyList());
 
-        List<ToDo> actual = toDoService.findAllToDoOfUserId(1L);
+        List<ToDo> actual = toDoService.findToDoPageOfUserId(1L, null, 20);
 
         assertTrue(actual.isEmpty());
-        verify(toDoRepository).findTodoByOwnerId(any(long.class));
+        verify(toDoRepository).findTodoPageOfUser(1L, 0L, 20);
     }
 
     @Test
-    @DisplayName("findAllToDosOfUserId() should return a list of ToDos if they are found for a user")
+    @DisplayName("findToDoPageOfUserId() should return a list of ToDos if they are found for a user")
     void testFindAllToDosOfUserIdNonEmpty() {
-        when(toDoRepository.findTodoByOwnerId(any(long.class))).thenReturn(Collections.singletonList(toDo));
+        when(toDoRepository.findTodoPageOfUser(any(long.class), any(long.class), anyInt())).thenReturn(Collections.singletonList(toDo));
 
-        List<ToDo> actual = toDoService.findAllToDoOfUserId(1L);
+        List<ToDo> actual = toDoService.findToDoPageOfUserId(1L, null, 20);
 
         assertEquals(1, actual.size());
         assertEquals(toDo, actual.get(0));
-        verify(toDoRepository).findTodoByOwnerId(any(long.class));
+        verify(toDoRepository).findTodoPageOfUser(1L, 0L, 20);
+    }
+
+    @Test
+    @DisplayName("findToDoPageOfUserId() should continue after the given ToDo id and clamp the page size")
+    void testFindToDoPageOfUserIdClamped() {
+        when(toDoRepository.findTodoPageOfUser(any(long.class), any(long.class), anyInt())).thenReturn(Collections.emptyList());
+
+        toDoService.findToDoPageOfUserId(1L, 7L, 10_000);
+        verify(toDoRepository).findTodoPageOfUser(1L, 7L, ToDoService.MAX_PAGE_LIMIT);
+
+        toDoService.findToDoPageOfUserId(1L, 7L, 0);
+        verify(toDoRepository).findTodoPageOfUser(1L, 7L, 1);
     }
 
     @Test
-    @DisplayName("findAllToDosOfUserId() should throw EntityNotFoundException when no ToDos are found for a user")
+    @DisplayName("findToDoPageOfUserId() should throw EntityNotFoundException when no ToDos are found for a user")
     void testFindAllToDosOfInvalidUserId() {
-        when(toDoService.findAllToDoOfUserId(any(long.class))).thenThrow(new EntityNotFoundException());
-        assertThrows(EntityNotFoundException.class, () -> toDoService.findAllToDoOfUserId(999L));
+        when(toDoService.findToDoPageOfUserId(any(long.class), any(), anyInt())).thenThrow(new EntityNotFoundException());
+        assertThrows(EntityNotFoundException.class, () -> toDoService.findToDoPageOfUserId(999L, null, 20));
     }
 
     @Test
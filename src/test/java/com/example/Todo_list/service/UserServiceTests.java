@@ -1,15 +1,21 @@
 package com.example.Todo_list.service;
 
+import com.example.Todo_list.config.CacheConfig;
+import com.example.Todo_list.dto.ListingFilterDTO;
 import com.example.Todo_list.entity.OAuthUser;
 import com.example.Todo_list.entity.Role;
 import com.example.Todo_list.entity.User;
+import com.example.Todo_list.event.UserDeletedEvent;
 import com.example.Todo_list.exception.NullEntityException;
 import com.example.Todo_list.repository.OAuthUserRepository;
 import com.example.Todo_list.repository.UserRepository;
+import com.example.Todo_list.repository.projection.UserListView;
+import com.example.Todo_list.repository.projection.UserSummary;
 import com.example.Todo_list.security.oauth2.OAuth2Provider;
 import com.example.Todo_list.service.impl.UserServiceImpl;
+import com.example.Todo_list.service.workspace.WorkspaceProvisioner;
+import com.example.Todo_list.utils.PageRequests;
 import com.example.Todo_list.utils.PasswordService;
-import com.example.Todo_list.utils.SampleTodoInitializer;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,6 +24,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 import java.util.Collections;
 import java.util.List;
@@ -42,7 +54,16 @@ public class UserServiceTests {
     private PasswordService passwordService;
 
     @Mock
-    private SampleTodoInitializer todoInitializer;
+    private WorkspaceProvisioner workspaceProvisioner;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache principals;
 
     @InjectMocks
     private UserServiceImpl userService;
@@ -89,6 +110,7 @@ public class UserServiceTests {
         User actualUser = userService.save(user);
         assertEquals(user, actualUser);
         verify(userRepository).save(any(User.class));
+        verify(workspaceProvisioner).provisionMemberWorkspace(user.getId());
     }
 
     @Test
@@ -156,6 +178,21 @@ public class UserServiceTests {
         verify(userRepository).findById(any(long.class));
     }
 
+    @Test
+    @DisplayName("updateUser() evicts the cached login principal under both the old and the new email")
+    void testUpdateUserEvictsPrincipals() {
+        User oldUser = new User();
+        oldUser.setId(user.getId());
+        oldUser.setEmail("old@mail.com");
+        when(userRepository.findById(any(long.class))).thenReturn(Optional.of(oldUser));
+        when(userRepository.save(any(User.class))).thenReturn(user);
+        when(cacheManager.getCache(CacheConfig.PRINCIPALS)).thenReturn(principals);
+
+        userService.updateUser(user);
+        verify(principals).evict("old@mail.com");
+        verify(principals).evict(user.getEmail());
+    }
+
     @Test
     @DisplayName("updateUser() updates an existing User even if they use OAuth2 to login")
     void testUpdateOAuthUser() {
@@ -186,9 +223,13 @@ public class UserServiceTests {
     void testDeleteUser() {
         when(userRepository.findById(any(long.class))).thenReturn(Optional.of(user));
 
+        when(cacheManager.getCache(CacheConfig.PRINCIPALS)).thenReturn(principals);
+
         userService.deleteUserById(user.getId());
         verify(userRepository).findById(any(long.class));
         verify(userRepository, times(1)).delete(any(User.class));
+        verify(principals).evict(user.getEmail());
+        verify(eventPublisher, times(1)).publishEvent(any(UserDeletedEvent.class));
     }
 
     @Test
@@ -207,6 +248,7 @@ public class UserServiceTests {
     void testDeleteInvalidUser() {
         assertThrows(EntityNotFoundException.class, () -> userService.deleteUserById(user.getId()));
         verify(userRepository, times(0)).delete(any(User.class));
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -232,4 +274,38 @@ public class UserServiceTests {
 
         verify(userRepository, times(1)).findAll();
     }
+
+    @Test
+    @DisplayName("findAllUserSummaries() returns the summaries of all users from the repository")
+    void testFindAllUserSummaries() {
+        List<UserSummary> expected = List.of(mock(UserSummary.class));
+        when(userRepository.findAllSummaries()).thenReturn(expected);
+
+        List<UserSummary> actual = userService.findAllUserSummaries();
+        assertEquals(expected, actual);
+
+        verify(userRepository, times(1)).findAllSummaries();
+        verify(userRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("findUserPage() sorts only by listed columns, breaks ties by id in the main direction and caps the page size")
+    void testFindUserPage() {
+        ListingFilterDTO filter = new ListingFilterDTO();
+        filter.setName("50%");
+        Page<UserListView> expected = Page.empty();
+        when(userRepository.findListPage(any(), any(), any(), any())).thenReturn(expected);
+
+        Page<UserListView> actual = userService.findUserPage(
+                filter, PageRequest.of(2, 1000, Sort.by("password").and(Sort.by(Sort.Direction.DESC, "email")))
+        );
+        assertEquals(expected, actual);
+
+        verify(userRepository, times(1)).findListPage("%50!%%", null, null, PageRequest.of(
+                2, PageRequests.MAX_PAGE_SIZE, Sort.by(Sort.Direction.DESC, "email").and(Sort.by(Sort.Direction.DESC, "id"))
+        ));
+
+        userService.findUserPage(filter, PageRequest.of(0, 20, Sort.by("password")));
+        verify(userRepository, times(1)).findListPage("%50!%%", null, null, PageRequest.of(0, 20, Sort.by("id")));
+    }
 }
@@ -0,0 +1,84 @@
+package com.example.Todo_list.service.board;
+
+import com.example.Todo_list.dto.BoardTaskDTO;
+import com.example.Todo_list.entity.Priority;
+import com.example.Todo_list.repository.TaskRepository;
+import com.example.Todo_list.repository.projection.BoardAssigneeView;
+import com.example.Todo_list.repository.projection.BoardTaskView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TodoBoardQueryServiceTests {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @InjectMocks
+    private TodoBoardQueryService todoBoardQueryService;
+
+    @Test
+    @DisplayName("findBoardTasks() keeps the database order of the tasks and attaches their assignees")
+    public void testFindBoardTasks() {
+        when(taskRepository.findBoardTasks(1L)).thenReturn(List.of(
+                task(5L, "Urgent Task", Priority.URGENT, "In Progress"),
+                task(1L, "Trivial Task", Priority.TRIVIAL, "Completed")
+        ));
+        when(taskRepository.findBoardAssignees(1L)).thenReturn(List.of(
+                assignee(1L, 2L, "John", "Doe"),
+                assignee(5L, 2L, "John", "Doe"),
+                assignee(5L, 3L, "Jane", "Roe")
+        ));
+
+        List<BoardTaskDTO> board = todoBoardQueryService.findBoardTasks(1L);
+
+        assertEquals(2, board.size());
+        BoardTaskDTO urgent = board.get(0);
+        assertEquals(5L, urgent.getId());
+        assertEquals(Priority.URGENT.ordinal(), urgent.getPriorityOrdinal());
+        assertEquals("In Progress", urgent.getStateName());
+        assertEquals(List.of(2L, 3L), urgent.getAssigneeIds());
+        assertEquals(List.of("John Doe", "Jane Roe"), urgent.getAssigneeNames());
+
+        BoardTaskDTO trivial = board.get(1);
+        assertEquals(1L, trivial.getId());
+        assertEquals(List.of(2L), trivial.getAssigneeIds());
+    }
+
+    @Test
+    @DisplayName("findBoardTasks() does not look up assignees of a ToDo without tasks")
+    public void testFindBoardTasksEmpty() {
+        when(taskRepository.findBoardTasks(1L)).thenReturn(Collections.emptyList());
+
+        assertTrue(todoBoardQueryService.findBoardTasks(1L).isEmpty());
+        verify(taskRepository, never()).findBoardAssignees(any());
+    }
+
+    private static BoardTaskView task(Long id, String name, Priority priority, String stateName) {
+        return new BoardTaskView() {
+            public Long getId() { return id; }
+            public String getName() { return name; }
+            public Priority getPriority() { return priority; }
+            public String getStateName() { return stateName; }
+        };
+    }
+
+    private static BoardAssigneeView assignee(Long taskId, Long userId, String firstName, String lastName) {
+        return new BoardAssigneeView() {
+            public Long getTaskId() { return taskId; }
+            public Long getUserId() { return userId; }
+            public String getFirstName() { return firstName; }
+            public String getLastName() { return lastName; }
+        };
+    }
+}
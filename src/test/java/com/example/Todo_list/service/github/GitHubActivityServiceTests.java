@@ -0,0 +1,177 @@
+package com.example.Todo_list.service.github;
+
+import com.example.Todo_list.dto.GitHubActivityDTO;
+import com.example.Todo_list.dto.GitHubRepoActivityDTO;
+import com.example.Todo_list.entity.github.Issue;
+import com.example.Todo_list.entity.github.PullRequest;
+import com.example.Todo_list.entity.github.Repo;
+import com.example.Todo_list.exception.GitHubApiException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class GitHubActivityServiceTests {
+
+    @Mock
+    private GitHubService gitHubService;
+
+    @Mock
+    private OAuth2AuthorizedClient client;
+
+    @InjectMocks
+    private GitHubActivityService gitHubActivityService;
+
+    @Test
+    @DisplayName("fetchActivity() merges the issues and pull requests of all repositories, most recently updated first")
+    public void testFetchActivity() {
+        when(gitHubService.getUserRepos(client)).thenReturn(CompletableFuture.completedFuture(List.of(repo("alpha"), repo("beta"))));
+        when(gitHubService.getRepoIssues(client, "octo", "alpha")).thenReturn(CompletableFuture.completedFuture(List.of(
+                issue("Alpha issue", "2024-01-03T00:00:00Z", false),
+                issue("Alpha pull listed as issue", "2024-01-05T00:00:00Z", true)
+        )));
+        when(gitHubService.getRepoPullRequests(client, "octo", "alpha")).thenReturn(CompletableFuture.completedFuture(List.of(
+                pull("Alpha pull", "2024-01-05T00:00:00Z")
+        )));
+        when(gitHubService.getRepoIssues(client, "octo", "beta")).thenReturn(CompletableFuture.completedFuture(List.of(
+                issue("Beta issue", "2024-01-04T00:00:00Z", false)
+        )));
+        when(gitHubService.getRepoPullRequests(client, "octo", "beta")).thenReturn(CompletableFuture.completedFuture(List.of(
+                pull("Beta pull", "2024-01-01T00:00:00Z")
+        )));
+        List<GitHubRepoActivityDTO> streamed = new ArrayList<>();
+
+        List<GitHubActivityDTO> activity = gitHubActivityService.fetchActivity(client, streamed::add).join();
+
+        assertEquals(List.of("Alpha pull", "Beta issue", "Alpha issue", "Beta pull"),
+                activity.stream().map(GitHubActivityDTO::getTitle).toList());
+        assertEquals("Pull Request", activity.get(0).getKind());
+        assertEquals("octo/beta", activity.get(1).getRepo());
+        assertEquals(List.of("octo/alpha", "octo/beta"),
+                streamed.stream().map(GitHubRepoActivityDTO::getRepo).sorted().toList());
+    }
+
+    @Test
+    @DisplayName("fetchActivity() reports a repository that fails without failing the others")
+    public void testFetchActivityRepoFails() {
+        when(gitHubService.getUserRepos(client)).thenReturn(CompletableFuture.completedFuture(List.of(repo("alpha"), repo("broken"))));
+        when(gitHubService.getRepoIssues(client, "octo", "alpha")).thenReturn(CompletableFuture.completedFuture(List.of(
+                issue("Alpha issue", "2024-01-03T00:00:00Z", false)
+        )));
+        when(gitHubService.getRepoPullRequests(client, "octo", "alpha")).thenReturn(CompletableFuture.completedFuture(List.of()));
+        when(gitHubService.getRepoIssues(client, "octo", "broken"))
+                .thenReturn(CompletableFuture.failedFuture(new GitHubApiException(410, "/repos/octo/broken/issues")));
+        when(gitHubService.getRepoPullRequests(client, "octo", "broken")).thenReturn(CompletableFuture.completedFuture(List.of()));
+        List<GitHubRepoActivityDTO> streamed = new ArrayList<>();
+
+        List<GitHubActivityDTO> activity = gitHubActivityService.fetchActivity(client, streamed::add).join();
+
+        assertEquals(List.of("Alpha issue"), activity.stream().map(GitHubActivityDTO::getTitle).toList());
+        GitHubRepoActivityDTO broken = streamed.stream().filter(r -> r.getRepo().equals("octo/broken")).findFirst().orElseThrow();
+        assertTrue(broken.getError().contains("410"));
+        assertTrue(broken.getItems().isEmpty());
+    }
+
+    @Test
+    @DisplayName("fetchActivity() fetches at most MAX_CONCURRENT_REPOS repositories at a time")
+    public void testFetchActivityBoundsConcurrency() {
+        int repoCount = GitHubActivityService.MAX_CONCURRENT_REPOS * 2 + 1;
+        List<Repo> repos = IntStream.range(0, repoCount).mapToObj(i -> repo("repo-" + i)).toList();
+        when(gitHubService.getUserRepos(client)).thenReturn(CompletableFuture.completedFuture(repos));
+        List<CompletableFuture<List<Issue>>> pendingIssues = new ArrayList<>();
+        when(gitHubService.getRepoIssues(eq(client), eq("octo"), anyString())).thenAnswer(invocation -> {
+            CompletableFuture<List<Issue>> issues = new CompletableFuture<>();
+            pendingIssues.add(issues);
+            return issues;
+        });
+        when(gitHubService.getRepoPullRequests(eq(client), eq("octo"), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(List.of()));
+
+        CompletableFuture<List<GitHubActivityDTO>> activity = gitHubActivityService.fetchActivity(client, repoActivity -> {});
+
+        assertEquals(GitHubActivityService.MAX_CONCURRENT_REPOS, pendingIssues.size());
+        // Completing a repository starts the next one of its lane
+        pendingIssues.get(0).complete(List.of(issue("Issue", "2024-01-01T00:00:00Z", false)));
+        assertEquals(GitHubActivityService.MAX_CONCURRENT_REPOS + 1, pendingIssues.size());
+
+        while (!activity.isDone()) {
+            new ArrayList<>(pendingIssues).forEach(issues -> issues.complete(List.of()));
+        }
+        assertEquals(repoCount, pendingIssues.size());
+        assertEquals(1, activity.join().size());
+    }
+
+    @Test
+    @DisplayName("Cancelling fetchActivity() cancels the requests in flight and starts no further repositories")
+    public void testFetchActivityCancelled() {
+        int repoCount = GitHubActivityService.MAX_CONCURRENT_REPOS * 2;
+        List<Repo> repos = IntStream.range(0, repoCount).mapToObj(i -> repo("repo-" + i)).toList();
+        when(gitHubService.getUserRepos(client)).thenReturn(CompletableFuture.completedFuture(repos));
+        List<CompletableFuture<List<Issue>>> pendingIssues = new ArrayList<>();
+        when(gitHubService.getRepoIssues(eq(client), eq("octo"), anyString())).thenAnswer(invocation -> {
+            CompletableFuture<List<Issue>> issues = new CompletableFuture<>();
+            pendingIssues.add(issues);
+            return issues;
+        });
+        when(gitHubService.getRepoPullRequests(eq(client), eq("octo"), anyString()))
+                .thenAnswer(invocation -> new CompletableFuture<List<PullRequest>>());
+        List<GitHubRepoActivityDTO> streamed = new ArrayList<>();
+
+        CompletableFuture<List<GitHubActivityDTO>> activity = gitHubActivityService.fetchActivity(client, streamed::add);
+        activity.cancel(true);
+
+        assertEquals(GitHubActivityService.MAX_CONCURRENT_REPOS, pendingIssues.size());
+        assertTrue(pendingIssues.stream().allMatch(CompletableFuture::isCancelled));
+        assertTrue(streamed.isEmpty());
+    }
+
+    @Test
+    @DisplayName("The activity stream stays open long enough for every lane to fetch its share of the most repositories")
+    public void testEmitterTimeoutCoversLaneWorkload() {
+        int reposPerLane = (GitHubService.MAX_ITEMS + GitHubActivityService.MAX_CONCURRENT_REPOS - 1)
+                           / GitHubActivityService.MAX_CONCURRENT_REPOS;
+
+        assertTrue(GitHubActivityService.EMITTER_TIMEOUT_MILLIS
+                   >= GitHubActivityService.REPO_TIMEOUT.multipliedBy(reposPerLane).toMillis());
+    }
+
+    private Repo repo(String name) {
+        Repo.Owner owner = new Repo.Owner();
+        owner.setLogin("octo");
+        Repo repo = new Repo();
+        repo.setName(name);
+        repo.setOwner(owner);
+        return repo;
+    }
+
+    private Issue issue(String title, String updatedAt, boolean isPullRequest) {
+        Issue issue = new Issue();
+        issue.setTitle(title);
+        issue.setHtml_url("https://github.com/" + title);
+        issue.setUpdated_at(updatedAt);
+        issue.setPull_request(isPullRequest ? Map.of("url", "https://api.github.com/pulls/1") : null);
+        return issue;
+    }
+
+    private PullRequest pull(String title, String updatedAt) {
+        PullRequest pull = new PullRequest();
+        pull.setTitle(title);
+        pull.setHtml_url("https://github.com/" + title);
+        pull.setUpdated_at(updatedAt);
+        return pull;
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.Todo_list.service.github;
+
+import com.example.Todo_list.entity.github.Repo;
+import com.example.Todo_list.exception.GitHubApiException;
+import com.example.Todo_list.exception.GitHubRateLimitException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GitHubGatewayTests {
+
+    private HttpServer server;
+    private GitHubGateway gitHubGateway;
+    private String baseUrl;
+
+    /** Requests received by the stub server, as "path?query If-None-Match". */
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+
+    /** Rate limit headers the stub server adds to every response. */
+    private final Map<String, String> rateLimitHeaders = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        server.createContext("/user/repos", this::handleRepos);
+        server.createContext("/error", exchange -> respond(exchange, 500, "[]", Map.of()));
+        server.start();
+
+        ObjectMapper objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        gitHubGateway = new GitHubGateway(baseUrl, objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("fetchAll() follows Link headers and stops once enough items have been fetched")
+    void testFetchAllFollowsLinks() {
+        List<Repo> repos = gitHubGateway.fetchAll("token", "/user/repos", Repo.class, 10).join();
+
+        assertEquals(List.of("repo-1", "repo-2", "repo-3"), repos.stream().map(Repo::getName).toList());
+        assertEquals(List.of("/user/repos?per_page=100 null", "/user/repos?per_page=100&page=2 null"), requests);
+
+        List<Repo> firstTwo = gitHubGateway.fetchAll("other", "/user/repos", Repo.class, 2).join();
+
+        // The second page is never requested when the first one already holds enough items
+        assertEquals(List.of("repo-1", "repo-2"), firstTwo.stream().map(Repo::getName).toList());
+        assertEquals(3, requests.size());
+    }
+
+    @Test
+    @DisplayName("fetchPage() revalidates cached pages with If-None-Match, separately for each token")
+    void testFetchPageRevalidatesWithETag() {
+        String url = baseUrl + "/user/repos?per_page=100";
+
+        gitHubGateway.fetchPage("token", url, Repo.class).join();
+        GitHubGateway.GitHubPage<Repo> revalidated = gitHubGateway.fetchPage("token", url, Repo.class).join();
+        gitHubGateway.fetchPage("other", url, Repo.class).join();
+
+        assertEquals(List.of("repo-1", "repo-2"), revalidated.items().stream().map(Repo::getName).toList());
+        assertEquals(baseUrl + "/user/repos?per_page=100&page=2", revalidated.nextUrl());
+        assertEquals(List.of(
+                "/user/repos?per_page=100 null",
+                "/user/repos?per_page=100 \"page-1\"",
+                "/user/repos?per_page=100 null"
+        ), requests);
+    }
+
+    @Test
+    @DisplayName("fetchPage() stops calling GitHub once the rate limit budget of a token is used up")
+    void testFetchPageEnforcesRateLimitBudget() {
+        String firstPage = baseUrl + "/user/repos?per_page=100";
+        String secondPage = baseUrl + "/user/repos?per_page=100&page=2";
+        rateLimitHeaders.put("X-RateLimit-Remaining", String.valueOf(GitHubGateway.RATE_LIMIT_RESERVE));
+        rateLimitHeaders.put("X-RateLimit-Reset", String.valueOf(Instant.now().plusSeconds(3600).getEpochSecond()));
+
+        gitHubGateway.fetchPage("token", firstPage, Repo.class).join();
+
+        // Cached pages are still served, everything else fails without a request
+        assertEquals(2, gitHubGateway.fetchPage("token", firstPage, Repo.class).join().items().size());
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> gitHubGateway.fetchPage("token", secondPage, Repo.class).join());
+        assertInstanceOf(GitHubRateLimitException.class, exception.getCause());
+        assertEquals(1, requests.size());
+
+        // Other tokens have their own budget
+        gitHubGateway.fetchPage("other", secondPage, Repo.class).join();
+        assertEquals(2, requests.size());
+    }
+
+    @Test
+    @DisplayName("fetchPage() fails with a GitHubApiException on unexpected responses")
+    void testFetchPageUnexpectedStatus() {
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> gitHubGateway.fetchPage("token", baseUrl + "/error", Repo.class).join());
+
+        assertInstanceOf(GitHubApiException.class, exception.getCause());
+    }
+
+    private void handleRepos(HttpExchange exchange) throws IOException {
+        String query = exchange.getRequestURI().getQuery();
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        requests.add(exchange.getRequestURI().getPath() + "?" + query + " " + ifNoneMatch);
+
+        boolean secondPage = query.contains("page=2");
+        String etag = secondPage ? "\"page-2\"" : "\"page-1\"";
+        if (etag.equals(ifNoneMatch)) {
+            respond(exchange, 304, null, Map.of("ETag", etag));
+        } else if (secondPage) {
+            respond(exchange, 200, "[{\"name\": \"repo-3\"}]", Map.of("ETag", etag));
+        } else {
+            String next = "<" + baseUrl + "/user/repos?per_page=100&page=2>; rel=\"next\", <" + baseUrl
+                    + "/user/repos?per_page=100&page=2>; rel=\"last\"";
+            respond(exchange, 200, "[{\"name\": \"repo-1\", \"private\": true}, {\"name\": \"repo-2\"}]",
+                    Map.of("ETag", etag, "Link", next));
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, String body, Map<String, String> headers) throws IOException {
+        headers.forEach((name, value) -> exchange.getResponseHeaders().add(name, value));
+        rateLimitHeaders.forEach((name, value) -> exchange.getResponseHeaders().add(name, value));
+        byte[] bytes = body == null ? new byte[0] : body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, body == null ? -1 : bytes.length);
+        if (body != null) {
+            exchange.getResponseBody().write(bytes);
+        }
+        exchange.close();
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.Todo_list.service.github;
+
+import com.example.Todo_list.entity.GitHubIssueSync;
+import com.example.Todo_list.entity.Task;
+import com.example.Todo_list.entity.github.Issue;
+import com.example.Todo_list.repository.GitHubIssueSyncRepository;
+import com.example.Todo_list.repository.TaskRepository;
+import com.example.Todo_list.service.impl.StateServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest
+@Import({GitHubIssueImporter.class, StateServiceImpl.class, GitHubIssueImporterTests.SynchronousExecutor.class})
+@ActiveProfiles("test")
+public class GitHubIssueImporterTests {
+
+    @Autowired
+    private GitHubIssueImporter gitHubIssueImporter;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private GitHubIssueSyncRepository gitHubIssueSyncRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private GitHubService gitHubService;
+
+    private final OAuth2AuthorizedClient client = mock(OAuth2AuthorizedClient.class);
+
+    @Test
+    @DisplayName("importIssues() creates a task for every issue, skips pull requests and remembers the latest imported update")
+    void testImportIssuesFirstSync() {
+        when(gitHubService.getRepoIssuesUpdatedSince(client, "octo", "hello", null, GitHubIssueImporter.MAX_ISSUES_PER_SYNC))
+                .thenReturn(CompletableFuture.completedFuture(List.of(
+                        issue(101L, "Open issue", "open", "2024-01-01T10:00:00Z", false),
+                        issue(102L, "Closed issue", "closed", "2024-01-02T10:00:00Z", false),
+                        issue(103L, "A pull request", "open", "2024-01-03T10:00:00Z", true)
+                )));
+
+        assertEquals(2, gitHubIssueImporter.importIssues(client, 2L, "octo", "hello").join());
+        entityManager.clear();
+
+        assertEquals("New", importedTask(2L, 101L).getState().getName());
+        assertEquals("Completed", importedTask(2L, 102L).getState().getName());
+        assertEquals(0, count("SELECT COUNT(*) FROM tasks WHERE github_issue_id = 103"));
+        GitHubIssueSync sync = gitHubIssueSyncRepository.findByTodoIdAndRepository(2L, "octo/hello").orElseThrow();
+        assertEquals(ZonedDateTime.parse("2024-01-02T10:00:00Z").toInstant(), sync.getLastUpdatedAt().toInstant());
+    }
+
+    @Test
+    @DisplayName("importIssues() only fetches issues updated since the last sync and updates the tasks imported before")
+    void testImportIssuesIncrementalSync() {
+        when(gitHubService.getRepoIssuesUpdatedSince(client, "octo", "hello", null, GitHubIssueImporter.MAX_ISSUES_PER_SYNC))
+                .thenReturn(CompletableFuture.completedFuture(List.of(
+                        issue(101L, "Open issue", "open", "2024-01-01T10:00:00Z", false),
+                        issue(102L, "Closed issue", "closed", "2024-01-02T10:00:00Z", false)
+                )));
+        gitHubIssueImporter.importIssues(client, 2L, "octo", "hello").join();
+        // The first task was moved along in the todo, the second one was completed
+        jdbcTemplate.update("UPDATE tasks SET state_id = (SELECT id FROM states WHERE name = 'In Progress') WHERE github_issue_id = 101");
+
+        when(gitHubService.getRepoIssuesUpdatedSince(eq(client), eq("octo"), eq("hello"), notNull(), anyInt()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(
+                        issue(101L, "Open issue, renamed", "open", "2024-01-04T10:00:00Z", false),
+                        issue(102L, "Closed issue", "open", "2024-01-05T10:00:00Z", false),
+                        issue(104L, "New issue", "open", "2024-01-06T10:00:00Z", false)
+                )));
+
+        assertEquals(3, gitHubIssueImporter.importIssues(client, 2L, "octo", "hello").join());
+        entityManager.clear();
+
+        verify(gitHubService).getRepoIssuesUpdatedSince(eq(client), eq("octo"), eq("hello"),
+                argThat(since -> since != null && since.toInstant().equals(ZonedDateTime.parse("2024-01-02T10:00:00Z").toInstant())), anyInt());
+        Task renamed = importedTask(2L, 101L);
+        assertEquals("Open issue, renamed", renamed.getName());
+        assertEquals("In Progress", renamed.getState().getName());
+        assertEquals("New", importedTask(2L, 102L).getState().getName());
+        assertEquals("New", importedTask(2L, 104L).getState().getName());
+        assertEquals(3, count("SELECT COUNT(*) FROM tasks WHERE todo_id = 2 AND github_issue_id IS NOT NULL"));
+    }
+
+    @Test
+    @DisplayName("importIssues() leaves the todo and the sync untouched when no issue changed")
+    void testImportIssuesNothingChanged() {
+        when(gitHubService.getRepoIssuesUpdatedSince(any(), anyString(), anyString(), any(), anyInt()))
+                .thenReturn(CompletableFuture.completedFuture(List.of()));
+
+        assertEquals(0, gitHubIssueImporter.importIssues(client, 2L, "octo", "hello").join());
+        assertTrue(gitHubIssueSyncRepository.findByTodoIdAndRepository(2L, "octo/hello").isEmpty());
+    }
+
+    @Test
+    @DisplayName("importIssues() does not advance the sync past pull requests it did not import")
+    void testImportIssuesOnlyPullRequests() {
+        when(gitHubService.getRepoIssuesUpdatedSince(any(), anyString(), anyString(), any(), anyInt()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(
+                        issue(103L, "A pull request", "open", "2024-01-03T10:00:00Z", true)
+                )));
+
+        assertEquals(0, gitHubIssueImporter.importIssues(client, 2L, "octo", "hello").join());
+        assertTrue(gitHubIssueSyncRepository.findByTodoIdAndRepository(2L, "octo/hello").isEmpty());
+        assertEquals(0, count("SELECT COUNT(*) FROM tasks WHERE github_issue_id IS NOT NULL"));
+    }
+
+    @Test
+    @DisplayName("importIssues() writes an issue listed on two pages once, and maps short titles and empty bodies to valid tasks")
+    void testImportIssuesDuplicatesAndInvalidText() {
+        Issue untitled = issue(105L, "Go", "open", "2024-01-01T10:00:00Z", false);
+        untitled.setBody(null);
+        Issue blank = issue(106L, " ", "open", "2024-01-01T11:00:00Z", false);
+        blank.setBody("  ");
+        when(gitHubService.getRepoIssuesUpdatedSince(any(), anyString(), anyString(), any(), anyInt()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(
+                        issue(101L, "Open issue", "open", "2024-01-01T10:00:00Z", false),
+                        untitled,
+                        blank,
+                        issue(101L, "Open issue, closed mid-sync", "closed", "2024-01-03T10:00:00Z", false)
+                )));
+
+        assertEquals(3, gitHubIssueImporter.importIssues(client, 2L, "octo", "hello").join());
+        entityManager.clear();
+
+        Task deduplicated = importedTask(2L, 101L);
+        assertEquals("Open issue, closed mid-sync", deduplicated.getName());
+        assertEquals("Completed", deduplicated.getState().getName());
+        assertEquals(1, count("SELECT COUNT(*) FROM tasks WHERE github_issue_id = 101"));
+        assertEquals("GitHub issue: Go", importedTask(2L, 105L).getName());
+        assertEquals(GitHubIssueImporter.DEFAULT_DESCRIPTION, importedTask(2L, 105L).getDescription());
+        assertEquals("GitHub issue", importedTask(2L, 106L).getName());
+        assertEquals(GitHubIssueImporter.DEFAULT_DESCRIPTION, importedTask(2L, 106L).getDescription());
+    }
+
+    private Task importedTask(Long todoId, Long gitHubIssueId) {
+        return taskRepository.findByTodoId(todoId).stream()
+                             .filter(task -> gitHubIssueId.equals(task.getGitHubIssueId()))
+                             .findFirst()
+                             .orElseThrow();
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    private Issue issue(Long id, String title, String state, String updatedAt, boolean isPullRequest) {
+        Issue issue = new Issue();
+        issue.setId(id);
+        issue.setTitle(title);
+        issue.setBody("Body of " + title);
+        issue.setState(state);
+        issue.setUpdated_at(updatedAt);
+        issue.setPull_request(isPullRequest ? Map.of("url", "https://api.github.com/pulls/" + id) : null);
+        return issue;
+    }
+
+    /**
+     * Runs the write step of an import on the test thread, inside the transaction of the test.
+     */
+    @TestConfiguration
+    static class SynchronousExecutor {
+
+        @Bean
+        Executor applicationTaskExecutor() {
+            return new SyncTaskExecutor();
+        }
+    }
+}
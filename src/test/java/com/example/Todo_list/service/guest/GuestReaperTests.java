@@ -0,0 +1,108 @@
+package com.example.Todo_list.service.guest;
+
+import com.example.Todo_list.entity.User;
+import com.example.Todo_list.repository.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({GuestReaper.class, GuestReaperTests.MetricsConfig.class})
+public class GuestReaperTests {
+
+    @Autowired
+    private GuestReaper guestReaper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry.clear();
+    }
+
+    @Test
+    @DisplayName("deleteGuestsCreatedBefore() deletes expired guests with their todos, tasks, comments, notifications and collaborations")
+    void testDeleteGuestsCreatedBefore() {
+        // User 3 owns ToDos 7-9; make them a guest who collaborates on ToDo 1, is assigned to task 1 and commented on it
+        User guest = userRepository.findById(3L).orElseThrow();
+        guest.setIsGuest(true);
+        userRepository.saveAndFlush(guest);
+        jdbcTemplate.update("INSERT INTO todos_collaborators (todo_id, collaborator_id) VALUES (1, 3)");
+        jdbcTemplate.update("INSERT INTO tasks_collaborators (task_id, collaborator_id) VALUES (1, 3)");
+        jdbcTemplate.update("INSERT INTO comments (comment, user_id, task_id, created_at, is_edited) VALUES ('Bye', 3, 1, NOW(), FALSE)");
+        jdbcTemplate.update("INSERT INTO notifications (title, message, user_id, created_at) VALUES ('Hi', 'Hi', 3, NOW())");
+        entityManager.clear();
+        long otherComments = count("SELECT COUNT(*) FROM comments WHERE user_id <> 3");
+
+        int deleted = guestReaper.deleteGuestsCreatedBefore(ZonedDateTime.now().plusMinutes(1));
+
+        assertEquals(1, deleted);
+        assertEquals(0, count("SELECT COUNT(*) FROM users WHERE id = 3"));
+        assertEquals(0, count("SELECT COUNT(*) FROM todos WHERE owner_id = 3"));
+        assertEquals(0, count("SELECT COUNT(*) FROM tasks WHERE todo_id IN (7, 8, 9)"));
+        assertEquals(0, count("SELECT COUNT(*) FROM todos_collaborators WHERE collaborator_id = 3"));
+        assertEquals(0, count("SELECT COUNT(*) FROM tasks_collaborators WHERE collaborator_id = 3"));
+        assertEquals(0, count("SELECT COUNT(*) FROM comments WHERE user_id = 3"));
+        assertEquals(0, count("SELECT COUNT(*) FROM notifications WHERE user_id = 3"));
+
+        // Other users and their data are untouched
+        assertEquals(1, count("SELECT COUNT(*) FROM users WHERE id = 1"));
+        assertEquals(3, count("SELECT COUNT(*) FROM todos WHERE owner_id = 1"));
+        assertEquals(2, count("SELECT COUNT(*) FROM todos_collaborators WHERE todo_id = 1"));
+        assertEquals(otherComments, count("SELECT COUNT(*) FROM comments"));
+
+        assertEquals(1.0, meterRegistry.counter("guest.reaper.deleted", "table", "users").count());
+        assertEquals(3.0, meterRegistry.counter("guest.reaper.deleted", "table", "todos").count());
+        assertEquals(1L, meterRegistry.timer("guest.reaper.chunk").count());
+        // The scheduled reaper may also have run against the shared registry
+        assertTrue(meterRegistry.timer("guest.reaper.run").count() >= 1);
+    }
+
+    @Test
+    @DisplayName("deleteGuestsCreatedBefore() keeps guests that have not expired and users that are not guests")
+    void testDeleteGuestsCreatedBeforeNothingExpired() {
+        User guest = userRepository.findById(3L).orElseThrow();
+        guest.setIsGuest(true);
+        userRepository.saveAndFlush(guest);
+
+        assertEquals(0, guestReaper.deleteGuestsCreatedBefore(ZonedDateTime.now().minus(GuestReaper.GUEST_LIFETIME)));
+        assertEquals(4, count("SELECT COUNT(*) FROM users"));
+        assertEquals(0L, meterRegistry.timer("guest.reaper.chunk").count());
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
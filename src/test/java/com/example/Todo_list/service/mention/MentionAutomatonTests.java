@@ -0,0 +1,68 @@
+package com.example.Todo_list.service.mention;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MentionAutomatonTests {
+
+    @Test
+    @DisplayName("findMentionedFirstNames() finds every mentioned first name in order of first mention")
+    public void testFindMentionedFirstNames() {
+        MentionAutomaton automaton = new MentionAutomaton(List.of("John", "Jane", "Bob"));
+
+        assertEquals(List.of("Jane", "John"), List.copyOf(automaton.findMentionedFirstNames("Thanks @Jane, please ask @John and @Jane")));
+        assertTrue(automaton.findMentionedFirstNames("Thanks John, no mention here").isEmpty());
+        assertTrue(automaton.findMentionedFirstNames("").isEmpty());
+    }
+
+    @Test
+    @DisplayName("findMentionedFirstNames() matches names that are prefixes or suffixes of each other like String.contains()")
+    public void testFindOverlappingMentions() {
+        MentionAutomaton automaton = new MentionAutomaton(List.of("Al", "Alice", "ce", "Li"));
+
+        assertEquals(Set.of("Al", "Alice"), automaton.findMentionedFirstNames("Hi @Alice"));
+        assertEquals(Set.of("Al"), automaton.findMentionedFirstNames("Hi @Alfred"));
+        assertEquals(Set.of("Li"), automaton.findMentionedFirstNames("Hi @@Li"));
+        assertTrue(automaton.findMentionedFirstNames("Hi Alice@").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Empty first names are ignored")
+    public void testEmptyFirstNames() {
+        MentionAutomaton automaton = new MentionAutomaton(Arrays.asList("Guest", "", null));
+
+        assertEquals(Set.of("Guest"), automaton.findMentionedFirstNames("@Guest @ @"));
+    }
+
+    @Test
+    @DisplayName("addFirstName() and removeFirstName() only add and prune the states of the changed name")
+    public void testAddAndRemoveFirstName() {
+        MentionAutomaton automaton = new MentionAutomaton(List.of("Al", "Alice"));
+        int size = automaton.size();
+
+        automaton.addFirstName("Alina");
+        assertFalse(automaton.isLinked());
+        assertThrows(IllegalStateException.class, () -> automaton.findMentionedFirstNames("@Alina"));
+        automaton.link();
+        assertEquals(size + 2, automaton.size());
+        assertEquals(Set.of("Al", "Alina"), automaton.findMentionedFirstNames("Hi @Alina"));
+
+        automaton.removeFirstName("Alina");
+        automaton.removeFirstName("Alice");
+        automaton.removeFirstName("Nobody");
+        automaton.link();
+        assertEquals(size - 3, automaton.size());
+        assertEquals(Set.of("Al"), automaton.findMentionedFirstNames("Hi @Alice and @Alina"));
+
+        automaton.addFirstName("Bob");
+        automaton.link();
+        assertEquals(size, automaton.size());
+        assertEquals(Set.of("Bob", "Al"), automaton.findMentionedFirstNames("@Bob and @Al"));
+    }
+}
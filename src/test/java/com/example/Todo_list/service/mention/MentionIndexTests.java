@@ -0,0 +1,93 @@
+package com.example.Todo_list.service.mention;
+
+import com.example.Todo_list.event.UserDeletedEvent;
+import com.example.Todo_list.event.UserSavedEvent;
+import com.example.Todo_list.repository.UserRepository;
+import com.example.Todo_list.repository.projection.UserSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MentionIndexTests {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private MentionIndex mentionIndex;
+
+    @Test
+    @DisplayName("findMentionedUserIds() loads the first names once and does not query texts without mentions")
+    public void testLoadedOnce() {
+        when(userRepository.findAllSummaries()).thenReturn(List.of(summary(1L, "John"), summary(2L, "Jane")));
+
+        assertTrue(mentionIndex.findMentionedUserIds("No mentions").isEmpty());
+        verify(userRepository, never()).findAllSummaries();
+
+        assertEquals(Set.of(1L), mentionIndex.findMentionedUserIds("Hi @John"));
+        assertEquals(Set.of(2L), mentionIndex.findMentionedUserIds("Hi @Jane"));
+        verify(userRepository, times(1)).findAllSummaries();
+    }
+
+    @Test
+    @DisplayName("Saved and deleted users are reflected in the index without reloading all users")
+    public void testIncrementalUpdates() {
+        when(userRepository.findAllSummaries()).thenReturn(List.of(summary(1L, "John")));
+        assertEquals(Set.of(1L), mentionIndex.findMentionedUserIds("Hi @John"));
+
+        mentionIndex.onUserSaved(new UserSavedEvent(2L, "Jane"));
+        mentionIndex.onUserSaved(new UserSavedEvent(1L, "Johnny"));
+        assertEquals(Set.of(1L, 2L), mentionIndex.findMentionedUserIds("Hi @Johnny and @Jane"));
+        assertTrue(mentionIndex.findMentionedUserIds("Hi @John").isEmpty());
+
+        mentionIndex.onUserDeleted(new UserDeletedEvent(2L));
+        assertTrue(mentionIndex.findMentionedUserIds("Hi @Jane").isEmpty());
+
+        verify(userRepository, times(1)).findAllSummaries();
+    }
+
+    @Test
+    @DisplayName("Users sharing a first name are all mentioned until the last of them is deleted")
+    public void testSharedFirstNames() {
+        when(userRepository.findAllSummaries()).thenReturn(List.of(summary(1L, "Guest"), summary(2L, "Guest")));
+        assertEquals(Set.of(1L, 2L), mentionIndex.findMentionedUserIds("Hi @Guest"));
+
+        mentionIndex.onUserSaved(new UserSavedEvent(3L, "Guest"));
+        mentionIndex.onUserDeleted(new UserDeletedEvent(1L));
+        assertEquals(Set.of(2L, 3L), mentionIndex.findMentionedUserIds("Hi @Guest"));
+
+        mentionIndex.onUserSaved(new UserSavedEvent(2L, "Gus"));
+        mentionIndex.onUserDeleted(new UserDeletedEvent(3L));
+        assertTrue(mentionIndex.findMentionedUserIds("Hi @Guest").isEmpty());
+        assertEquals(Set.of(2L), mentionIndex.findMentionedUserIds("Hi @Gus"));
+    }
+
+    @Test
+    @DisplayName("Events received before the index is loaded are covered by the initial load")
+    public void testEventsBeforeLoad() {
+        mentionIndex.onUserSaved(new UserSavedEvent(2L, "Jane"));
+        mentionIndex.onUserDeleted(new UserDeletedEvent(1L));
+        when(userRepository.findAllSummaries()).thenReturn(List.of(summary(2L, "Jane")));
+
+        assertEquals(Set.of(2L), mentionIndex.findMentionedUserIds("Hi @Jane"));
+    }
+
+    private static UserSummary summary(Long id, String firstName) {
+        return new UserSummary() {
+            public Long getId() { return id; }
+            public String getFirstName() { return firstName; }
+            public String getLastName() { return "Doe"; }
+            public String getEmail() { return firstName + "@mail.com"; }
+        };
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.Todo_list.service.notification;
+
+import com.example.Todo_list.dto.NotificationDTO;
+import com.example.Todo_list.event.NotificationCreatedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NotificationHubTests {
+
+    private final NotificationHub notificationHub = new NotificationHub();
+
+    @Test
+    @DisplayName("subscribe() registers one emitter per page, so tabs of one session do not replace each other")
+    public void testSubscribe() {
+        SseEmitter first = notificationHub.subscribe(1L);
+        SseEmitter second = notificationHub.subscribe(1L);
+
+        assertNotNull(first);
+        assertNotSame(first, second);
+        assertEquals(2, notificationHub.subscriberCount(1L));
+        assertEquals(0, notificationHub.subscriberCount(2L));
+    }
+
+    @Test
+    @DisplayName("An emitter is only dropped once it fails, leaving the other pages of the user subscribed")
+    public void testFailedEmitterIsDropped() {
+        SseEmitter first = notificationHub.subscribe(1L);
+        notificationHub.subscribe(1L);
+
+        first.completeWithError(new IOException("Broken pipe"));
+        notificationHub.sendHeartbeat();
+
+        assertEquals(1, notificationHub.subscriberCount(1L));
+    }
+
+    @Test
+    @DisplayName("onNotificationCreated() pushes to the subscribed sessions of the user and ignores other users")
+    public void testOnNotificationCreated() {
+        notificationHub.subscribe(1L);
+
+        assertDoesNotThrow(() -> notificationHub.onNotificationCreated(new NotificationCreatedEvent(notification(1L))));
+        assertDoesNotThrow(() -> notificationHub.onNotificationCreated(new NotificationCreatedEvent(notification(2L))));
+        assertEquals(1, notificationHub.subscriberCount(1L));
+    }
+
+    @Test
+    @DisplayName("sendHeartbeat() keeps open emitters registered")
+    public void testSendHeartbeat() {
+        notificationHub.subscribe(1L);
+
+        notificationHub.sendHeartbeat();
+
+        assertEquals(1, notificationHub.subscriberCount(1L));
+    }
+
+    private static NotificationDTO notification(Long userId) {
+        NotificationDTO dto = new NotificationDTO();
+        dto.setId(1L);
+        dto.setTitle("Title");
+        dto.setMessage("Message");
+        dto.setUserId(userId);
+        return dto;
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.Todo_list.service.notification;
+
+import com.example.Todo_list.entity.ScanCheckpoint;
+import com.example.Todo_list.event.TaskDueEvent;
+import com.example.Todo_list.repository.ScanCheckpointRepository;
+import com.example.Todo_list.repository.TaskRepository;
+import com.example.Todo_list.repository.projection.OverdueTaskView;
+import com.example.Todo_list.repository.projection.TaskAssigneeView;
+import com.example.Todo_list.service.NotificationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OverdueTaskScannerTests {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ScanCheckpointRepository scanCheckpointRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @InjectMocks
+    private OverdueTaskScanner overdueTaskScanner;
+
+    @Test
+    @DisplayName("checkDueTasks() does not send notifications if no task became past due since the last scan")
+    public void testCheckDueTasksNothingDue() {
+        ZonedDateTime lastMark = ZonedDateTime.now().minusMinutes(1);
+        when(scanCheckpointRepository.findById(OverdueTaskScanner.CHECKPOINT_NAME))
+                .thenReturn(Optional.of(new ScanCheckpoint(OverdueTaskScanner.CHECKPOINT_NAME, lastMark)));
+        when(taskRepository.findOverdueTasks(any(), eq(lastMark), eq(Long.MAX_VALUE), eq("Completed"), any()))
+                .thenReturn(Collections.emptyList());
+
+        overdueTaskScanner.checkDueTasks();
+
+        verify(taskRepository, never()).findAll();
+        verify(taskRepository, never()).findAssigneesByTaskIds(any());
+        verify(notificationService, never()).sendTaskDueNotification(any(), any(), any());
+        verify(scanCheckpointRepository, times(1)).save(any(ScanCheckpoint.class));
+    }
+
+    @Test
+    @DisplayName("checkDueTasks() sends notifications to users assigned to tasks that became past due")
+    public void testCheckDueTasksAfterDeadline() {
+        OverdueTaskView task = overdueTask(1L, "Task 1", ZonedDateTime.now().minusSeconds(30));
+        when(scanCheckpointRepository.findById(OverdueTaskScanner.CHECKPOINT_NAME)).thenReturn(Optional.empty());
+        when(taskRepository.findOverdueTasks(any(), any(), any(), any(), any())).thenReturn(List.of(task));
+        when(taskRepository.findAssigneesByTaskIds(any())).thenReturn(List.of(assignee(1L, 2L), assignee(1L, 3L)));
+
+        overdueTaskScanner.checkDueTasks();
+
+        verify(notificationService, times(1)).sendTaskDueNotification(2L, 1L, "Task 1");
+        verify(notificationService, times(1)).sendTaskDueNotification(3L, 1L, "Task 1");
+
+        ArgumentCaptor<ScanCheckpoint> checkpoint = ArgumentCaptor.forClass(ScanCheckpoint.class);
+        verify(scanCheckpointRepository).save(checkpoint.capture());
+        assertEquals(OverdueTaskScanner.CHECKPOINT_NAME, checkpoint.getValue().getName());
+        assertFalse(checkpoint.getValue().getHighWaterMark().isBefore(task.getDeadline()));
+    }
+
+    @Test
+    @DisplayName("checkDueTasks() identifies tasks by id, so tasks sharing a name are notified separately")
+    public void testCheckDueTasksSameName() {
+        ZonedDateTime deadline = ZonedDateTime.now().minusSeconds(30);
+        when(scanCheckpointRepository.findById(OverdueTaskScanner.CHECKPOINT_NAME)).thenReturn(Optional.empty());
+        when(taskRepository.findOverdueTasks(any(), any(), any(), any(), any()))
+                .thenReturn(List.of(overdueTask(1L, "Trivial Task", deadline), overdueTask(2L, "Trivial Task", deadline)));
+        when(taskRepository.findAssigneesByTaskIds(any())).thenReturn(List.of(assignee(1L, 2L), assignee(2L, 2L)));
+
+        overdueTaskScanner.checkDueTasks();
+
+        verify(notificationService, times(1)).sendTaskDueNotification(2L, 1L, "Trivial Task");
+        verify(notificationService, times(1)).sendTaskDueNotification(2L, 2L, "Trivial Task");
+    }
+
+    @Test
+    @DisplayName("checkDueTasks() pages through overdue tasks in bounded batches using the last task as the cursor")
+    public void testCheckDueTasksPagesThroughBatches() {
+        ZonedDateTime deadline = ZonedDateTime.now().minusSeconds(30);
+        List<OverdueTaskView> firstBatch = new ArrayList<>();
+        LongStream.rangeClosed(1, OverdueTaskScanner.BATCH_SIZE)
+                  .forEach(id -> firstBatch.add(overdueTask(id, "Task " + id, deadline)));
+        List<OverdueTaskView> secondBatch = List.of(overdueTask(OverdueTaskScanner.BATCH_SIZE + 1L, "Last Task", deadline));
+
+        when(scanCheckpointRepository.findById(OverdueTaskScanner.CHECKPOINT_NAME)).thenReturn(Optional.empty());
+        when(taskRepository.findOverdueTasks(any(), any(), eq(Long.MAX_VALUE), any(), any())).thenReturn(firstBatch);
+        when(taskRepository.findOverdueTasks(any(), eq(deadline), eq((long) OverdueTaskScanner.BATCH_SIZE), any(), any()))
+                .thenReturn(secondBatch);
+        when(taskRepository.findAssigneesByTaskIds(any())).thenReturn(Collections.emptyList());
+
+        overdueTaskScanner.checkDueTasks();
+
+        verify(taskRepository, times(2)).findOverdueTasks(any(), any(), any(), any(), any());
+        verify(taskRepository, times(2)).findAssigneesByTaskIds(any());
+    }
+
+    @Test
+    @DisplayName("onTaskDue() notifies the assignees of a task created with a deadline before the last scan")
+    public void testOnTaskDueCreatedOverdue() {
+        OverdueTaskView task = overdueTask(1L, "Task 1", ZonedDateTime.now().minusDays(1));
+        when(taskRepository.findTaskWithDeadline(1L, OverdueTaskScanner.COMPLETED_STATE)).thenReturn(Optional.of(task));
+        when(taskRepository.findAssigneesByTaskIds(Set.of(1L))).thenReturn(List.of(assignee(1L, 2L)));
+
+        overdueTaskScanner.onTaskDue(new TaskDueEvent(1L));
+
+        verify(notificationService, times(1)).sendTaskDueNotification(2L, 1L, "Task 1");
+        verify(scanCheckpointRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("onTaskDue() does not notify anyone about a task that is completed or not due")
+    public void testOnTaskDueNotDue() {
+        when(taskRepository.findTaskWithDeadline(1L, OverdueTaskScanner.COMPLETED_STATE)).thenReturn(Optional.empty());
+        when(taskRepository.findTaskWithDeadline(2L, OverdueTaskScanner.COMPLETED_STATE))
+                .thenReturn(Optional.of(overdueTask(2L, "Task 2", ZonedDateTime.now().plusDays(1))));
+
+        overdueTaskScanner.onTaskDue(new TaskDueEvent(1L));
+        overdueTaskScanner.onTaskDue(new TaskDueEvent(2L));
+
+        verify(taskRepository, never()).findAssigneesByTaskIds(any());
+        verify(notificationService, never()).sendTaskDueNotification(any(), any(), any());
+    }
+
+    private static OverdueTaskView overdueTask(Long id, String name, ZonedDateTime deadline) {
+        return new OverdueTaskView() {
+            public Long getId() { return id; }
+            public String getName() { return name; }
+            public ZonedDateTime getDeadline() { return deadline; }
+        };
+    }
+
+    private static TaskAssigneeView assignee(Long taskId, Long userId) {
+        return new TaskAssigneeView() {
+            public Long getTaskId() { return taskId; }
+            public Long getUserId() { return userId; }
+        };
+    }
+}
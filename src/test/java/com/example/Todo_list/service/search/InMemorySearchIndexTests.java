@@ -0,0 +1,151 @@
+package com.example.Todo_list.service.search;
+
+import com.example.Todo_list.dto.SearchResultDTO;
+import com.example.Todo_list.entity.Task;
+import com.example.Todo_list.entity.ToDo;
+import com.example.Todo_list.event.TodoContentChangedEvent;
+import com.example.Todo_list.event.UserDeletedEvent;
+import com.example.Todo_list.repository.CommentRepository;
+import com.example.Todo_list.repository.TaskRepository;
+import com.example.Todo_list.repository.ToDoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+public class InMemorySearchIndexTests {
+
+    @Autowired
+    private ToDoRepository toDoRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private InMemorySearchIndex searchIndex;
+
+    @BeforeEach
+    void beforeEach() {
+        searchIndex = new InMemorySearchIndex(toDoRepository, taskRepository, commentRepository);
+    }
+
+    @Test
+    @DisplayName("tokenize() lower cases words, drops stop words and folds plurals")
+    void testTokenize() {
+        assertEquals(List.of("urgent", "task", "priority", "class"),
+                     InMemorySearchIndex.tokenize("The URGENT tasks, of priorities & classes?"));
+        assertEquals(List.of(), InMemorySearchIndex.tokenize(null));
+    }
+
+    @Test
+    @DisplayName("search() ranks titles above descriptions and only finds documents containing every word")
+    void testSearchRanking() {
+        Task trivial = taskRepository.findByTodoId(2L).get(0);
+        trivial.setDescription("Urgent follow-up");
+        taskRepository.saveAndFlush(trivial);
+
+        List<SearchResultDTO> urgent = searchIndex.search("urgent tasks", null, PageRequest.of(0, 20)).getContent();
+
+        // "Urgent Task" in todos 1, 4 and 7, "Urgent Priority Task" in todo 6, then the task mentioning it
+        assertEquals(List.of(1L, 4L, 6L, 7L, 2L), urgent.stream().map(SearchResultDTO::getTodoId).toList());
+        assertTrue(urgent.stream().allMatch(result -> result.getType() == SearchDocumentType.TASK
+                                                      && result.getId().equals(result.getTaskId())));
+        assertTrue(urgent.get(0).getRank() > urgent.get(4).getRank());
+        assertEquals("Urgent Task", urgent.get(0).getTitle());
+
+        List<SearchResultDTO> demo = searchIndex.search("admin demo", null, PageRequest.of(0, 20)).getContent();
+        assertEquals(3, demo.size());
+        assertTrue(demo.stream().allMatch(result -> result.getType() == SearchDocumentType.TODO && result.getTaskId() == null));
+        assertEquals(List.of(1L, 2L, 3L), demo.stream().map(SearchResultDTO::getId).toList());
+
+        assertTrue(searchIndex.search("urgent nonexistent", null, PageRequest.of(0, 20)).isEmpty());
+        assertTrue(searchIndex.search("the of", null, PageRequest.of(0, 20)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("search() only finds documents of the todos a user owns or collaborates on, and pages them")
+    void testSearchAccessAndPaging() {
+        // User 2 owns todos 4-6 and collaborates on todo 1
+        Page<SearchResultDTO> projects = searchIndex.search("project", 2L, PageRequest.of(1, 2));
+        assertEquals(4, projects.getTotalElements());
+        assertEquals(2, projects.getTotalPages());
+        assertEquals(List.of(5L, 6L), projects.getContent().stream().map(SearchResultDTO::getId).toList());
+
+        List<SearchResultDTO> comments = searchIndex.search("sample comment", 2L, PageRequest.of(0, 20)).getContent();
+        assertEquals(1, comments.size());
+        assertEquals(SearchDocumentType.COMMENT, comments.get(0).getType());
+        assertEquals("Trivial Task", comments.get(0).getTitle());
+        assertEquals("Sample Comment", comments.get(0).getText());
+
+        assertTrue(searchIndex.search("sample comment", 3L, PageRequest.of(0, 20)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("onTodoContentChanged() reindexes a changed todo with its tasks, and forgets deleted ones")
+    void testOnTodoContentChanged() {
+        assertTrue(searchIndex.search("roadmap", null, PageRequest.of(0, 20)).isEmpty());
+
+        ToDo todo = toDoRepository.findById(4L).orElseThrow();
+        todo.setTitle("Quarterly Roadmap");
+        toDoRepository.saveAndFlush(todo);
+        Task task = taskRepository.findByTodoId(4L).get(0);
+        task.setDescription("Draft the roadmap");
+        taskRepository.saveAndFlush(task);
+        searchIndex.onTodoContentChanged(new TodoContentChangedEvent(4L));
+
+        List<SearchResultDTO> roadmap = searchIndex.search("roadmaps", null, PageRequest.of(0, 20)).getContent();
+        assertEquals(List.of(SearchDocumentType.TODO, SearchDocumentType.TASK), roadmap.stream().map(SearchResultDTO::getType).toList());
+        assertTrue(searchIndex.search("user project #1", null, PageRequest.of(0, 20)).getContent().stream()
+                              .noneMatch(result -> result.getId().equals(4L) && result.getType() == SearchDocumentType.TODO));
+
+        taskRepository.deleteAll(taskRepository.findByTodoId(4L));
+        toDoRepository.deleteById(4L);
+        toDoRepository.flush();
+        searchIndex.onTodoContentChanged(new TodoContentChangedEvent(4L));
+
+        assertTrue(searchIndex.search("roadmap", null, PageRequest.of(0, 20)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("onUserDeleted() reindexes only the todos the deleted user owned or commented on")
+    void testOnUserDeleted() {
+        // User 2 owns todos 4-6 and comments on todo 1
+        jdbcTemplate.update("INSERT INTO comments (comment, user_id, task_id, created_at, is_edited) " +
+                            "VALUES ('Roadmap review', 2, 1, NOW(), FALSE)");
+        assertEquals(1, searchIndex.search("roadmap review", null, PageRequest.of(0, 20)).getTotalElements());
+        assertEquals(3, searchIndex.search("user project", null, PageRequest.of(0, 20)).getTotalElements());
+
+        // Not announced, so it only shows up if the whole index is reloaded
+        ToDo other = toDoRepository.findById(7L).orElseThrow();
+        other.setTitle("Renamed Project");
+        toDoRepository.saveAndFlush(other);
+
+        jdbcTemplate.update("DELETE FROM comments WHERE user_id = 2");
+        for (long todoId = 4L; todoId <= 6L; todoId++) {
+            taskRepository.deleteAll(taskRepository.findByTodoId(todoId));
+            toDoRepository.deleteById(todoId);
+        }
+        toDoRepository.flush();
+        searchIndex.onUserDeleted(new UserDeletedEvent(2L));
+
+        assertTrue(searchIndex.search("roadmap review", null, PageRequest.of(0, 20)).isEmpty());
+        assertTrue(searchIndex.search("user project", null, PageRequest.of(0, 20)).isEmpty());
+        assertEquals(1, searchIndex.search("sample comment", null, PageRequest.of(0, 20)).getTotalElements());
+        assertEquals(3, searchIndex.search("admin project", null, PageRequest.of(0, 20)).getTotalElements());
+        assertTrue(searchIndex.search("renamed", null, PageRequest.of(0, 20)).isEmpty());
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.Todo_list.service.search;
+
+import com.example.Todo_list.dto.SearchResultDTO;
+import com.example.Todo_list.utils.PageRequests;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SearchServiceTests {
+
+    @Mock
+    private SearchIndex searchIndex;
+
+    @InjectMocks
+    private SearchService searchService;
+
+    @Test
+    @DisplayName("search() returns an empty page for a blank query without searching the index")
+    void testSearchBlankQuery() {
+        Page<SearchResultDTO> results = searchService.search("   ", 1L, false, PageRequest.of(2, 20));
+
+        assertTrue(results.isEmpty());
+        assertEquals(2, results.getNumber());
+        verifyNoInteractions(searchIndex);
+    }
+
+    @Test
+    @DisplayName("search() limits users to their own todos, and lets administrators search all todos")
+    void testSearchAccess() {
+        Page<SearchResultDTO> page = new PageImpl<>(List.of(
+                new SearchResultDTO(SearchDocumentType.TODO, 1L, 1L, null, "Urgent", null, 0.5)
+        ));
+        when(searchIndex.search(eq("urgent"), any(), any())).thenReturn(page);
+
+        assertEquals(page, searchService.search(" urgent ", 2L, false, PageRequest.of(0, 20)));
+        verify(searchIndex).search("urgent", 2L, PageRequest.of(0, 20));
+
+        searchService.search("urgent", 1L, true, PageRequest.of(0, 20));
+        verify(searchIndex).search("urgent", null, PageRequest.of(0, 20));
+    }
+
+    @Test
+    @DisplayName("search() clamps the page size, ignores the sort and cuts long queries")
+    void testSearchClampsPageAndQuery() {
+        when(searchIndex.search(anyString(), any(), any())).thenReturn(Page.empty());
+
+        searchService.search("urgent", 1L, false, PageRequest.of(1, 10_000, Sort.by("title")));
+        verify(searchIndex).search("urgent", 1L, PageRequest.of(1, PageRequests.MAX_PAGE_SIZE));
+
+        searchService.search("x".repeat(1000), 1L, false, PageRequest.of(0, 20));
+        verify(searchIndex).search("x".repeat(SearchService.MAX_QUERY_LENGTH), 1L, PageRequest.of(0, 20));
+    }
+}
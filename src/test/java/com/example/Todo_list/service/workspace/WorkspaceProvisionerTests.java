@@ -0,0 +1,100 @@
+package com.example.Todo_list.service.workspace;
+
+import com.example.Todo_list.entity.*;
+import com.example.Todo_list.repository.*;
+import com.example.Todo_list.service.impl.StateServiceImpl;
+import com.example.Todo_list.utils.PasswordService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({WorkspaceProvisioner.class, StateServiceImpl.class})
+@ActiveProfiles("test")
+public class WorkspaceProvisionerTests {
+
+    @Autowired
+    private WorkspaceProvisioner workspaceProvisioner;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private ToDoRepository toDoRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("provisionGuestWorkspace() inserts the sample todos, tasks, assignment, comment and notifications")
+    void testProvisionGuestWorkspace() {
+        User guest = new User();
+        guest.setFirstName("Guest");
+        guest.setLastName("12345678");
+        guest.setEmail("GUEST_12345678@example.com");
+        guest.setPassword(PasswordService.NO_CREDENTIAL);
+        guest.setRole(roleRepository.findByName("USER").orElseThrow());
+        guest.setIsGuest(true);
+        userRepository.saveAndFlush(guest);
+
+        workspaceProvisioner.provisionGuestWorkspace(guest.getId());
+        entityManager.clear();
+
+        List<ToDo> todos = toDoRepository.findAll().stream()
+                .filter(todo -> todo.getOwner().getId().equals(guest.getId()))
+                .toList();
+        assertEquals(List.of("Sample Project #1", "Sample Project #2", "Sample Project #3"),
+                todos.stream().map(ToDo::getTitle).sorted().toList());
+
+        ToDo first = todos.stream().filter(todo -> todo.getTitle().equals("Sample Project #1")).findFirst().orElseThrow();
+        List<Task> tasks = taskRepository.findAll().stream()
+                .filter(task -> task.getTodo().getId().equals(first.getId()))
+                .toList();
+        assertEquals(5, tasks.size());
+        Task task1 = tasks.stream().filter(task -> task.getName().equals("Sample Task #1")).findFirst().orElseThrow();
+        assertEquals("New", task1.getState().getName());
+        assertEquals(Priority.TRIVIAL, task1.getPriority());
+        assertEquals(List.of(guest.getId()), task1.getAssignedUsers().stream().map(User::getId).toList());
+        assertEquals(List.of("Sample Comment"), task1.getComments().stream().map(Comment::getContent).toList());
+
+        User saved = userRepository.findById(guest.getId()).orElseThrow();
+        assertEquals(2, saved.getNotifications().size());
+        assertTrue(saved.getNotifications().stream().allMatch(n -> n.getKind() == NotificationKind.GENERAL));
+    }
+
+    @Test
+    @DisplayName("provisionMemberWorkspace() inserts the sample workspace with the notifications of registered users")
+    void testProvisionMemberWorkspace() {
+        User user = new User();
+        user.setFirstName("Member");
+        user.setLastName("User");
+        user.setEmail("member@mail.com");
+        user.setPassword(PasswordService.NO_CREDENTIAL);
+        user.setRole(roleRepository.findByName("USER").orElseThrow());
+        userRepository.saveAndFlush(user);
+
+        workspaceProvisioner.provisionMemberWorkspace(user.getId());
+        entityManager.clear();
+
+        assertEquals(3, toDoRepository.findAll().stream()
+                .filter(todo -> todo.getOwner().getId().equals(user.getId()))
+                .count());
+        User saved = userRepository.findById(user.getId()).orElseThrow();
+        assertEquals(WorkspaceProvisioner.MEMBER_NOTIFICATIONS.stream().map(WorkspaceProvisioner.SampleNotification::message).sorted().toList(),
+                saved.getNotifications().stream().map(Notification::getMessage).sorted().toList());
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.Todo_list.utils;
+
+import com.example.Todo_list.exception.PasswordHashingBusyException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordServiceTests {
+
+    private static final int STRENGTH = 5;
+
+    private final PasswordService passwordService = new PasswordService(STRENGTH, 1, 1, Duration.ofSeconds(5));
+
+    @Test
+    @DisplayName("encode() hashes with the configured BCrypt cost, and the hash matches only its password")
+    void testEncodeAndMatches() {
+        String hash = passwordService.encode("Password1!");
+
+        assertTrue(hash.startsWith("{bcrypt}$2a$05$"));
+        assertTrue(passwordService.matches("Password1!", hash));
+        assertFalse(passwordService.matches("Password2!", hash));
+        assertFalse(passwordService.upgradeEncoding(hash));
+    }
+
+    @Test
+    @DisplayName("Hashes without a prefix or with a lower cost still match and are marked for an upgrade")
+    void testLegacyHashesAreUpgraded() {
+        String unprefixed = new BCryptPasswordEncoder(STRENGTH).encode("Password1!");
+        String cheaper = "{bcrypt}" + new BCryptPasswordEncoder(STRENGTH - 1).encode("Password1!");
+
+        assertTrue(passwordService.matches("Password1!", unprefixed));
+        assertTrue(passwordService.upgradeEncoding(unprefixed));
+        assertTrue(passwordService.matches("Password1!", cheaper));
+        assertTrue(passwordService.upgradeEncoding(cheaper));
+    }
+
+    @Test
+    @DisplayName("NO_CREDENTIAL never matches and is never upgraded")
+    void testNoCredential() {
+        assertFalse(passwordService.matches(PasswordService.NO_CREDENTIAL, PasswordService.NO_CREDENTIAL));
+        assertFalse(passwordService.matches("Password1!", PasswordService.NO_CREDENTIAL));
+        assertFalse(passwordService.upgradeEncoding(PasswordService.NO_CREDENTIAL));
+    }
+
+    @Test
+    @DisplayName("Hashing waits for a permit, and fails with a PasswordHashingBusyException once too many callers wait")
+    void testBackpressure() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread running = new Thread(() -> passwordService.throttle(() -> {
+            started.countDown();
+            return awaitQuietly(release);
+        }));
+        running.start();
+        started.await();
+        Thread waiting = new Thread(() -> passwordService.encode("Password1!"));
+        waiting.start();
+        // Wait until the second hash is parked waiting for the permit of the first one
+        while (waiting.getState() != Thread.State.TIMED_WAITING) {
+            Thread.onSpinWait();
+        }
+
+        assertThrows(PasswordHashingBusyException.class, () -> passwordService.encode("Password1!"));
+        // Accounts without a password are throttled like any other account
+        assertThrows(PasswordHashingBusyException.class, () -> passwordService.matches("Password1!", PasswordService.NO_CREDENTIAL));
+
+        release.countDown();
+        running.join();
+        waiting.join();
+        assertTrue(passwordService.matches("Password1!", passwordService.encode("Password1!")));
+    }
+
+    @Test
+    @DisplayName("Hashing fails with a PasswordHashingBusyException if no permit becomes free within the maximum wait")
+    void testMaxWait() throws InterruptedException {
+        PasswordService impatient = new PasswordService(STRENGTH, 1, 1, Duration.ofMillis(50));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread running = new Thread(() -> impatient.throttle(() -> {
+            started.countDown();
+            return awaitQuietly(release);
+        }));
+        running.start();
+        started.await();
+
+        assertThrows(PasswordHashingBusyException.class, () -> impatient.encode("Password1!"));
+
+        release.countDown();
+        running.join();
+    }
+
+    @Test
+    @DisplayName("generatePassword() generates a password of the given length satisfying the password constraints")
+    void testGeneratePassword() {
+        String password = passwordService.generatePassword(12);
+
+        assertEquals(12, password.length());
+        assertTrue(password.matches("^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[\\^$?!@#%&]).{8,}$"));
+    }
+
+    private static boolean awaitQuietly(CountDownLatch latch) {
+        try {
+            return latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}